@@ -0,0 +1,73 @@
+package net.ravendb.abstractions.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import net.ravendb.abstractions.closure.Action1;
+
+/**
+ * Future which runs registered continuations once its task completes (successfully, with error or by cancellation).
+ * @param <T>
+ */
+public class CompletionFuture<T> extends FutureTask<T> {
+
+  private final List<Action1<CompletionFuture<T>>> continuations = new ArrayList<>();
+  private boolean completed;
+
+  public CompletionFuture(Callable<T> callable) {
+    super(callable);
+  }
+
+  /**
+   * Registers action to run when task completes. If task is already completed action is run immediately
+   * on calling thread, otherwise it runs on thread which completed the task.
+   * @param continuation
+   */
+  public void whenComplete(Action1<CompletionFuture<T>> continuation) {
+    synchronized (continuations) {
+      if (!completed && !isDone()) {
+        continuations.add(continuation);
+        return;
+      }
+    }
+    continuation.apply(this);
+  }
+
+  /**
+   * Waits for the result. Unlike get() rethrows task exception as is (checked exceptions are wrapped in RuntimeException).
+   */
+  public T join() {
+    try {
+      return get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new RuntimeException(cause);
+    }
+  }
+
+  @Override
+  protected void done() {
+    List<Action1<CompletionFuture<T>>> toRun;
+    synchronized (continuations) {
+      completed = true;
+      toRun = new ArrayList<>(continuations);
+      continuations.clear();
+    }
+    for (Action1<CompletionFuture<T>> continuation : toRun) {
+      continuation.apply(this);
+    }
+  }
+
+}
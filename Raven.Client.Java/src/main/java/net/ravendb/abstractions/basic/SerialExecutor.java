@@ -0,0 +1,93 @@
+package net.ravendb.abstractions.basic;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Executor which runs tasks one at a time, in submission order, on threads of underlying executor.
+ * At most one drain task of this executor is submitted to underlying executor at any time.
+ */
+public class SerialExecutor implements Executor {
+
+  private final Executor executor;
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+  private final Lock lock = new ReentrantLock();
+  private boolean draining;
+
+  private final Runnable drainer = new Runnable() {
+    @Override
+    public void run() {
+      while (true) {
+        Runnable task;
+        lock.lock();
+        try {
+          task = tasks.poll();
+          if (task == null) {
+            draining = false;
+            return;
+          }
+        } finally {
+          lock.unlock();
+        }
+        boolean completed = false;
+        try {
+          task.run();
+          completed = true;
+        } finally {
+          if (!completed) {
+            // task failed: let this thread report it and continue with remaining tasks on another one
+            scheduleDrainer();
+          }
+        }
+      }
+    }
+  };
+
+  public SerialExecutor(Executor executor) {
+    this.executor = executor;
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    lock.lock();
+    try {
+      tasks.add(task);
+      if (draining) {
+        return;
+      }
+      draining = true;
+    } finally {
+      lock.unlock();
+    }
+    try {
+      executor.execute(drainer);
+    } catch (RejectedExecutionException e) {
+      lock.lock();
+      try {
+        draining = false;
+        tasks.remove(task);
+      } finally {
+        lock.unlock();
+      }
+      throw e;
+    }
+  }
+
+  private void scheduleDrainer() {
+    try {
+      executor.execute(drainer);
+    } catch (RejectedExecutionException e) {
+      lock.lock();
+      try {
+        draining = false;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+}
@@ -9,10 +9,14 @@ public class BulkInsertOptions {
   private int batchSize;
   private int writeTimeoutMiliseconds;
   private boolean skipOverwriteIfUnchanged;
+  private int encodingThreads;
+  private int parallelOperations;
 
   public BulkInsertOptions() {
     batchSize = 512;
     writeTimeoutMiliseconds = 15 * 1000;
+    encodingThreads = 1;
+    parallelOperations = 1;
   }
 
   /**
@@ -102,4 +106,46 @@ public class BulkInsertOptions {
     this.writeTimeoutMiliseconds = writeTimeoutMiliseconds;
   }
 
+  /**
+   * Number of threads which encode (BSON) and compress batches before they are written to the server.
+   * With more than one thread batches are prepared in parallel, and written in original order.
+   * Value:
+   * 1 by default (batches are prepared on the thread which writes them)
+   */
+  public int getEncodingThreads() {
+    return encodingThreads;
+  }
+
+  /**
+   * Number of threads which encode (BSON) and compress batches before they are written to the server.
+   * With more than one thread batches are prepared in parallel, and written in original order.
+   * Value:
+   * 1 by default (batches are prepared on the thread which writes them)
+   * @param encodingThreads
+   */
+  public void setEncodingThreads(int encodingThreads) {
+    this.encodingThreads = encodingThreads;
+  }
+
+  /**
+   * Number of bulk insert operations (each using its own connection) opened at once.
+   * Documents are distributed between them by id hash.
+   * Value:
+   * 1 by default
+   */
+  public int getParallelOperations() {
+    return parallelOperations;
+  }
+
+  /**
+   * Number of bulk insert operations (each using its own connection) opened at once.
+   * Documents are distributed between them by id hash.
+   * Value:
+   * 1 by default
+   * @param parallelOperations
+   */
+  public void setParallelOperations(int parallelOperations) {
+    this.parallelOperations = parallelOperations;
+  }
+
 }
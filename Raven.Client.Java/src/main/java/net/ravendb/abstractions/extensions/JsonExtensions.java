@@ -22,6 +22,7 @@ import net.ravendb.abstractions.indexing.SortOptions;
 import net.ravendb.abstractions.json.linq.RavenJArray;
 import net.ravendb.abstractions.json.linq.RavenJObject;
 import net.ravendb.abstractions.json.linq.RavenJToken;
+import net.ravendb.abstractions.json.linq.RavenJTokenReader;
 import net.ravendb.abstractions.json.linq.RavenJValue;
 import net.ravendb.abstractions.util.NetDateFormat;
 import net.ravendb.abstractions.util.ValueTypeUtils;
@@ -224,12 +225,23 @@ public class JsonExtensions {
 
   public static class RavenJTokenDeserializer<T extends RavenJToken> extends StdDeserializer<T> {
 
+    private final Class<T> tokenType;
+
     protected RavenJTokenDeserializer(Class<T> vc) {
       super(vc);
+      this.tokenType = vc;
     }
 
     @Override
     public T deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
+      if (jp instanceof RavenJTokenReader) {
+        RavenJTokenReader reader = (RavenJTokenReader) jp;
+        RavenJToken token = reader.getCurrentNode();
+        if (token != null) {
+          reader.skipChildren();
+          return tokenType.cast(token.cloneToken());
+        }
+      }
       return (T) RavenJToken.load(jp);
     }
   }
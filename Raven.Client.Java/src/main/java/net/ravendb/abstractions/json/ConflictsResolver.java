@@ -237,7 +237,7 @@ public class ConflictsResolver {
 
   private MergeResult generateOutput(Map<String, Object> result, int indent) throws JsonGenerationException, IOException {
 
-    JsonFactory factory = new JsonFactory();
+    JsonFactory factory = RavenJsonTextReader.getInstance();
     StringWriter documentStringWriter = new StringWriter();
     JsonGenerator documentWriter = factory.createJsonGenerator(documentStringWriter);
 
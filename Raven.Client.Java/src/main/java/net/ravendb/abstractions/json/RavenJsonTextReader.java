@@ -1,11 +1,50 @@
 package net.ravendb.abstractions.json;
 
+import java.io.IOException;
+
 import org.codehaus.jackson.JsonFactory;
 import org.codehaus.jackson.JsonParser;
 
 public class RavenJsonTextReader extends JsonFactory {
+
+  /**
+   * Field names which are present in almost every document/response.
+   * Factory learns them up front, so parsers created by shared factory find them in canonical symbol table.
+   */
+  private static final String WELL_KNOWN_FIELD_NAMES = "{\"@metadata\":{\"@id\":null,\"@etag\":null,\"@Last-Modified\":null,"
+    + "\"Last-Modified\":null,\"Raven-Last-Modified\":null,\"Raven-Entity-Name\":null,\"Raven-Java-Class\":null,"
+    + "\"Raven-Clr-Type\":null,\"Non-Authoritative-Information\":null,\"Temp-Index-Score\":null},"
+    + "\"__document_id\":null,\"Results\":null,\"Includes\":null,\"IsStale\":null,\"TotalResults\":null,"
+    + "\"SkippedResults\":null,\"IndexName\":null,\"IndexEtag\":null,\"IndexTimestamp\":null}";
+
+  private static final RavenJsonTextReader INSTANCE = createSharedInstance();
+
   public RavenJsonTextReader() {
     super();
     enable(JsonParser.Feature.ALLOW_SINGLE_QUOTES);
   }
+
+  /**
+   * Returns factory shared by all json.linq parse and write paths.
+   *
+   * Factory is thread-safe. Sharing it keeps canonical field names (symbol tables) between documents,
+   * instead of building them from scratch for each parsed response. Parsers created by shared factory
+   * do not close underlying source - caller owns the stream.
+   */
+  public static RavenJsonTextReader getInstance() {
+    return INSTANCE;
+  }
+
+  private static RavenJsonTextReader createSharedInstance() {
+    RavenJsonTextReader factory = new RavenJsonTextReader();
+    factory.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    try (JsonParser parser = factory.createJsonParser(WELL_KNOWN_FIELD_NAMES)) {
+      while (parser.nextToken() != null) {
+        // only field names are interesting
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to initialize json factory", e);
+    }
+    return factory;
+  }
 }
@@ -9,8 +9,8 @@ import java.util.List;
 
 import net.ravendb.abstractions.exceptions.JsonReaderException;
 import net.ravendb.abstractions.exceptions.JsonWriterException;
+import net.ravendb.abstractions.json.RavenJsonTextReader;
 
-import org.codehaus.jackson.JsonFactory;
 import org.codehaus.jackson.JsonGenerator;
 import org.codehaus.jackson.JsonParser;
 import org.codehaus.jackson.JsonToken;
@@ -156,8 +156,7 @@ public class RavenJArray extends RavenJToken implements Iterable<RavenJToken> {
    * @return A {@link RavenJArray} populated from the string that contains JSON.
    */
   public static RavenJArray parse(String json) {
-    try {
-      JsonParser jsonParser = new JsonFactory().createJsonParser(json);
+    try (JsonParser jsonParser = RavenJsonTextReader.getInstance().createJsonParser(json)) {
       return load(jsonParser);
     } catch (IOException e) {
       throw new JsonReaderException(e.getMessage(), e);
@@ -126,8 +126,7 @@ public class RavenJObject extends RavenJToken implements Iterable<Entry<String,
    * @return A {@link RavenJObject} populated from the string that contains JSON.
    */
   public static RavenJObject parse(String json) {
-    try {
-      JsonParser jsonParser = new RavenJsonTextReader().createJsonParser(json);
+    try (JsonParser jsonParser = RavenJsonTextReader.getInstance().createJsonParser(json)) {
       return load(jsonParser);
     } catch (IOException e) {
       throw new JsonReaderException(e.getMessage(), e);
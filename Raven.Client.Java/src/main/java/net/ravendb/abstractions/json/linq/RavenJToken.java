@@ -10,10 +10,10 @@ import net.ravendb.abstractions.basic.Tuple;
 import net.ravendb.abstractions.data.DocumentsChanges;
 import net.ravendb.abstractions.exceptions.JsonReaderException;
 import net.ravendb.abstractions.exceptions.JsonWriterException;
+import net.ravendb.abstractions.json.RavenJsonTextReader;
 import net.ravendb.client.document.JsonSerializer;
 
 import org.codehaus.jackson.FormatSchema;
-import org.codehaus.jackson.JsonFactory;
 import org.codehaus.jackson.JsonGenerator;
 import org.codehaus.jackson.JsonParser;
 
@@ -73,8 +73,7 @@ public abstract class RavenJToken {
    * @return parsed token
    */
   public static RavenJToken parse(String json) throws JsonReaderException {
-    try {
-      JsonParser jsonParser = new JsonFactory().createJsonParser(json);
+    try (JsonParser jsonParser = RavenJsonTextReader.getInstance().createJsonParser(json)) {
       return load(jsonParser);
     } catch (IOException e) {
       throw new JsonReaderException(e.getMessage(), e);
@@ -87,8 +86,7 @@ public abstract class RavenJToken {
    * @return parsed token
    */
   public static RavenJToken tryLoad(InputStream json) throws JsonReaderException {
-    try {
-      JsonParser jsonParser = new JsonFactory().createJsonParser(json);
+    try (JsonParser jsonParser = RavenJsonTextReader.getInstance().createJsonParser(json)) {
       if (!jsonParser.hasCurrentToken()) {
         if (jsonParser.nextToken() == null) {
           return null;
@@ -146,7 +144,7 @@ public abstract class RavenJToken {
   public String toString() {
     try {
       StringWriter stringWriter = new StringWriter();
-      JsonGenerator jsonGenerator = new JsonFactory().createJsonGenerator(stringWriter);
+      JsonGenerator jsonGenerator = RavenJsonTextReader.getInstance().createJsonGenerator(stringWriter);
       writeTo(jsonGenerator);
       jsonGenerator.close();
       return stringWriter.toString();
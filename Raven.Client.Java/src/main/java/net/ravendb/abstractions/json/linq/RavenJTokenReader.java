@@ -0,0 +1,388 @@
+package net.ravendb.abstractions.json.linq;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+import net.ravendb.abstractions.util.NetDateFormat;
+
+import org.apache.commons.codec.binary.Base64;
+import org.codehaus.jackson.Base64Variant;
+import org.codehaus.jackson.JsonLocation;
+import org.codehaus.jackson.JsonParseException;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonStreamContext;
+import org.codehaus.jackson.JsonToken;
+import org.codehaus.jackson.ObjectCodec;
+import org.codehaus.jackson.impl.JsonParserMinimalBase;
+
+/**
+ * Exposes {@link RavenJToken} tree as {@link JsonParser}, so it can be bound directly to POJO
+ * without writing it to json text and parsing it back. It is the counterpart of {@link RavenJTokenWriter}.
+ *
+ * Tokens are emitted exactly as they would be read from {@link RavenJToken#toString()} output:
+ * dates are formatted as strings, byte arrays are exposed as base64 strings.
+ */
+public class RavenJTokenReader extends JsonParserMinimalBase {
+
+  private final RavenJToken root;
+  private ObjectCodec codec;
+  private Context context;
+  private RavenJToken currentNode;
+  private RavenJToken pendingNode;
+  private boolean hasPendingNode;
+  private boolean started;
+  private boolean closed;
+
+  public RavenJTokenReader(RavenJToken root) {
+    this(root, null);
+  }
+
+  public RavenJTokenReader(RavenJToken root, ObjectCodec codec) {
+    this.root = root;
+    this.codec = codec;
+    this.context = Context.createRoot();
+  }
+
+  /**
+   * Returns token which is positioned at current START_OBJECT, START_ARRAY, END_OBJECT, END_ARRAY or value.
+   */
+  public RavenJToken getCurrentNode() {
+    return currentNode;
+  }
+
+  @Override
+  public ObjectCodec getCodec() {
+    return codec;
+  }
+
+  @Override
+  public void setCodec(ObjectCodec codec) {
+    this.codec = codec;
+  }
+
+  @Override
+  public JsonToken nextToken() throws IOException, JsonParseException {
+    if (closed) {
+      return null;
+    }
+    if (hasPendingNode) {
+      hasPendingNode = false;
+      RavenJToken node = pendingNode;
+      pendingNode = null;
+      return _currToken = startNode(node);
+    }
+    Context ctx = context;
+    if (ctx.inRoot()) {
+      if (started) {
+        currentNode = null;
+        return _currToken = null;
+      }
+      started = true;
+      return _currToken = startNode(root);
+    }
+    if (ctx.inObject()) {
+      if (ctx.properties.hasNext()) {
+        Entry<String, RavenJToken> property = ctx.properties.next();
+        ctx.nextEntry();
+        ctx.currentName = property.getKey();
+        pendingNode = property.getValue();
+        hasPendingNode = true;
+        currentNode = null;
+        return _currToken = JsonToken.FIELD_NAME;
+      }
+      context = ctx.parent;
+      currentNode = ctx.node;
+      return _currToken = JsonToken.END_OBJECT;
+    }
+    if (ctx.items.hasNext()) {
+      ctx.nextEntry();
+      return _currToken = startNode(ctx.items.next());
+    }
+    context = ctx.parent;
+    currentNode = ctx.node;
+    return _currToken = JsonToken.END_ARRAY;
+  }
+
+  private JsonToken startNode(RavenJToken node) {
+    currentNode = node;
+    if (node instanceof RavenJObject) {
+      context = Context.createObject(context, (RavenJObject) node);
+      return JsonToken.START_OBJECT;
+    }
+    if (node instanceof RavenJArray) {
+      context = Context.createArray(context, (RavenJArray) node);
+      return JsonToken.START_ARRAY;
+    }
+    Object value = valueOf(node);
+    if (value == null) {
+      return JsonToken.VALUE_NULL;
+    }
+    switch (node.getType()) {
+      case BOOLEAN:
+        return ((Boolean) value) ? JsonToken.VALUE_TRUE : JsonToken.VALUE_FALSE;
+      case INTEGER:
+        return value instanceof Number ? JsonToken.VALUE_NUMBER_INT : JsonToken.VALUE_STRING;
+      case FLOAT:
+        return value instanceof Number ? JsonToken.VALUE_NUMBER_FLOAT : JsonToken.VALUE_STRING;
+      default:
+        return JsonToken.VALUE_STRING;
+    }
+  }
+
+  private static Object valueOf(RavenJToken node) {
+    if (node == null || node.getType() == JTokenType.NULL) {
+      return null;
+    }
+    return ((RavenJValue) node).getValue();
+  }
+
+  @Override
+  public JsonParser skipChildren() throws IOException, JsonParseException {
+    if (_currToken == JsonToken.START_OBJECT || _currToken == JsonToken.START_ARRAY) {
+      Context ctx = context;
+      context = ctx.parent;
+      currentNode = ctx.node;
+      _currToken = ctx.inObject() ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+    }
+    return this;
+  }
+
+  @Override
+  protected void _handleEOF() throws JsonParseException {
+    _throwInternal();
+  }
+
+  @Override
+  public String getCurrentName() throws IOException, JsonParseException {
+    if (_currToken == JsonToken.START_OBJECT || _currToken == JsonToken.START_ARRAY) {
+      return context.parent.currentName;
+    }
+    return context.currentName;
+  }
+
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    currentNode = null;
+    pendingNode = null;
+    _currToken = null;
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed;
+  }
+
+  @Override
+  public JsonStreamContext getParsingContext() {
+    return context;
+  }
+
+  @Override
+  public JsonLocation getTokenLocation() {
+    return JsonLocation.NA;
+  }
+
+  @Override
+  public JsonLocation getCurrentLocation() {
+    return JsonLocation.NA;
+  }
+
+  @Override
+  public String getText() throws IOException, JsonParseException {
+    if (_currToken == null) {
+      return null;
+    }
+    switch (_currToken) {
+      case FIELD_NAME:
+        return context.currentName;
+      case VALUE_STRING:
+      case VALUE_NUMBER_INT:
+      case VALUE_NUMBER_FLOAT:
+        Object value = valueOf(currentNode);
+        if (value instanceof byte[]) {
+          return Base64.encodeBase64String((byte[]) value);
+        }
+        if (currentNode.getType() == JTokenType.DATE) {
+          return new NetDateFormat().format(value);
+        }
+        return value.toString();
+      default:
+        return _currToken.asString();
+    }
+  }
+
+  @Override
+  public char[] getTextCharacters() throws IOException, JsonParseException {
+    String text = getText();
+    return text == null ? null : text.toCharArray();
+  }
+
+  @Override
+  public boolean hasTextCharacters() {
+    return false;
+  }
+
+  @Override
+  public int getTextLength() throws IOException, JsonParseException {
+    String text = getText();
+    return text == null ? 0 : text.length();
+  }
+
+  @Override
+  public int getTextOffset() throws IOException, JsonParseException {
+    return 0;
+  }
+
+  @Override
+  public byte[] getBinaryValue(Base64Variant b64variant) throws IOException, JsonParseException {
+    Object value = valueOf(currentNode);
+    if (value instanceof byte[]) {
+      return (byte[]) value;
+    }
+    if (_currToken != JsonToken.VALUE_STRING) {
+      throw _constructError("Current token (" + _currToken + ") not VALUE_STRING, can not access as binary", null);
+    }
+    return Base64.decodeBase64(getText());
+  }
+
+  @Override
+  public Object getEmbeddedObject() throws IOException, JsonParseException {
+    return valueOf(currentNode);
+  }
+
+  private Number currentNumber() throws JsonParseException {
+    Object value = valueOf(currentNode);
+    if (!(value instanceof Number) || (_currToken != JsonToken.VALUE_NUMBER_INT && _currToken != JsonToken.VALUE_NUMBER_FLOAT)) {
+      throw _constructError("Current token (" + _currToken + ") not numeric, can not use numeric value accessors", null);
+    }
+    return (Number) value;
+  }
+
+  @Override
+  public Number getNumberValue() throws IOException, JsonParseException {
+    Number number = currentNumber();
+    switch (getNumberType()) {
+      case INT:
+        return number.intValue();
+      case LONG:
+        return number.longValue();
+      case DOUBLE:
+        return number.doubleValue();
+      default:
+        return number;
+    }
+  }
+
+  @Override
+  public NumberType getNumberType() throws IOException, JsonParseException {
+    Number number = currentNumber();
+    if (_currToken == JsonToken.VALUE_NUMBER_FLOAT) {
+      return number instanceof BigDecimal ? NumberType.BIG_DECIMAL : NumberType.DOUBLE;
+    }
+    if (number instanceof BigInteger) {
+      BigInteger bigInteger = (BigInteger) number;
+      if (bigInteger.bitLength() >= 64) {
+        return NumberType.BIG_INTEGER;
+      }
+    }
+    long longValue = number.longValue();
+    return (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) ? NumberType.INT : NumberType.LONG;
+  }
+
+  @Override
+  public int getIntValue() throws IOException, JsonParseException {
+    return currentNumber().intValue();
+  }
+
+  @Override
+  public long getLongValue() throws IOException, JsonParseException {
+    return currentNumber().longValue();
+  }
+
+  @Override
+  public BigInteger getBigIntegerValue() throws IOException, JsonParseException {
+    Number number = currentNumber();
+    if (number instanceof BigInteger) {
+      return (BigInteger) number;
+    }
+    if (number instanceof BigDecimal) {
+      return ((BigDecimal) number).toBigInteger();
+    }
+    if (_currToken == JsonToken.VALUE_NUMBER_FLOAT) {
+      return BigDecimal.valueOf(number.doubleValue()).toBigInteger();
+    }
+    return BigInteger.valueOf(number.longValue());
+  }
+
+  @Override
+  public float getFloatValue() throws IOException, JsonParseException {
+    return currentNumber().floatValue();
+  }
+
+  @Override
+  public double getDoubleValue() throws IOException, JsonParseException {
+    return currentNumber().doubleValue();
+  }
+
+  @Override
+  public BigDecimal getDecimalValue() throws IOException, JsonParseException {
+    Number number = currentNumber();
+    if (number instanceof BigDecimal) {
+      return (BigDecimal) number;
+    }
+    if (number instanceof BigInteger) {
+      return new BigDecimal((BigInteger) number);
+    }
+    return new BigDecimal(number.toString());
+  }
+
+  private static class Context extends JsonStreamContext {
+    private final Context parent;
+    private final RavenJToken node;
+    private Iterator<Entry<String, RavenJToken>> properties;
+    private Iterator<RavenJToken> items;
+    private String currentName;
+
+    private Context(int type, Context parent, RavenJToken node) {
+      this._type = type;
+      this._index = -1;
+      this.parent = parent;
+      this.node = node;
+    }
+
+    public static Context createRoot() {
+      return new Context(TYPE_ROOT, null, null);
+    }
+
+    public static Context createObject(Context parent, RavenJObject node) {
+      Context context = new Context(TYPE_OBJECT, parent, node);
+      context.properties = node.iterator();
+      return context;
+    }
+
+    public static Context createArray(Context parent, RavenJArray node) {
+      Context context = new Context(TYPE_ARRAY, parent, node);
+      context.items = node.iterator();
+      return context;
+    }
+
+    public void nextEntry() {
+      _index++;
+    }
+
+    @Override
+    public Context getParent() {
+      return parent;
+    }
+
+    @Override
+    public String getCurrentName() {
+      return currentName;
+    }
+  }
+
+}
@@ -0,0 +1,86 @@
+package net.ravendb.client;
+
+import java.util.List;
+
+import net.ravendb.abstractions.basic.CleanCloseable;
+import net.ravendb.abstractions.basic.CompletionFuture;
+import net.ravendb.client.indexes.AbstractIndexCreationTask;
+import net.ravendb.client.linq.IRavenQueryable;
+
+/**
+ * Asynchronous counterpart of IDocumentSession. Operations return futures and are offloaded to document store executor,
+ * one at a time and in the order they were called (session is still unit of work for single logical flow).
+ */
+public interface IAsyncDocumentSession extends CleanCloseable {
+
+  /**
+   * Synchronous session used to execute operations.
+   */
+  public IDocumentSession getSyncSession();
+
+  /**
+   * Begins the async load operation.
+   * @param clazz
+   * @param id
+   */
+  public <T> CompletionFuture<T> loadAsync(Class<T> clazz, String id);
+
+  /**
+   * Begins the async multi-load operation.
+   * @param clazz
+   * @param ids
+   */
+  public <T> CompletionFuture<T[]> loadAsync(Class<T> clazz, String... ids);
+
+  /**
+   * Queries the specified index using Linq.
+   * @param clazz The result of the query
+   */
+  public <T> IRavenQueryable<T> query(Class<T> clazz);
+
+  /**
+   * Queries the index specified by indexCreator using Linq.
+   * @param clazz The result of the query
+   * @param indexCreator The type of the index creator
+   */
+  public <T> IRavenQueryable<T> query(Class<T> clazz, Class<? extends AbstractIndexCreationTask> indexCreator);
+
+  /**
+   * Begins execution of query created by this session.
+   * @param query
+   */
+  public <T> CompletionFuture<List<T>> toListAsync(IRavenQueryable<T> query);
+
+  /**
+   * Stores entity in session. Id might be generated on server (HiLo), so operation is asynchronous.
+   * @param entity Entity to store.
+   */
+  public CompletionFuture<Void> storeAsync(Object entity);
+
+  /**
+   * Stores entity in session under the specified id.
+   * @param entity Entity to store.
+   * @param id Id to store this entity under.
+   */
+  public CompletionFuture<Void> storeAsync(Object entity, String id);
+
+  /**
+   * Marks the specified entity for deletion after previously queued operations. The entity will be deleted
+   * when saveChangesAsync is called.
+   * @param entity
+   */
+  public <T> CompletionFuture<Void> delete(T entity);
+
+  /**
+   * Marks the entity with the specified id for deletion after previously queued operations. The entity will be
+   * deleted when saveChangesAsync is called.
+   * @param id
+   */
+  public CompletionFuture<Void> delete(String id);
+
+  /**
+   * Begins the async save changes operation.
+   */
+  public CompletionFuture<Void> saveChangesAsync();
+
+}
@@ -0,0 +1,25 @@
+package net.ravendb.client.changes;
+
+/**
+ * What happens when changes notification arrives and subscriber's dispatch queue is full.
+ */
+public enum ChangesOverflowPolicy {
+
+  /**
+   * Oldest queued notification is dropped.
+   */
+  DROP_OLDEST,
+
+  /**
+   * Changes connection waits until subscriber takes notification from the queue.
+   * Slow subscriber delays all others (and may cause connection to time out).
+   */
+  BLOCK,
+
+  /**
+   * Notification replaces queued notification for the same document (only latest change of document is delivered).
+   * Queue is never full for already queued documents; when it's full oldest notification is dropped.
+   * Notifications which are not about documents are dropped oldest first as well.
+   */
+  COALESCE
+}
@@ -27,6 +27,8 @@ public class DatabaseConnectionState implements IChangesConnectionState {
 
   private List<Action1<ExceptionEventArgs>> onError = new ArrayList<>();
 
+  private List<Action0> onCompleted = new ArrayList<>();
+
 
   public List<Action1<DocumentChangeNotification>> getOnDocumentChangeNotification() {
     return onDocumentChangeNotification;
@@ -52,6 +54,10 @@ public class DatabaseConnectionState implements IChangesConnectionState {
     return onError;
   }
 
+  public List<Action0> getOnCompleted() {
+    return onCompleted;
+  }
+
   public void send(DocumentChangeNotification documentChangeNotification) {
     EventHelper.invoke(onDocumentChangeNotification, documentChangeNotification);
   }
@@ -76,6 +82,12 @@ public class DatabaseConnectionState implements IChangesConnectionState {
     EventHelper.invoke(onError, new ExceptionEventArgs(e));
   }
 
+  public void complete() {
+    for (Action0 action : onCompleted) {
+      action.apply();
+    }
+  }
+
   public DatabaseConnectionState(Action0 onZero) {
     value =0;
     this.onZero = onZero;
@@ -0,0 +1,14 @@
+package net.ravendb.client.changes;
+
+/**
+ * Observer of line stream which accepts lines as UTF-8 bytes, so they don't have to be decoded to String first.
+ */
+public interface ILineObserver extends IObserver<String> {
+  /**
+   * Called with line content. Buffer is reused by the stream, so it can't be accessed after method returns.
+   * @param buffer
+   * @param offset
+   * @param length
+   */
+  public void onNext(byte[] buffer, int offset, int length);
+}
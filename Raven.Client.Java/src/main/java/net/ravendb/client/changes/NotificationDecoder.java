@@ -0,0 +1,100 @@
+package net.ravendb.client.changes;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.codehaus.jackson.JsonNode;
+import org.codehaus.jackson.JsonParseException;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.ObjectReader;
+
+/**
+ * Decodes changes API events ({"Type": ..., "Value": ...}) in single pass: value is bound directly
+ * into notification class registered for given type, using reader prepared once for that type.
+ *
+ * Decoder is thread safe once all types are registered.
+ */
+public class NotificationDecoder {
+
+  private final ObjectMapper mapper;
+  private final Map<String, ObjectReader> readers = new HashMap<>();
+
+  public NotificationDecoder(ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  /**
+   * Registers class which values of events of given type are bound to. Values of other types are skipped.
+   * @param type
+   * @param notificationClass
+   */
+  public NotificationDecoder register(String type, Class<?> notificationClass) {
+    readers.put(type, mapper.reader(notificationClass));
+    return this;
+  }
+
+  public ChangesEvent decode(byte[] buffer, int offset, int length) throws IOException {
+    try (JsonParser parser = mapper.getJsonFactory().createJsonParser(buffer, offset, length)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException("Expected changes event object", parser.getCurrentLocation());
+      }
+      String type = null;
+      Object value = null;
+      JsonNode valueTree = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.getCurrentName();
+        parser.nextToken();
+        if ("Type".equals(fieldName)) {
+          type = parser.getText();
+        } else if ("Value".equals(fieldName) && type != null) {
+          value = readValue(type, parser);
+        } else if ("Value".equals(fieldName)) {
+          // type is not known yet, value has to be bound after whole event is read
+          valueTree = parser.readValueAsTree();
+        } else {
+          parser.skipChildren();
+        }
+      }
+      if (valueTree != null && type != null) {
+        ObjectReader reader = readers.get(type);
+        if (reader != null && !valueTree.isNull()) {
+          value = reader.readValue(valueTree);
+        }
+      }
+      return new ChangesEvent(type, value);
+    }
+  }
+
+  private Object readValue(String type, JsonParser parser) throws IOException {
+    ObjectReader reader = readers.get(type);
+    if (reader == null || parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+      parser.skipChildren();
+      return null;
+    }
+    return reader.readValue(parser);
+  }
+
+  /**
+   * Decoded event: its type and value (null if type isn't registered).
+   */
+  public static class ChangesEvent {
+    private final String type;
+    private final Object value;
+
+    public ChangesEvent(String type, Object value) {
+      this.type = type;
+      this.value = value;
+    }
+
+    public String getType() {
+      return type;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+}
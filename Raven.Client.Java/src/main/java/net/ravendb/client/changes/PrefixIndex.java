@@ -0,0 +1,100 @@
+package net.ravendb.client.changes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Case insensitive set of prefixes (trie), which finds all prefixes of given value in time proportional to value length.
+ *
+ * Lookups don't take locks, so they can run on changes thread while prefixes are added or removed.
+ */
+public class PrefixIndex {
+
+  private final Node root = new Node();
+  private final Lock writeLock = new ReentrantLock();
+
+  public void add(String prefix) {
+    writeLock.lock();
+    try {
+      Node node = root;
+      for (int i = 0; i < prefix.length(); i++) {
+        Character c = Character.toLowerCase(prefix.charAt(i));
+        Node child = node.children.get(c);
+        if (child == null) {
+          child = new Node();
+          node.children.put(c, child);
+        }
+        node = child;
+      }
+      node.terminal = true;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public void remove(String prefix) {
+    writeLock.lock();
+    try {
+      List<Node> path = new ArrayList<>(prefix.length() + 1);
+      Node node = root;
+      path.add(node);
+      for (int i = 0; i < prefix.length(); i++) {
+        node = node.children.get(Character.toLowerCase(prefix.charAt(i)));
+        if (node == null) {
+          return;
+        }
+        path.add(node);
+      }
+      node.terminal = false;
+
+      // prune nodes which don't lead to any prefix
+      for (int i = prefix.length(); i > 0; i--) {
+        Node current = path.get(i);
+        if (current.terminal || !current.children.isEmpty()) {
+          break;
+        }
+        path.get(i - 1).children.remove(Character.toLowerCase(prefix.charAt(i - 1)));
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Returns registered prefixes of given value (in lower case), shortest first.
+   * @param value
+   */
+  public List<String> findPrefixesOf(String value) {
+    List<String> result = Collections.emptyList();
+    Node node = root;
+    for (int i = 0; ; i++) {
+      if (node.terminal) {
+        if (result.isEmpty()) {
+          result = new ArrayList<>(2);
+        }
+        result.add(value.substring(0, i).toLowerCase());
+      }
+      if (i == value.length()) {
+        return result;
+      }
+      node = node.children.get(Character.toLowerCase(value.charAt(i)));
+      if (node == null) {
+        return result;
+      }
+    }
+  }
+
+  public boolean isEmpty() {
+    return !root.terminal && root.children.isEmpty();
+  }
+
+  private static class Node {
+    private final ConcurrentMap<Character, Node> children = new ConcurrentHashMap<>();
+    private volatile boolean terminal;
+  }
+}
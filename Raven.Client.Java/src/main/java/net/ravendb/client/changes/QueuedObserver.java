@@ -0,0 +1,347 @@
+package net.ravendb.client.changes;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import net.ravendb.abstractions.basic.CleanCloseable;
+import net.ravendb.abstractions.closure.Action1;
+import net.ravendb.abstractions.closure.Function1;
+import net.ravendb.abstractions.logging.ILog;
+import net.ravendb.abstractions.logging.LogManager;
+
+/**
+ * Subscription which passes notifications to observer from bounded queue, on dispatcher executor shared by
+ * subscriptions, so slow observer doesn't hold up changes connection (and other subscribers). At most one task
+ * drains the queue of given subscription at any time, so observer is called sequentially, in notification order.
+ * Draining task delivers limited number of notifications and then gives dispatcher thread to other subscriptions,
+ * so slow observers can't starve the others (observer which never returns still holds its thread).
+ *
+ * Closing subscription stops dispatching; notifications still in the queue are discarded.
+ */
+public class QueuedObserver<T> implements IObserver<T>, CleanCloseable {
+
+  private static final ILog logger = LogManager.getCurrentClassLogger();
+
+  /**
+   * Max number of entries delivered by single draining task.
+   */
+  private static final int MAX_ENTRIES_PER_DRAIN = 32;
+
+  private final IObserver<T> observer;
+  private final int capacity;
+  private final ChangesOverflowPolicy overflowPolicy;
+  private final Function1<T, String> coalescingKey;
+  private final Action1<QueuedObserver<T>> onClose;
+  private final Executor dispatcher;
+
+  private final Lock lock = new ReentrantLock();
+  private final Condition notFull = lock.newCondition();
+  private final Deque<Entry<T>> queue = new ArrayDeque<>();
+  private final Map<String, Entry<T>> queuedByKey = new HashMap<>();
+  private int queuedNotifications;
+  private boolean closed;
+  private boolean draining;
+  private final AtomicBoolean unsubscribed = new AtomicBoolean();
+
+  private final AtomicLong delivered = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final AtomicLong coalesced = new AtomicLong();
+  private volatile long lastDeliveryLagNanos;
+
+  private final Runnable drainer = new Runnable() {
+    @Override
+    public void run() {
+      drain();
+    }
+  };
+
+  /**
+   * Creates subscription.
+   * @param observer
+   * @param capacity max number of queued notifications
+   * @param overflowPolicy
+   * @param coalescingKey key used by {@link ChangesOverflowPolicy#COALESCE} (may be null)
+   * @param dispatcher executor which runs queue draining tasks
+   * @param onClose called once subscription is closed
+   */
+  public QueuedObserver(IObserver<T> observer, int capacity, ChangesOverflowPolicy overflowPolicy,
+    Function1<T, String> coalescingKey, Executor dispatcher, Action1<QueuedObserver<T>> onClose) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.observer = observer;
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+    this.coalescingKey = overflowPolicy == ChangesOverflowPolicy.COALESCE ? coalescingKey : null;
+    this.dispatcher = dispatcher;
+    this.onClose = onClose;
+  }
+
+  @Override
+  public void onNext(T value) {
+    String key = coalescingKey != null ? coalescingKey.apply(value) : null;
+    boolean startDraining;
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      if (key != null) {
+        Entry<T> queued = queuedByKey.get(key);
+        if (queued != null) {
+          queued.value = value;
+          coalesced.incrementAndGet();
+          return;
+        }
+      }
+      while (queuedNotifications >= capacity && !closed) {
+        if (overflowPolicy == ChangesOverflowPolicy.BLOCK) {
+          notFull.awaitUninterruptibly();
+        } else {
+          dropOldestNotification();
+        }
+      }
+      if (closed) {
+        return;
+      }
+      Entry<T> entry = new Entry<>(value, null, key, false);
+      queue.addLast(entry);
+      queuedNotifications++;
+      if (key != null) {
+        queuedByKey.put(key, entry);
+      }
+      startDraining = markDraining();
+    } finally {
+      lock.unlock();
+    }
+    if (startDraining) {
+      startDraining();
+    }
+  }
+
+  @Override
+  public void onError(Exception error) {
+    enqueueSignal(new Entry<T>(null, error, null, true));
+  }
+
+  @Override
+  public void onCompleted() {
+    enqueueSignal(new Entry<T>(null, null, null, true));
+  }
+
+  /**
+   * Errors and completion are never dropped and don't count towards capacity.
+   */
+  private void enqueueSignal(Entry<T> entry) {
+    boolean startDraining = false;
+    lock.lock();
+    try {
+      if (!closed) {
+        queue.addLast(entry);
+        startDraining = markDraining();
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (startDraining) {
+      startDraining();
+    }
+  }
+
+  /**
+   * Returns true if caller should submit draining task. Must be called under lock.
+   */
+  private boolean markDraining() {
+    if (draining) {
+      return false;
+    }
+    draining = true;
+    return true;
+  }
+
+  private void startDraining() {
+    try {
+      dispatcher.execute(drainer);
+    } catch (RejectedExecutionException e) {
+      // dispatcher is shut down (changes client was closed), nobody would drain the queue
+      logger.warnException("Changes dispatcher rejected subscription, notifications are discarded", e);
+      discardQueue();
+    }
+  }
+
+  private void dropOldestNotification() {
+    Iterator<Entry<T>> iterator = queue.iterator();
+    while (iterator.hasNext()) {
+      Entry<T> entry = iterator.next();
+      if (!entry.signal) {
+        iterator.remove();
+        forget(entry);
+        dropped.incrementAndGet();
+        return;
+      }
+    }
+  }
+
+  private void forget(Entry<T> entry) {
+    if (entry.signal) {
+      return;
+    }
+    queuedNotifications--;
+    if (entry.key != null) {
+      queuedByKey.remove(entry.key);
+    }
+  }
+
+  private void drain() {
+    for (int i = 0; i < MAX_ENTRIES_PER_DRAIN; i++) {
+      Entry<T> entry;
+      lock.lock();
+      try {
+        entry = closed ? null : queue.pollFirst();
+        if (entry == null) {
+          draining = false;
+          return;
+        }
+        forget(entry);
+        notFull.signal();
+      } finally {
+        lock.unlock();
+      }
+
+      if (!deliver(entry)) {
+        return;
+      }
+    }
+    // queue is not empty yet: continue (still as the only draining task) behind tasks of other subscriptions
+    startDraining();
+  }
+
+  /**
+   * Passes entry to observer. Returns false when nothing more should be delivered.
+   */
+  private boolean deliver(Entry<T> entry) {
+    try {
+      if (!entry.signal) {
+        lastDeliveryLagNanos = System.nanoTime() - entry.enqueuedAt;
+        observer.onNext(entry.value);
+        delivered.incrementAndGet();
+      } else if (entry.error != null) {
+        observer.onError(entry.error);
+      } else {
+        // nothing is delivered after completion
+        discardQueue();
+        observer.onCompleted();
+        return false;
+      }
+    } catch (RuntimeException e) {
+      logger.errorException("Changes observer failed to process notification", e);
+    } catch (Error e) {
+      // don't leave producer waiting for the queue which is never drained
+      logger.errorException("Changes observer failed to process notification, subscription is closed", e);
+      close();
+      throw e;
+    }
+    return true;
+  }
+
+  /**
+   * Number of notifications waiting in the queue.
+   */
+  public int getQueueSize() {
+    lock.lock();
+    try {
+      return queuedNotifications;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * How long (in milliseconds) the oldest queued notification waits for delivery.
+   */
+  public long getLag() {
+    lock.lock();
+    try {
+      for (Entry<T> entry : queue) {
+        if (!entry.signal) {
+          return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.enqueuedAt);
+        }
+      }
+      return 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * How long (in milliseconds) the last delivered notification waited in the queue.
+   */
+  public long getLastDeliveryLag() {
+    return TimeUnit.NANOSECONDS.toMillis(lastDeliveryLagNanos);
+  }
+
+  public long getDeliveredCount() {
+    return delivered.get();
+  }
+
+  public long getDroppedCount() {
+    return dropped.get();
+  }
+
+  /**
+   * Number of notifications which replaced already queued notification for the same key.
+   */
+  public long getCoalescedCount() {
+    return coalesced.get();
+  }
+
+  @Override
+  public void close() {
+    discardQueue();
+    if (unsubscribed.compareAndSet(false, true)) {
+      onClose.apply(this);
+    }
+  }
+
+  /**
+   * Stops accepting and dispatching notifications.
+   */
+  private void discardQueue() {
+    lock.lock();
+    try {
+      closed = true;
+      queue.clear();
+      queuedByKey.clear();
+      queuedNotifications = 0;
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static class Entry<T> {
+    private T value;
+    private final Exception error;
+    private final String key;
+    private final boolean signal;
+    private final long enqueuedAt = System.nanoTime();
+
+    public Entry(T value, Exception error, String key, boolean signal) {
+      this.value = value;
+      this.error = error;
+      this.key = key;
+      this.signal = signal;
+    }
+  }
+}
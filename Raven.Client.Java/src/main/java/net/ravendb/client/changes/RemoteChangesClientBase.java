@@ -2,6 +2,7 @@ package net.ravendb.client.changes;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -9,6 +10,8 @@ import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import net.ravendb.abstractions.basic.CleanCloseable;
 import net.ravendb.abstractions.basic.EventArgs;
@@ -19,11 +22,11 @@ import net.ravendb.abstractions.basic.VoidArgs;
 import net.ravendb.abstractions.closure.Action0;
 import net.ravendb.abstractions.connection.OperationCredentials;
 import net.ravendb.abstractions.data.HttpMethods;
-import net.ravendb.abstractions.json.linq.RavenJObject;
 import net.ravendb.abstractions.logging.ILog;
 import net.ravendb.abstractions.logging.LogManager;
 import net.ravendb.abstractions.util.AtomicDictionary;
 import net.ravendb.abstractions.util.Base62Util;
+import net.ravendb.client.changes.NotificationDecoder.ChangesEvent;
 import net.ravendb.client.connection.CreateHttpJsonRequestParams;
 import net.ravendb.client.connection.IReplicationInformerBase;
 import net.ravendb.client.connection.implementation.HttpJsonRequest;
@@ -36,11 +39,13 @@ import org.apache.http.HttpStatus;
 
 
 public abstract class RemoteChangesClientBase<TChangesApi extends IConnectableChanges, TConnectionState extends IChangesConnectionState>
-  implements CleanCloseable, IObserver<String>, IConnectableChanges {
+  implements CleanCloseable, ILineObserver, IConnectableChanges {
   protected static final ILog logger = LogManager.getCurrentClassLogger();
 
   private Timer clientSideHeartbeatTimer;
 
+  private final Lock sendLock = new ReentrantLock();
+
   private final String url;
   private OperationCredentials credentials;
   private final HttpJsonRequestFactory jsonRequestFactory;
@@ -186,7 +191,8 @@ public abstract class RemoteChangesClientBase<TChangesApi extends IConnectableCh
   }
 
   protected void send(String command, String value) {
-    synchronized (this) {
+    sendLock.lock();
+    try {
       logger.info("Sending command %s - %s to %s with id %s", command, value, url, id);
 
       try {
@@ -203,6 +209,8 @@ public abstract class RemoteChangesClientBase<TChangesApi extends IConnectableCh
       } catch (Exception e) {
         throw new RuntimeException(e);
       }
+    } finally {
+      sendLock.unlock();
     }
   }
 
@@ -228,6 +236,9 @@ public abstract class RemoteChangesClientBase<TChangesApi extends IConnectableCh
     } catch (Exception e) {
       logger.errorException("Got error from server connection for " + url + " on id " + id , e);
     }
+    for (Map.Entry<String, DatabaseConnectionState> keyValuePair : counters) {
+      keyValuePair.getValue().complete();
+    }
   }
 
   @Override
@@ -247,6 +258,7 @@ public abstract class RemoteChangesClientBase<TChangesApi extends IConnectableCh
     } catch (Exception e) {
       for (Map.Entry<String, DatabaseConnectionState> keyValuePair : counters) {
         keyValuePair.getValue().error(e);
+        keyValuePair.getValue().complete();
       }
       counters.clear();
     }
@@ -254,14 +266,22 @@ public abstract class RemoteChangesClientBase<TChangesApi extends IConnectableCh
 
   @Override
   public void onNext(String dataFromConnection) {
-    lastHeartbeat = new Date();
-    RavenJObject ravenJObject = RavenJObject.parse(dataFromConnection);
-    RavenJObject value = ravenJObject.value(RavenJObject.class, "Value");
-    String type = ravenJObject.value(String.class, "Type");
+    byte[] bytes = dataFromConnection.getBytes(StandardCharsets.UTF_8);
+    onNext(bytes, 0, bytes.length);
+  }
 
-    logger.debug("Got notification from %s id %s of type %s", url, id, dataFromConnection);
+  @Override
+  public void onNext(byte[] buffer, int offset, int length) {
+    lastHeartbeat = new Date();
 
     try {
+      ChangesEvent event = getNotificationDecoder().decode(buffer, offset, length);
+      String type = event.getType();
+
+      if (logger.isDebugEnabled()) {
+        logger.debug("Got notification from %s id %s of type %s", url, id, new String(buffer, offset, length, StandardCharsets.UTF_8));
+      }
+
       switch (type) {
         case "Disconnect":
           if (connection != null) {
@@ -273,7 +293,7 @@ public abstract class RemoteChangesClientBase<TChangesApi extends IConnectableCh
         case "Heartbeat":
           break;
         default:
-          notifySubscribers(type, value, counters);
+          notifySubscribers(type, event.getValue(), counters);
           break;
       }
     } catch (IOException e) {
@@ -281,7 +301,19 @@ public abstract class RemoteChangesClientBase<TChangesApi extends IConnectableCh
     }
   }
 
-  protected abstract void notifySubscribers(String type, RavenJObject value, AtomicDictionary<DatabaseConnectionState> counters);
+  /**
+   * Decoder used for incoming events. Called from base class constructor (events may arrive before
+   * subclass is constructed), so it should return shared instance.
+   */
+  protected abstract NotificationDecoder getNotificationDecoder();
+
+  /**
+   * Dispatches decoded notification.
+   * @param type event type
+   * @param value notification bound by decoder, or null if type isn't registered in decoder
+   * @param counters
+   */
+  protected abstract void notifySubscribers(String type, Object value, AtomicDictionary<DatabaseConnectionState> counters);
 
   protected abstract void subscribeOnServer();
 
@@ -1,8 +1,15 @@
 package net.ravendb.client.changes;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import net.ravendb.abstractions.basic.ExceptionEventArgs;
 import net.ravendb.abstractions.closure.Action0;
@@ -19,7 +26,6 @@ import net.ravendb.abstractions.data.ReplicationConflictNotification;
 import net.ravendb.abstractions.data.ReplicationConflictTypes;
 import net.ravendb.abstractions.data.TransformerChangeNotification;
 import net.ravendb.abstractions.extensions.JsonExtensions;
-import net.ravendb.abstractions.json.linq.RavenJObject;
 import net.ravendb.abstractions.util.AtomicDictionary;
 import net.ravendb.client.connection.IDocumentStoreReplicationInformer;
 import net.ravendb.client.connection.OperationMetadata;
@@ -27,22 +33,36 @@ import net.ravendb.client.connection.implementation.HttpJsonRequestFactory;
 import net.ravendb.client.document.DocumentConvention;
 import net.ravendb.client.utils.UrlUtils;
 
-import org.codehaus.jackson.map.ObjectMapper;
-
 
 
 public class RemoteDatabaseChanges extends RemoteChangesClientBase<IDatabaseChanges, DatabaseConnectionState> implements IDatabaseChanges {
 
+  private static final NotificationDecoder NOTIFICATION_DECODER = new NotificationDecoder(JsonExtensions.createDefaultJsonSerializer())
+    .register("DocumentChangeNotification", DocumentChangeNotification.class)
+    .register("BulkInsertChangeNotification", BulkInsertChangeNotification.class)
+    .register("IndexChangeNotification", IndexChangeNotification.class)
+    .register("TransformerChangeNotification", TransformerChangeNotification.class)
+    .register("ReplicationConflictNotification", ReplicationConflictNotification.class);
+
+  private static final Function1<DocumentChangeNotification, String> DOCUMENT_ID = new Function1<DocumentChangeNotification, String>() {
+    @Override
+    public String apply(DocumentChangeNotification notification) {
+      return notification.getId() != null ? notification.getId().toLowerCase() : null;
+    }
+  };
+
   protected final ConcurrentSkipListSet<String> watchedDocs = new ConcurrentSkipListSet<>();
   protected final ConcurrentSkipListSet<String> watchedPrefixes = new ConcurrentSkipListSet<>();
   protected final ConcurrentSkipListSet<String> watchedTypes = new ConcurrentSkipListSet<>();
   protected final ConcurrentSkipListSet<String> watchedCollections = new ConcurrentSkipListSet<>();
   protected final ConcurrentSkipListSet<String> watchedIndexes = new ConcurrentSkipListSet<>();
   protected final ConcurrentSkipListSet<String> watchedBulkInserts = new ConcurrentSkipListSet<>();
+  protected final PrefixIndex watchedPrefixIndex = new PrefixIndex();
   protected boolean watchAllDocs;
   protected boolean watchAllIndexes;
   protected boolean watchAllTransformers;
   protected DocumentConvention conventions;
+  private ExecutorService dispatcher;
 
   private final Function4<String, Etag, String[] , OperationMetadata, Boolean> tryResolveConflictByUsingRegisteredConflictListeners;
 
@@ -91,58 +111,155 @@ public class RemoteDatabaseChanges extends RemoteChangesClientBase<IDatabaseChan
 
 
   @Override
-  protected void notifySubscribers(String type, RavenJObject value, AtomicDictionary<DatabaseConnectionState> counters) {
-    try {
-      ObjectMapper mapper = JsonExtensions.createDefaultJsonSerializer();
-      switch (type) {
-        case "DocumentChangeNotification":
-          DocumentChangeNotification documentChangeNotification = mapper.readValue(value.toString(), DocumentChangeNotification.class);
-          for (DatabaseConnectionState counter : counters.values()) {
-            counter.send(documentChangeNotification);
-          }
-          break;
+  protected NotificationDecoder getNotificationDecoder() {
+    return NOTIFICATION_DECODER;
+  }
 
-        case "BulkInsertChangeNotification":
-          BulkInsertChangeNotification bulkInsertChangeNotification = mapper.readValue(value.toString(), BulkInsertChangeNotification.class);
-          for (DatabaseConnectionState counter : counters.values()) {
-            counter.send(bulkInsertChangeNotification);
+  /**
+   * Routes notification only to connection states which can be interested in it (by their key in counters),
+   * so cost of dispatch doesn't depend on number of unrelated subscriptions.
+   */
+  @Override
+  protected void notifySubscribers(String type, Object value, AtomicDictionary<DatabaseConnectionState> counters) {
+    switch (type) {
+      case "DocumentChangeNotification":
+        DocumentChangeNotification documentChangeNotification = (DocumentChangeNotification) value;
+        for (DatabaseConnectionState counter : findDocumentSubscribers(documentChangeNotification, counters)) {
+          counter.send(documentChangeNotification);
+        }
+        break;
+
+      case "BulkInsertChangeNotification":
+        BulkInsertChangeNotification bulkInsertChangeNotification = (BulkInsertChangeNotification) value;
+        for (DatabaseConnectionState counter : findCounters(counters, "bulk-operations/",
+          bulkInsertChangeNotification.getOperationId() != null ? "bulk-operations/" + bulkInsertChangeNotification.getOperationId() : null)) {
+          counter.send(bulkInsertChangeNotification);
+        }
+        break;
+
+      case "IndexChangeNotification":
+        IndexChangeNotification indexChangeNotification = (IndexChangeNotification) value;
+        for (DatabaseConnectionState counter : findCounters(counters, "all-indexes",
+          indexChangeNotification.getName() != null ? "indexes/" + indexChangeNotification.getName() : null)) {
+          counter.send(indexChangeNotification);
+        }
+        break;
+      case "TransformerChangeNotification":
+        TransformerChangeNotification transformerChangeNotification = (TransformerChangeNotification) value;
+        for (DatabaseConnectionState counter : findCounters(counters, "all-transformers")) {
+          counter.send(transformerChangeNotification);
+        }
+        break;
+      case "ReplicationConflictNotification":
+        ReplicationConflictNotification replicationConflictNotification = (ReplicationConflictNotification) value;
+        for (DatabaseConnectionState counter: findCounters(counters, "all-replication-conflicts")) {
+          counter.send(replicationConflictNotification);
+        }
+        if (replicationConflictNotification.getItemType().equals(ReplicationConflictTypes.DOCUMENT_REPLICATION_CONFLICT)) {
+          boolean result = tryResolveConflictByUsingRegisteredConflictListeners.apply(replicationConflictNotification.getId(),
+            replicationConflictNotification.getEtag(), replicationConflictNotification.getConflicts(), null);
+          if (result) {
+            logger.debug("Document replication conflict for %s was resolved by one of the registered conflict listeners",
+              replicationConflictNotification.getId());
           }
-          break;
+        }
+        break;
+      default:
+        break;
+    }
+  }
 
-        case "IndexChangeNotification":
-          IndexChangeNotification indexChangeNotification = mapper.readValue(value.toString(), IndexChangeNotification.class);
-          for (DatabaseConnectionState counter : counters.values()) {
-            counter.send(indexChangeNotification);
-          }
-          break;
-        case "TransformerChangeNotification":
-          TransformerChangeNotification transformerChangeNotification = mapper.readValue(value.toString(), TransformerChangeNotification.class);
-          for (DatabaseConnectionState counter : counters.values()) {
-            counter.send(transformerChangeNotification);
-          }
-          break;
-        case "ReplicationConflictNotification":
-          ReplicationConflictNotification replicationConflictNotification = mapper.readValue(value.toString(), ReplicationConflictNotification.class);
-          for (DatabaseConnectionState counter: counters.values()) {
-            counter.send(replicationConflictNotification);
-          }
-          if (replicationConflictNotification.getItemType().equals(ReplicationConflictTypes.DOCUMENT_REPLICATION_CONFLICT)) {
-            boolean result = tryResolveConflictByUsingRegisteredConflictListeners.apply(replicationConflictNotification.getId(),
-              replicationConflictNotification.getEtag(), replicationConflictNotification.getConflicts(), null);
-            if (result) {
-              logger.debug("Document replication conflict for %s was resolved by one of the registered conflict listeners",
-                replicationConflictNotification.getId());
-            }
-          }
-          break;
-        default:
-          break;
+  private List<DatabaseConnectionState> findDocumentSubscribers(DocumentChangeNotification notification, AtomicDictionary<DatabaseConnectionState> counters) {
+    String id = notification.getId();
+    List<DatabaseConnectionState> result = findCounters(counters, "all-docs",
+      id != null ? "docs/" + id : null,
+      notification.getCollectionName() != null ? "collections/" + notification.getCollectionName() : null,
+      notification.getTypeName() != null ? "types/" + notification.getTypeName() : null);
+    if (id != null && !watchedPrefixIndex.isEmpty()) {
+      for (String prefix : watchedPrefixIndex.findPrefixesOf(id)) {
+        DatabaseConnectionState counter = counters.get("prefixes/" + prefix);
+        if (counter != null) {
+          result.add(counter);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns connection states registered under given keys (null keys are ignored).
+   */
+  private static List<DatabaseConnectionState> findCounters(AtomicDictionary<DatabaseConnectionState> counters, String... keys) {
+    List<DatabaseConnectionState> result = new ArrayList<>(keys.length);
+    for (String key : keys) {
+      if (key == null) {
+        continue;
+      }
+      DatabaseConnectionState counter = counters.get(key);
+      if (counter != null) {
+        result.add(counter);
+      }
+    }
+    return result;
+  }
+
+
+  private <T> TaskedObservable<T, DatabaseConnectionState> createObservable(DatabaseConnectionState counter, Predicate<T> filter) {
+    return createObservable(counter, filter, null);
+  }
+
+  private TaskedObservable<DocumentChangeNotification, DatabaseConnectionState> createDocumentObservable(DatabaseConnectionState counter,
+    Predicate<DocumentChangeNotification> filter) {
+    return createObservable(counter, filter, DOCUMENT_ID);
+  }
+
+  private <T> TaskedObservable<T, DatabaseConnectionState> createObservable(DatabaseConnectionState counter, Predicate<T> filter,
+    Function1<T, String> coalescingKey) {
+    final TaskedObservable<T, DatabaseConnectionState> taskedObservable = new TaskedObservable<>(counter, filter);
+    int queueSize = conventions.getChangesDispatchQueueSize();
+    if (queueSize > 0) {
+      taskedObservable.setDispatchQueue(getDispatcher(), queueSize, conventions.getChangesOverflowPolicy(), coalescingKey);
+    }
+    counter.getOnCompleted().add(new Action0() {
+      @Override
+      public void apply() {
+        taskedObservable.complete();
       }
-    } catch (IOException e) {
-      throw new RuntimeException(e);
+    });
+    return taskedObservable;
+  }
+
+  /**
+   * Executor which drains queues of all subscriptions of this client. Created on first queued subscription,
+   * shut down when client is closed (after queued notifications and completions are delivered).
+   */
+  private synchronized ExecutorService getDispatcher() {
+    if (dispatcher == null) {
+      int threads = Runtime.getRuntime().availableProcessors();
+      ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+        @Override
+        public Thread newThread(Runnable r) {
+          Thread thread = conventions.newThread(r, "RavenDB changes dispatcher " + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+      pool.allowCoreThreadTimeOut(true);
+      dispatcher = pool;
     }
+    return dispatcher;
   }
 
+  @Override
+  public void close() {
+    super.close();
+    synchronized (this) {
+      if (dispatcher != null) {
+        dispatcher.shutdown();
+      }
+    }
+  }
 
   @Override
   public IObservable<IndexChangeNotification> forIndex(final String indexName) {
@@ -164,7 +281,7 @@ public class RemoteDatabaseChanges extends RemoteChangesClientBase<IDatabaseChan
       }
     });
     counter.inc();
-    final TaskedObservable<IndexChangeNotification, DatabaseConnectionState> taskedObservable = new TaskedObservable<>(counter, new Predicate<IndexChangeNotification>() {
+    final TaskedObservable<IndexChangeNotification, DatabaseConnectionState> taskedObservable = createObservable(counter, new Predicate<IndexChangeNotification>() {
       @Override
       public Boolean apply(IndexChangeNotification notification) {
         return notification.getName().equalsIgnoreCase(indexName);
@@ -207,7 +324,7 @@ public class RemoteDatabaseChanges extends RemoteChangesClientBase<IDatabaseChan
       }
     });
 
-    final TaskedObservable<DocumentChangeNotification, DatabaseConnectionState> taskedObservable = new TaskedObservable<>(counter, new Predicate<DocumentChangeNotification>() {
+    final TaskedObservable<DocumentChangeNotification, DatabaseConnectionState> taskedObservable = createDocumentObservable(counter, new Predicate<DocumentChangeNotification>() {
       @Override
       public Boolean apply(DocumentChangeNotification notification) {
         return notification.getId().equalsIgnoreCase(docId);
@@ -248,7 +365,7 @@ public class RemoteDatabaseChanges extends RemoteChangesClientBase<IDatabaseChan
       }
     });
 
-    final TaskedObservable<DocumentChangeNotification, DatabaseConnectionState> taskedObservable = new TaskedObservable<>(counter, Predicates.<DocumentChangeNotification> alwaysTrue());
+    final TaskedObservable<DocumentChangeNotification, DatabaseConnectionState> taskedObservable = createDocumentObservable(counter, Predicates.<DocumentChangeNotification> alwaysTrue());
 
     counter.getOnDocumentChangeNotification().add(new Action1<DocumentChangeNotification>() {
       @Override
@@ -286,13 +403,13 @@ public class RemoteDatabaseChanges extends RemoteChangesClientBase<IDatabaseChan
           public void apply() {
             watchedBulkInserts.remove(id);
             send("unwatch-bulk-operation", id);
-            counters.remove("bulk-operations/" + operationId);
+            counters.remove("bulk-operations/" + id);
           }
         });
       }
     });
 
-    final TaskedObservable<BulkInsertChangeNotification, DatabaseConnectionState> taskedObservable = new TaskedObservable<>(counter, new Predicate<BulkInsertChangeNotification>() {
+    final TaskedObservable<BulkInsertChangeNotification, DatabaseConnectionState> taskedObservable = createObservable(counter, new Predicate<BulkInsertChangeNotification>() {
       @Override
       public Boolean apply(BulkInsertChangeNotification notification) {
         return operationId == null || notification.getOperationId().equals(operationId);
@@ -334,7 +451,7 @@ public class RemoteDatabaseChanges extends RemoteChangesClientBase<IDatabaseChan
       }
     });
     counter.inc();
-    final TaskedObservable<IndexChangeNotification, DatabaseConnectionState> taskedObservable = new TaskedObservable<>(counter, Predicates.<IndexChangeNotification> alwaysTrue());
+    final TaskedObservable<IndexChangeNotification, DatabaseConnectionState> taskedObservable = createObservable(counter, Predicates.<IndexChangeNotification> alwaysTrue());
 
     counter.getOnIndexChangeNotification().add(new Action1<IndexChangeNotification>() {
       @Override
@@ -371,7 +488,7 @@ public class RemoteDatabaseChanges extends RemoteChangesClientBase<IDatabaseChan
       }
     });
     counter.inc();
-    final TaskedObservable<TransformerChangeNotification, DatabaseConnectionState> taskedObservable = new TaskedObservable<>(counter, Predicates.<TransformerChangeNotification> alwaysTrue());
+    final TaskedObservable<TransformerChangeNotification, DatabaseConnectionState> taskedObservable = createObservable(counter, Predicates.<TransformerChangeNotification> alwaysTrue());
 
     counter.getOnTransformerChangeNotification().add(new Action1<TransformerChangeNotification>() {
       @Override
@@ -390,16 +507,18 @@ public class RemoteDatabaseChanges extends RemoteChangesClientBase<IDatabaseChan
 
   @Override
   public IObservable<DocumentChangeNotification> forDocumentsStartingWith(final String docIdPrefix) {
-    DatabaseConnectionState counter = counters.getOrAdd("prefixes" + docIdPrefix, new Function1<String, DatabaseConnectionState>() {
+    DatabaseConnectionState counter = counters.getOrAdd("prefixes/" + docIdPrefix, new Function1<String, DatabaseConnectionState>() {
       @Override
       public DatabaseConnectionState apply(String s) {
         watchedPrefixes.add(docIdPrefix);
+        watchedPrefixIndex.add(docIdPrefix);
         send("watch-prefix", docIdPrefix);
 
         return new DatabaseConnectionState(new Action0() {
           @Override
           public void apply() {
             watchedPrefixes.remove(docIdPrefix);
+            watchedPrefixIndex.remove(docIdPrefix);
             send("unwatch-prefix", docIdPrefix);
             counters.remove("prefixes/" + docIdPrefix);
           }
@@ -407,7 +526,7 @@ public class RemoteDatabaseChanges extends RemoteChangesClientBase<IDatabaseChan
       }
     });
 
-    final TaskedObservable<DocumentChangeNotification, DatabaseConnectionState> taskedObservable = new TaskedObservable<>(counter, new Predicate<DocumentChangeNotification>() {
+    final TaskedObservable<DocumentChangeNotification, DatabaseConnectionState> taskedObservable = createDocumentObservable(counter, new Predicate<DocumentChangeNotification>() {
       @Override
       public Boolean apply(DocumentChangeNotification notification) {
         return notification.getId() != null && notification.getId().toLowerCase().startsWith(docIdPrefix.toLowerCase());
@@ -451,7 +570,7 @@ public class RemoteDatabaseChanges extends RemoteChangesClientBase<IDatabaseChan
       }
     });
 
-    final TaskedObservable<DocumentChangeNotification, DatabaseConnectionState> taskedObservable = new TaskedObservable<>(counter, new Predicate<DocumentChangeNotification>() {
+    final TaskedObservable<DocumentChangeNotification, DatabaseConnectionState> taskedObservable = createDocumentObservable(counter, new Predicate<DocumentChangeNotification>() {
       @Override
       public Boolean apply(DocumentChangeNotification notification) {
         return notification.getCollectionName() != null &&  notification.getCollectionName().equalsIgnoreCase(collectionName);
@@ -503,7 +622,7 @@ public class RemoteDatabaseChanges extends RemoteChangesClientBase<IDatabaseChan
       }
     });
 
-    final TaskedObservable<DocumentChangeNotification, DatabaseConnectionState> taskedObservable = new TaskedObservable<>(counter, new Predicate<DocumentChangeNotification>() {
+    final TaskedObservable<DocumentChangeNotification, DatabaseConnectionState> taskedObservable = createDocumentObservable(counter, new Predicate<DocumentChangeNotification>() {
       @Override
       public Boolean apply(DocumentChangeNotification notification) {
         return notification.getTypeName() != null &&  notification.getTypeName().equalsIgnoreCase(typeName);
@@ -551,7 +670,7 @@ public class RemoteDatabaseChanges extends RemoteChangesClientBase<IDatabaseChan
       }
     });
 
-    final TaskedObservable<ReplicationConflictNotification, DatabaseConnectionState> taskedObservable = new TaskedObservable<>(counter, Predicates.<ReplicationConflictNotification> alwaysTrue());
+    final TaskedObservable<ReplicationConflictNotification, DatabaseConnectionState> taskedObservable = createObservable(counter, Predicates.<ReplicationConflictNotification> alwaysTrue());
 
     counter.getOnReplicationConflictNotification().add(new Action1<ReplicationConflictNotification>() {
       @Override
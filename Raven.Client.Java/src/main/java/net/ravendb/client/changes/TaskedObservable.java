@@ -2,8 +2,11 @@ package net.ravendb.client.changes;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.concurrent.Executor;
 
 import net.ravendb.abstractions.basic.CleanCloseable;
+import net.ravendb.abstractions.closure.Action1;
+import net.ravendb.abstractions.closure.Function1;
 import net.ravendb.abstractions.closure.Predicate;
 import net.ravendb.abstractions.closure.Predicates;
 import net.ravendb.client.connection.profiling.ConcurrentSet;
@@ -15,14 +18,46 @@ public class TaskedObservable<T, TConnectionState extends IChangesConnectionStat
   protected Predicate<T> filter;
   protected ConcurrentSet<IObserver<T>> subscribers = new ConcurrentSet<>();
 
+  protected int dispatchQueueSize;
+  protected ChangesOverflowPolicy overflowPolicy;
+  protected Function1<T, String> coalescingKey;
+  protected Executor dispatcher;
+
   public TaskedObservable(TConnectionState localConnectionState, Predicate<T> filter) {
     this.localConnectionState = localConnectionState;
     this.filter = filter;
   }
 
+  /**
+   * Makes observers subscribed from now on receive notifications through their own bounded queue, drained on dispatcher
+   * (subscribe returns {@link QueuedObserver} then). Zero queue size means observers are called on the changes connection thread.
+   * @param dispatcher executor shared by queued subscriptions
+   * @param queueSize
+   * @param overflowPolicy
+   * @param coalescingKey key of notification used by {@link ChangesOverflowPolicy#COALESCE}
+   */
+  public void setDispatchQueue(Executor dispatcher, int queueSize, ChangesOverflowPolicy overflowPolicy, Function1<T, String> coalescingKey) {
+    this.dispatcher = dispatcher;
+    this.dispatchQueueSize = queueSize;
+    this.overflowPolicy = overflowPolicy;
+    this.coalescingKey = coalescingKey;
+  }
+
   @Override
   public CleanCloseable subscribe(final IObserver<T> observer) {
     localConnectionState.inc();
+    if (dispatchQueueSize > 0) {
+      QueuedObserver<T> queuedObserver = new QueuedObserver<>(observer, dispatchQueueSize, overflowPolicy, coalescingKey, dispatcher,
+        new Action1<QueuedObserver<T>>() {
+        @Override
+        public void apply(QueuedObserver<T> queued) {
+          localConnectionState.dec();
+          subscribers.remove(queued);
+        }
+      });
+      subscribers.add(queuedObserver);
+      return queuedObserver;
+    }
     subscribers.add(observer);
     return new CleanCloseable() {
 
@@ -55,6 +90,15 @@ public class TaskedObservable<T, TConnectionState extends IChangesConnectionStat
     }
   }
 
+  /**
+   * Notifies subscribers that no more notifications will come (changes client was closed or lost its connection).
+   */
+  public void complete() {
+    for (IObserver<T> subscriber : subscribers) {
+      subscriber.onCompleted();
+    }
+  }
+
   @Override
   public IObservable<T> where(Predicate<T> predicate) {
     filter = Predicates.and(filter, predicate);
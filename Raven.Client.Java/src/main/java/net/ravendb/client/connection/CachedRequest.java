@@ -1,5 +1,6 @@
 package net.ravendb.client.connection;
 
+import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.Map;
 
@@ -8,11 +9,14 @@ import net.ravendb.abstractions.json.linq.RavenJToken;
 
 public class CachedRequest {
   private RavenJToken data;
+  private ByteBuffer serializedData;
+  private boolean compressed;
   private Date time;
   private Map<String, String> headers;
   private String database;
   private boolean forceServerCheck;
   private long readTime;
+  private long size;
 
   public CachedRequest() {
     super();
@@ -29,13 +33,46 @@ public class CachedRequest {
    * @return the data
    */
   public RavenJToken getData() {
+    if (data == null && serializedData != null) {
+      return CachedResponseSerializer.deserialize(serializedData, compressed);
+    }
     return data;
   }
+
+  /**
+   * Returns copy of cached data, which can be safely modified by caller.
+   */
+  public RavenJToken cloneData() {
+    if (data == null && serializedData != null) {
+      return CachedResponseSerializer.deserialize(serializedData, compressed);
+    }
+    return data != null ? data.cloneToken() : null;
+  }
+
+  /**
+   * Stores data as json bytes instead of parsed tree.
+   * @param data data to store
+   * @param offHeap store bytes in direct buffer
+   * @param compress gzip stored bytes
+   */
+  public void setSerializedData(RavenJToken data, boolean offHeap, boolean compress) {
+    this.data = null;
+    this.serializedData = CachedResponseSerializer.serialize(data, offHeap, compress);
+    this.compressed = compress;
+  }
+
+  /**
+   * @return data stored as json bytes or null if data is kept as parsed tree
+   */
+  public ByteBuffer getSerializedData() {
+    return serializedData;
+  }
   /**
    * @param data the data to set
    */
   public void setData(RavenJToken data) {
     this.data = data;
+    this.serializedData = null;
   }
   /**
    * @return the time
@@ -93,4 +130,19 @@ public class CachedRequest {
   public void setReadTime(long readTime) {
     this.readTime = readTime;
   }
+
+  /**
+   * Estimated number of bytes retained by cached response
+   */
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * Estimated number of bytes retained by cached response
+   * @param size
+   */
+  public void setSize(long size) {
+    this.size = size;
+  }
 }
@@ -0,0 +1,97 @@
+package net.ravendb.client.connection;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import net.ravendb.abstractions.exceptions.JsonReaderException;
+import net.ravendb.abstractions.exceptions.JsonWriterException;
+import net.ravendb.abstractions.json.RavenJsonTextReader;
+import net.ravendb.abstractions.json.linq.RavenJToken;
+
+import org.apache.commons.io.IOUtils;
+import org.codehaus.jackson.JsonGenerator;
+
+/**
+ * Converts cached responses to compact (optionally gzipped) json bytes and back.
+ */
+class CachedResponseSerializer {
+
+  private CachedResponseSerializer() {
+    // empty by design
+  }
+
+  public static ByteBuffer serialize(RavenJToken data, boolean offHeap, boolean compress) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    OutputStream output = bytes;
+    try {
+      if (compress) {
+        output = new GZIPOutputStream(bytes);
+      }
+      JsonGenerator generator = RavenJsonTextReader.getInstance().createJsonGenerator(output);
+      data.writeTo(generator);
+      generator.close();
+      output.close();
+    } catch (IOException e) {
+      throw new JsonWriterException(e.getMessage(), e);
+    }
+
+    byte[] array = bytes.toByteArray();
+    if (!offHeap) {
+      return ByteBuffer.wrap(array);
+    }
+    ByteBuffer buffer = ByteBuffer.allocateDirect(array.length);
+    buffer.put(array);
+    buffer.flip();
+    return buffer;
+  }
+
+  public static RavenJToken deserialize(ByteBuffer buffer, boolean compressed) {
+    InputStream input = new ByteBufferInputStream(buffer.duplicate());
+    try {
+      if (compressed) {
+        input = new GZIPInputStream(input);
+      }
+      return RavenJToken.tryLoad(input);
+    } catch (IOException e) {
+      throw new JsonReaderException(e.getMessage(), e);
+    } finally {
+      IOUtils.closeQuietly(input);
+    }
+  }
+
+  private static class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    public ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(len, buffer.remaining());
+      buffer.get(b, off, count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package net.ravendb.client.connection;
+
+/**
+ * Settings of http connection pool used by document store.
+ */
+public class ConnectionPoolOptions {
+
+  private int maxTotal = 20;
+  private int maxPerRoute = 10;
+  private long connectionTimeToLive = -1;
+  private long maxIdleTime = -1;
+  private long evictionInterval = 5000;
+
+  /**
+   * Maximum number of open connections (to all servers).
+   */
+  public int getMaxTotal() {
+    return maxTotal;
+  }
+
+  /**
+   * Maximum number of open connections (to all servers).
+   * @param maxTotal
+   */
+  public void setMaxTotal(int maxTotal) {
+    this.maxTotal = maxTotal;
+  }
+
+  /**
+   * Maximum number of open connections to single server.
+   */
+  public int getMaxPerRoute() {
+    return maxPerRoute;
+  }
+
+  /**
+   * Maximum number of open connections to single server.
+   * @param maxPerRoute
+   */
+  public void setMaxPerRoute(int maxPerRoute) {
+    this.maxPerRoute = maxPerRoute;
+  }
+
+  /**
+   * Maximum lifetime (in milliseconds) of connection. Non positive value means connections never expire.
+   */
+  public long getConnectionTimeToLive() {
+    return connectionTimeToLive;
+  }
+
+  /**
+   * Maximum lifetime (in milliseconds) of connection. Non positive value means connections never expire.
+   * Expired connections are not reused and are closed by background eviction.
+   * @param connectionTimeToLive
+   */
+  public void setConnectionTimeToLive(long connectionTimeToLive) {
+    this.connectionTimeToLive = connectionTimeToLive;
+  }
+
+  /**
+   * Time (in milliseconds) after which idle connection is closed. Non positive value disables idle eviction.
+   */
+  public long getMaxIdleTime() {
+    return maxIdleTime;
+  }
+
+  /**
+   * Time (in milliseconds) after which idle connection is closed. Non positive value disables idle eviction.
+   * @param maxIdleTime
+   */
+  public void setMaxIdleTime(long maxIdleTime) {
+    this.maxIdleTime = maxIdleTime;
+  }
+
+  /**
+   * How often (in milliseconds) idle and expired connections are evicted.
+   */
+  public long getEvictionInterval() {
+    return evictionInterval;
+  }
+
+  /**
+   * How often (in milliseconds) idle and expired connections are evicted.
+   * Background eviction runs only when max idle time or connection time to live is set.
+   * @param evictionInterval
+   */
+  public void setEvictionInterval(long evictionInterval) {
+    this.evictionInterval = evictionInterval;
+  }
+
+  public boolean isEvictionEnabled() {
+    return maxIdleTime > 0 || connectionTimeToLive > 0;
+  }
+
+}
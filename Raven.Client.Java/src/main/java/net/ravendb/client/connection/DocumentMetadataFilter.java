@@ -0,0 +1,82 @@
+package net.ravendb.client.connection;
+
+import java.io.IOException;
+
+import net.ravendb.abstractions.data.Constants;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+
+import org.codehaus.jackson.JsonParseException;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
+import org.codehaus.jackson.util.JsonParserDelegate;
+
+/**
+ * Hides top level @metadata property of streamed document from entity binder.
+ * Metadata is materialized as {@link RavenJObject}, rest of document is passed through.
+ *
+ * Parser must be positioned on START_OBJECT of document.
+ */
+class DocumentMetadataFilter extends JsonParserDelegate {
+
+  private int depth = 1;
+  private RavenJObject metadata;
+  private String documentId;
+
+  public DocumentMetadataFilter(JsonParser parser) {
+    super(parser);
+  }
+
+  public RavenJObject getMetadata() {
+    return metadata;
+  }
+
+  /**
+   * Value of top level __document_id property (if present)
+   */
+  public String getDocumentId() {
+    return documentId;
+  }
+
+  @Override
+  public JsonToken nextToken() throws IOException, JsonParseException {
+    JsonToken token = delegate.nextToken();
+    while (depth == 1 && token == JsonToken.FIELD_NAME && Constants.METADATA.equals(delegate.getCurrentName())) {
+      if (delegate.nextToken() == JsonToken.START_OBJECT) {
+        metadata = RavenJObject.load(delegate);
+      } else {
+        delegate.skipChildren();
+      }
+      token = delegate.nextToken();
+    }
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      depth++;
+    } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+      depth--;
+    } else if (depth == 1 && token == JsonToken.VALUE_STRING && Constants.DOCUMENT_ID_FIELD_NAME.equals(delegate.getCurrentName())) {
+      documentId = delegate.getText();
+    }
+    return token;
+  }
+
+  @Override
+  public JsonParser skipChildren() throws IOException, JsonParseException {
+    JsonToken token = delegate.getCurrentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      delegate.skipChildren();
+      depth--;
+    }
+    return this;
+  }
+
+  /**
+   * Reads remaining part of document, so underlying parser is positioned on its END_OBJECT.
+   */
+  public void finish() throws IOException {
+    while (depth > 0) {
+      if (nextToken() == null) {
+        throw new JsonParseException("Unexpected end of document", delegate.getCurrentLocation());
+      }
+    }
+  }
+
+}
@@ -0,0 +1,23 @@
+package net.ravendb.client.connection;
+
+/**
+ * Defines how responses are kept in http cache.
+ */
+public enum HttpCacheStorageMode {
+
+  /**
+   * Responses are kept as parsed json trees. Cached response is cloned when served.
+   */
+  TOKENS,
+
+  /**
+   * Responses are kept as json bytes on heap and parsed when served.
+   * Uses less memory and creates much less objects for GC to scan, at the cost of parsing on every cache hit.
+   */
+  SERIALIZED,
+
+  /**
+   * Responses are kept as json bytes in direct (off-heap) buffers and parsed when served.
+   */
+  SERIALIZED_OFF_HEAP
+}
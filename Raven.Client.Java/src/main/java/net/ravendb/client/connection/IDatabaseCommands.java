@@ -691,6 +691,14 @@ public interface IDatabaseCommands extends IHoldProfilingInformation {
    */
   public CloseableIterator<RavenJObject> streamDocs(Etag fromEtag);
 
+  /**
+   * Streams the documents after given etag.
+   * Will return *all* results, regardless of the number of items that might be returned.
+   * @param fromEtag ETag of a document from which stream should start
+   * @param serverUrl receives url of the server which streams documents (etags are local to the server)
+   */
+  public CloseableIterator<RavenJObject> streamDocs(Etag fromEtag, Reference<String> serverUrl);
+
   /**
    * Streams the documents by etag OR starts with the prefix and match the matches
    * Will return *all* results, regardless of the number of items that might be returned.
@@ -86,20 +86,22 @@ public class MultiGetOperation {
     return requestsForServer;
   }
 
-  public boolean canFullyCache(HttpJsonRequestFactory jsonRequestFactory, HttpJsonRequest httpJsonRequest, String postedData)
+  public boolean canFullyCache(HttpJsonRequestFactory jsonRequestFactory, HttpJsonRequest httpJsonRequest, GetRequest[] requestsForServer)
   {
     if (allRequestsCanBeServedFromAggressiveCache) { // can be fully served from aggressive cache
-      RequestResultArgs args = new RequestResultArgs();
-
-      args.setDurationMilliseconds(httpJsonRequest.calculateDuration());
-      args.setMethod(httpJsonRequest.getMethod());
-      args.setHttpResult(0);
-      args.setStatus(RequestStatus.AGGRESSIVELY_CACHED);
-      args.setResult("");
-      args.setUrl(httpJsonRequest.getUrl());
-      args.setPostedData(postedData);
-
-      jsonRequestFactory.invokeLogRequest(holdProfilingInformation, args);
+      if (jsonRequestFactory.hasLogRequestEventHandlers()) {
+        RequestResultArgs args = new RequestResultArgs();
+
+        args.setDurationMilliseconds(httpJsonRequest.calculateDuration());
+        args.setMethod(httpJsonRequest.getMethod());
+        args.setHttpResult(0);
+        args.setStatus(RequestStatus.AGGRESSIVELY_CACHED);
+        args.setResult("");
+        args.setUrl(httpJsonRequest.getUrl());
+        args.setPostedData(JsonConvert.serializeObject(requestsForServer));
+
+        jsonRequestFactory.invokeLogRequest(holdProfilingInformation, args);
+      }
       return true;
     }
     return false;
@@ -121,7 +123,7 @@ public class MultiGetOperation {
         for (String header: cachedData[i].getHeaders().keySet()) {
           responses[i].getHeaders().put(header, cachedData[i].getHeaders().get(header));
         }
-        responses[i].setResult(cachedData[i].getData().cloneToken());
+        responses[i].setResult(cachedData[i].cloneData());
         jsonRequestFactory.incrementCachedRequests();
       } else {
         requestStatuses[i] = responses[i].isRequestHasErrors() ? RequestStatus.ERROR_ON_SERVER : RequestStatus.SEND_TO_SERVER;
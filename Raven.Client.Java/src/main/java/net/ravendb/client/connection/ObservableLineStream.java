@@ -9,9 +9,11 @@ import java.nio.charset.Charset;
 import net.ravendb.abstractions.basic.CleanCloseable;
 import net.ravendb.abstractions.closure.Action0;
 import net.ravendb.abstractions.closure.Predicate;
+import net.ravendb.client.changes.ILineObserver;
 import net.ravendb.client.changes.IObservable;
 import net.ravendb.client.changes.IObserver;
 import net.ravendb.client.connection.profiling.ConcurrentSet;
+import net.ravendb.client.document.Convention;
 
 import org.apache.commons.io.IOUtils;
 
@@ -24,16 +26,22 @@ public class ObservableLineStream implements IObservable<String>, Closeable {
   protected int posInBuffer;
   private final Action0 onDispose;
   private Thread task;
+  private final Convention conventions;
 
   private final ConcurrentSet<IObserver<String>> subscribers = new ConcurrentSet<>();
 
   public ObservableLineStream(InputStream stream, Action0 onDispose) {
+    this(stream, onDispose, null);
+  }
+
+  public ObservableLineStream(InputStream stream, Action0 onDispose, Convention conventions) {
     this.stream = stream;
     this.onDispose = onDispose;
+    this.conventions = conventions != null ? conventions : new Convention();
   }
 
   public void start() {
-    task = new Thread(new Runnable() {
+    Runnable runnable = new Runnable() {
 
       @Override
       public void run() {
@@ -72,8 +80,16 @@ public class ObservableLineStream implements IObservable<String>, Closeable {
                   continue;
                 }
 
-                String data = new String(buffer,  oldStartPos + 5, i - oldStartPos - 6, Charset.forName("UTF-8"));
+                // line observers get bytes of the line, others share single decoded String
+                String data = null;
                 for (IObserver<String> subscriber : subscribers) {
+                  if (subscriber instanceof ILineObserver) {
+                    ((ILineObserver) subscriber).onNext(buffer, oldStartPos + 5, i - oldStartPos - 6);
+                    continue;
+                  }
+                  if (data == null) {
+                    data = new String(buffer,  oldStartPos + 5, i - oldStartPos - 6, Charset.forName("UTF-8"));
+                  }
                   subscriber.onNext(data);
                 }
               }
@@ -104,7 +120,8 @@ public class ObservableLineStream implements IObservable<String>, Closeable {
         }
       }
 
-    }, "ObservableLineStream");
+    };
+    task = conventions.newThread(runnable, "ObservableLineStream");
     task.setDaemon(true);
     task.start();
   }
@@ -1,9 +1,14 @@
 package net.ravendb.client.connection;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.NoSuchElementException;
 
 import net.ravendb.abstractions.basic.CloseableIterator;
+import net.ravendb.abstractions.basic.Reference;
 import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.client.connection.implementation.HttpJsonRequestFactory;
+import net.ravendb.client.document.JsonSerializer;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
@@ -12,6 +17,8 @@ import org.codehaus.jackson.JsonParseException;
 import org.codehaus.jackson.JsonParser;
 import org.codehaus.jackson.JsonToken;
 
+import com.google.common.io.Closeables;
+
 
 public class RavenJObjectIterator implements CloseableIterator<RavenJObject> {
 
@@ -19,46 +26,96 @@ public class RavenJObjectIterator implements CloseableIterator<RavenJObject> {
   private CloseableHttpResponse httpResponse;
   private JsonParser jsonParser;
   private boolean hasNext;
-  private RavenJObject currentObject;
+  private boolean positioned;
+  private boolean completed;
+  private boolean closed;
+  private final long maxBytesToDrain;
+  private final HttpJsonRequestFactory requestFactory;
 
   public RavenJObjectIterator(CloseableHttpResponse httpResponse, JsonParser jsonParser) {
+    this(httpResponse, jsonParser, -1, null);
+  }
+
+  /**
+   * @param httpResponse
+   * @param jsonParser
+   * @param maxBytesToDrain when iterator is closed before the end of stream, at most this number of bytes is read to
+   * return connection to the pool. If more data remain, request is aborted. Negative value means always drain.
+   * @param requestFactory receives drained/aborted stream counters (optional)
+   */
+  public RavenJObjectIterator(CloseableHttpResponse httpResponse, JsonParser jsonParser, long maxBytesToDrain, HttpJsonRequestFactory requestFactory) {
     try {
       this.httpResponse = httpResponse;
       this.httpEntity = httpResponse.getEntity();
       this.jsonParser = jsonParser;
-      fetchNextObject();
+      this.maxBytesToDrain = maxBytesToDrain;
+      this.requestFactory = requestFactory;
+      moveToNextObject();
     } catch (IOException e) {
       throw new RuntimeException("Unable to read stream!");
     }
   }
 
-  private void fetchNextObject() throws JsonParseException, IOException {
+  /**
+   * Moves parser to START_OBJECT of next document (if any) - document itself is read by caller.
+   */
+  private void moveToNextObject() throws JsonParseException, IOException {
+    if (positioned) {
+      return;
+    }
     JsonToken token = jsonParser.nextToken();
+    positioned = true;
     if (token == JsonToken.END_ARRAY) {
       hasNext = false;
+      completed = true;
       EntityUtils.consumeQuietly(httpEntity);
-      this.currentObject = null;
     } else {
-      this.currentObject = RavenJObject.load(jsonParser);
-      this.hasNext = true;
+      hasNext = true;
     }
-
   }
 
   @Override
   public boolean hasNext() {
+    try {
+      moveToNextObject();
+    } catch (IOException e) {
+      throw new RuntimeException("Unable to read stream!");
+    }
     return hasNext;
   }
 
   @Override
   public RavenJObject next() {
-    RavenJObject current = currentObject;
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    positioned = false;
+    return RavenJObject.load(jsonParser);
+  }
+
+  /**
+   * Binds next document directly from response stream, without building {@link RavenJObject} for it.
+   * Only @metadata part of document is materialized.
+   * @param serializer
+   * @param entityClass
+   * @param metadata receives document metadata
+   * @param documentId receives value of __document_id property stored in document (if any)
+   */
+  public <T> T next(JsonSerializer serializer, Class<T> entityClass, Reference<RavenJObject> metadata, Reference<String> documentId) {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    positioned = false;
+    DocumentMetadataFilter filter = new DocumentMetadataFilter(jsonParser);
+    T entity = serializer.deserialize(filter, entityClass);
     try {
-      fetchNextObject();
+      filter.finish();
     } catch (IOException e) {
       throw new RuntimeException("Unable to read object");
     }
-    return current;
+    metadata.value = filter.getMetadata();
+    documentId.value = filter.getDocumentId();
+    return entity;
   }
 
   @Override
@@ -68,7 +125,52 @@ public class RavenJObjectIterator implements CloseableIterator<RavenJObject> {
 
   @Override
   public void close() {
-    EntityUtils.consumeQuietly(httpEntity);
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (completed) {
+      return;
+    }
+    if (drainRemaining()) {
+      if (requestFactory != null) {
+        requestFactory.incrementDrainedStreams();
+      }
+    } else {
+      if (requestFactory != null) {
+        requestFactory.incrementAbortedStreams();
+      }
+    }
+  }
+
+  /**
+   * Reads rest of the response (up to maxBytesToDrain) so connection can be reused.
+   * When more data remain, connection is dropped instead - it is cheaper than downloading rest of the stream.
+   * @return true if response was read to the end
+   */
+  private boolean drainRemaining() {
+    if (maxBytesToDrain < 0) {
+      EntityUtils.consumeQuietly(httpEntity);
+      return true;
+    }
+    try {
+      InputStream content = httpEntity.getContent();
+      byte[] buffer = new byte[8192];
+      long drained = 0;
+      while (drained <= maxBytesToDrain) {
+        int read = content.read(buffer);
+        if (read == -1) {
+          EntityUtils.consumeQuietly(httpEntity);
+          return true;
+        }
+        drained += read;
+      }
+    } catch (IOException e) {
+      // connection is dropped below
+    }
+    // closing response without consuming entity aborts connection
+    Closeables.closeQuietly(httpResponse);
+    return false;
   }
 
 }
@@ -3,6 +3,8 @@ package net.ravendb.client.connection;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import net.ravendb.abstractions.basic.EventArgs;
 import net.ravendb.abstractions.connection.OperationCredentials;
@@ -23,6 +25,8 @@ public class ReplicationInformer extends ReplicationInformerBase<ServerClient> i
 
   private ReplicationDestination[] failoverServers;
 
+  private final Lock refreshLock = new ReentrantLock();
+
   @Override
   public void setFailoverServers(ReplicationDestination[] failoverServers) {
     this.failoverServers = failoverServers;
@@ -53,7 +57,8 @@ public class ReplicationInformer extends ReplicationInformerBase<ServerClient> i
       return;//new CompletedFuture<>();
     }
 
-    synchronized (replicationLock) {
+    replicationLock.lock();
+    try {
       if (firstTime) {
         String serverHash = ServerHash.getServerHash(serverClient.getUrl());
 
@@ -75,7 +80,7 @@ public class ReplicationInformer extends ReplicationInformerBase<ServerClient> i
         return; //taskCopy;
       }
 
-      refreshReplicationInformationTask = new Thread( new Runnable() {
+      refreshReplicationInformationTask = conventions.newThread(new Runnable() {
 
         @Override
         public void run() {
@@ -86,9 +91,11 @@ public class ReplicationInformer extends ReplicationInformerBase<ServerClient> i
             log.error("Failed to refresh replication information", e);
           }
         }
-      } );
+      }, "Replication information refresh");
 
       refreshReplicationInformationTask.start();
+    } finally {
+      replicationLock.unlock();
     }
   }
 
@@ -98,7 +105,8 @@ public class ReplicationInformer extends ReplicationInformerBase<ServerClient> i
 
   @Override
   public void refreshReplicationInformation(ServerClient commands) {
-    synchronized (this) {
+    refreshLock.lock();
+    try {
       String serverHash = ServerHash.getServerHash(commands.getUrl());
 
       JsonDocument document;
@@ -118,6 +126,8 @@ public class ReplicationInformer extends ReplicationInformerBase<ServerClient> i
       ReplicationInformerLocalCache.trySavingReplicationInformationToLocalCache(serverHash, document);
       updateReplicationInformationFromDocument(document);
       lastReplicationUpdate = new Date();
+    } finally {
+      refreshLock.unlock();
     }
   }
 
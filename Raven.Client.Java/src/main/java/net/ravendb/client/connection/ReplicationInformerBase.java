@@ -10,6 +10,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import net.ravendb.abstractions.basic.EventHandler;
 import net.ravendb.abstractions.basic.EventHelper;
@@ -43,7 +45,7 @@ public abstract class ReplicationInformerBase<T> implements IReplicationInformer
   protected Convention conventions;
   private final HttpJsonRequestFactory requestFactory;
   protected Date lastReplicationUpdate = new Date(0);
-  protected final Object replicationLock = new Object();
+  protected final Lock replicationLock = new ReentrantLock();
   private static List<OperationMetadata> EMPTY = new ArrayList<>();
   protected static AtomicInteger readStripingBase = new AtomicInteger(0);
   private int delayTimeInMiliSec;
@@ -190,7 +192,7 @@ public abstract class ReplicationInformerBase<T> implements IReplicationInformer
 
     Thread currentTask = failureCounter.getCheckDestination().get();
     if ((currentTask == null || !currentTask.isAlive()) && delayTimeInMiliSec > 0) {
-      Thread checkDestination = new Thread(new Runnable() {
+      Thread checkDestination = conventions.newThread(new Runnable() {
 
         @Override
         public void run() {
@@ -219,7 +221,7 @@ public abstract class ReplicationInformerBase<T> implements IReplicationInformer
             }
           }
         };
-      });
+      }, "Replication destination check");
 
       if (failureCounter.getCheckDestination().compareAndSet(currentTask, checkDestination)) {
         checkDestination.start();
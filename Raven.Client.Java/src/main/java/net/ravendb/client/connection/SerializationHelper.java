@@ -22,6 +22,7 @@ import net.ravendb.abstractions.json.linq.JTokenType;
 import net.ravendb.abstractions.json.linq.RavenJArray;
 import net.ravendb.abstractions.json.linq.RavenJObject;
 import net.ravendb.abstractions.json.linq.RavenJToken;
+import net.ravendb.abstractions.json.linq.RavenJTokenReader;
 import net.ravendb.abstractions.util.NetDateFormat;
 
 import org.apache.commons.lang.StringUtils;
@@ -32,10 +33,25 @@ import org.codehaus.jackson.map.type.ArrayType;
 import org.codehaus.jackson.map.type.MapType;
 import org.codehaus.jackson.map.type.SimpleType;
 import org.codehaus.jackson.map.type.TypeFactory;
+import org.codehaus.jackson.type.JavaType;
 
 
 public class SerializationHelper {
 
+  private static final ObjectMapper QUERY_RESULT_MAPPER = JsonExtensions.createDefaultJsonSerializer();
+  private static final JavaType TIMINGS_TYPE;
+  private static final JavaType HIGHLIGHTINGS_TYPE;
+  private static final JavaType SCORE_EXPLANATIONS_TYPE;
+
+  static {
+    TypeFactory typeFactory = QUERY_RESULT_MAPPER.getTypeFactory();
+    TIMINGS_TYPE = typeFactory.constructMapType(Map.class, SimpleType.construct(String.class), SimpleType.construct(Double.class));
+    ArrayType arrayType = typeFactory.constructArrayType(String.class);
+    MapType innerMapType = typeFactory.constructMapType(Map.class, SimpleType.construct(String.class), arrayType);
+    HIGHLIGHTINGS_TYPE = typeFactory.constructMapType(Map.class, SimpleType.construct(String.class), innerMapType);
+    SCORE_EXPLANATIONS_TYPE = typeFactory.constructMapType(Map.class, SimpleType.construct(String.class), SimpleType.construct(String.class));
+  }
+
   /**
    * Translate a collection of RavenJObject to JsonDocuments
    * @param responses
@@ -192,10 +208,7 @@ public class SerializationHelper {
       timings = new RavenJObject();
     }
     try {
-      ObjectMapper defaultJsonSerializer = JsonExtensions.createDefaultJsonSerializer();
-      TypeFactory typeFactory = defaultJsonSerializer.getTypeFactory();
-      MapType mapStringDouble = typeFactory.constructMapType(Map.class, SimpleType.construct(String.class), SimpleType.construct(Double.class));
-      result.setTimingsInMilliseconds((Map<String, Double>) defaultJsonSerializer.readValue(timings.toString(), mapStringDouble));
+      result.setTimingsInMilliseconds((Map<String, Double>) QUERY_RESULT_MAPPER.readValue(new RavenJTokenReader(timings), TIMINGS_TYPE));
 
       result.setResultSize(numberOfCharactersRead);
 
@@ -212,18 +225,12 @@ public class SerializationHelper {
         }
       }
 
-
-      ArrayType arrayType = typeFactory.constructArrayType(String.class);
-      MapType innerMapType = typeFactory.constructMapType(Map.class, SimpleType.construct(String.class), arrayType);
-      MapType mapType = typeFactory.constructMapType(Map.class, SimpleType.construct(String.class), innerMapType);
-      Map<String, Map<String, String[]>> readValue = defaultJsonSerializer.readValue(highlighings.toString(), mapType);
+      Map<String, Map<String, String[]>> readValue = QUERY_RESULT_MAPPER.readValue(new RavenJTokenReader(highlighings), HIGHLIGHTINGS_TYPE);
       result.setHighlightings(readValue);
 
-
-      if (json.value(RavenJObject.class, "ScoreExplanations") != null) {
-        Map<String, String> map = defaultJsonSerializer
-          .readValue(json.value(RavenJObject.class, "ScoreExplanations").toString(),
-            typeFactory.constructMapType(Map.class, SimpleType.construct(String.class), SimpleType.construct(String.class)));
+      RavenJObject scoreExplanations = json.value(RavenJObject.class, "ScoreExplanations");
+      if (scoreExplanations != null) {
+        Map<String, String> map = QUERY_RESULT_MAPPER.readValue(new RavenJTokenReader(scoreExplanations), SCORE_EXPLANATIONS_TYPE);
         result.setScoreExplanations(map);
       } else {
         result.setScoreExplanations(new HashMap<String, String>());
@@ -74,6 +74,7 @@ import net.ravendb.abstractions.indexing.IndexDefinition;
 import net.ravendb.abstractions.indexing.IndexMergeResults;
 import net.ravendb.abstractions.indexing.NumberUtil;
 import net.ravendb.abstractions.indexing.TransformerDefinition;
+import net.ravendb.abstractions.json.RavenJsonTextReader;
 import net.ravendb.abstractions.json.linq.JTokenType;
 import net.ravendb.abstractions.json.linq.RavenJArray;
 import net.ravendb.abstractions.json.linq.RavenJObject;
@@ -100,6 +101,7 @@ import net.ravendb.client.indexes.IndexDefinitionBuilder;
 import net.ravendb.client.listeners.IDocumentConflictListener;
 import net.ravendb.client.utils.UrlUtils;
 import net.ravendb.imports.json.JsonConvert;
+import net.ravendb.java.http.client.JsonHttpEntity;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
@@ -109,7 +111,6 @@ import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.util.EntityUtils;
-import org.codehaus.jackson.JsonFactory;
 import org.codehaus.jackson.JsonParser;
 import org.codehaus.jackson.JsonToken;
 import org.codehaus.jackson.map.JsonDeserializer;
@@ -157,6 +158,10 @@ public class ServerClient implements IDatabaseCommands {
     return credentialsThatShouldBeUsedOnlyInOperationsWithoutReplication;
   }
 
+  public DocumentConvention getConvention() {
+    return convention;
+  }
+
   public ServerClient(String url, DocumentConvention convention, OperationCredentials credentials,
     HttpJsonRequestFactory httpJsonRequestFactory, UUID sessionId,
     Function1<String, IDocumentStoreReplicationInformer> replicationInformerGetter,  String databaseName,
@@ -295,7 +300,7 @@ public class ServerClient implements IDatabaseCommands {
       webRequest.addOperationHeaders(operationsHeaders);
       webRequest.addReplicationStatusHeaders(url, operationMetadata.getUrl(), replicationInformer, convention.getFailoverBehavior(), new HandleReplicationStatusChangesCallback());
 
-      webRequest.write(JsonConvert.serializeObject(definition)); //we don't use default converters
+      webRequest.write(JsonHttpEntity.forObject(definition, JsonConvert.getObjectWriter())); //we don't use default converters
       RavenJToken responseJson = webRequest.readResponseJson();
       return responseJson.value(Boolean.class, "Changed");
     }
@@ -354,7 +359,7 @@ public class ServerClient implements IDatabaseCommands {
 
       ErrorResponseException responseException;
       try {
-        request.write(JsonConvert.serializeObject(definition)); //we don't use default converters
+        request.write(JsonHttpEntity.forObject(definition, JsonConvert.getObjectWriter())); //we don't use default converters
         RavenJToken responseJson = request.readResponseJson();
         return responseJson.value(String.class, "Index");
       } catch (ErrorResponseException e) {
@@ -416,7 +421,7 @@ public class ServerClient implements IDatabaseCommands {
 
       ErrorResponseException responseException;
       try {
-        request.write(JsonConvert.serializeObject(definition));
+        request.write(JsonHttpEntity.forObject(definition, JsonConvert.getObjectWriter()));
         RavenJObject responseJson = (RavenJObject) request.readResponseJson();
         return responseJson.value(String.class, "Transformer");
       } catch (BadRequestException e) {
@@ -661,7 +666,7 @@ public class ServerClient implements IDatabaseCommands {
 
       ErrorResponseException responseException;
       try {
-        jsonRequest.write(document.toString());
+        jsonRequest.write(document);
         RavenJObject responseJson = (RavenJObject) jsonRequest.readResponseJson();
 
         if (responseJson == null) {
@@ -758,7 +763,7 @@ public class ServerClient implements IDatabaseCommands {
         .addReplicationStatusHeaders(url, operationMetadata.getUrl(), replicationInformer, convention.getFailoverBehavior(), new HandleReplicationStatusChangesCallback())) {
         RavenJToken transformerDef = httpJsonRequest.readResponseJson();
         RavenJObject value = transformerDef.value(RavenJObject.class, "Transformer");
-        return convention.createSerializer().deserialize(value.toString(), TransformerDefinition.class);
+        return convention.createSerializer().deserialize(value, TransformerDefinition.class);
       }
     } catch (ErrorResponseException we) {
       if (we.getStatusCode() == HttpStatus.SC_NOT_FOUND) {
@@ -919,7 +924,7 @@ public class ServerClient implements IDatabaseCommands {
           new CreateHttpJsonRequestParams(this, path, HttpMethods.POST, metadata, operationMetadata.getCredentials(), convention)
           .addOperationHeaders(operationsHeaders))
           .addReplicationStatusHeaders(url, operationMetadata.getUrl(), replicationInformer, convention.getFailoverBehavior(), new HandleReplicationStatusChangesCallback());
-        request.write(RavenJToken.fromObject(uniqueIds).toString());
+        request.write(RavenJToken.fromObject(uniqueIds));
       }
 
       RavenJToken result = request.readResponseJson();
@@ -1038,19 +1043,19 @@ public class ServerClient implements IDatabaseCommands {
 
   @Override
   public Operation updateByIndex(String indexName, IndexQuery queryToUpdate, PatchRequest[] patchRequests, BulkOperationOptions options) {
-    RavenJArray array = new RavenJArray();
-    for (PatchRequest request: patchRequests) {
-      array.add(request.toJson());
-    }
-
-    String requestData = array.toString();
+    JsonHttpEntity requestData = JsonHttpEntity.forArray(Arrays.asList(patchRequests), new Function1<PatchRequest, RavenJObject>() {
+      @Override
+      public RavenJObject apply(PatchRequest request) {
+        return request.toJson();
+      }
+    });
     BulkOperationOptions notNullOptions = (options != null) ? options : new BulkOperationOptions();
     return updateByIndexImpl(indexName, queryToUpdate, notNullOptions, requestData, HttpMethods.PATCH);
   }
 
   @Override
   public Operation updateByIndex(String indexName, IndexQuery queryToUpdate, ScriptedPatchRequest patch, BulkOperationOptions options) {
-    String requestData = RavenJObject.fromObject(patch).toString();
+    JsonHttpEntity requestData = JsonHttpEntity.forToken(RavenJObject.fromObject(patch));
     BulkOperationOptions notNullOptions = (options != null) ? options : new BulkOperationOptions();
     return updateByIndexImpl(indexName, queryToUpdate, notNullOptions, requestData, HttpMethods.EVAL);
   }
@@ -1119,7 +1124,7 @@ public class ServerClient implements IDatabaseCommands {
     }
   }
 
-  private Operation updateByIndexImpl(final String indexName, final IndexQuery queryToUpdate, final BulkOperationOptions options, final String requestData, final HttpMethods method) {
+  private Operation updateByIndexImpl(final String indexName, final IndexQuery queryToUpdate, final BulkOperationOptions options, final JsonHttpEntity requestData, final HttpMethods method) {
     return executeWithReplication(method, new Function1<OperationMetadata, Operation>() {
       @Override
       public Operation apply(OperationMetadata operationMetadata) {
@@ -1128,7 +1133,7 @@ public class ServerClient implements IDatabaseCommands {
     });
   }
 
-  protected Operation directUpdateByIndexImpl(OperationMetadata operationMetadata, String indexName, IndexQuery queryToUpdate, BulkOperationOptions options, String requestData, HttpMethods method) {
+  protected Operation directUpdateByIndexImpl(OperationMetadata operationMetadata, String indexName, IndexQuery queryToUpdate, BulkOperationOptions options, JsonHttpEntity requestData, HttpMethods method) {
     BulkOperationOptions notNullOptions = (options != null) ? options : new BulkOperationOptions();
     String path = queryToUpdate.getIndexQueryUrl(operationMetadata.getUrl(), indexName, "bulk_docs")
        + "&allowStale=" + notNullOptions.isAllowStale() + "&maxOpsPerSec=" + notNullOptions.getMaxOpsPerSec()
@@ -1155,6 +1160,14 @@ public class ServerClient implements IDatabaseCommands {
     }
   }
 
+  private static String postedData(JsonHttpEntity requestData) {
+    try {
+      return IOUtils.toString(requestData.getContent(), "UTF-8");
+    } catch (IOException e) {
+      return "(unavailable: " + e.getMessage() + ")";
+    }
+  }
+
   @Override
   public FacetResults getFacets(final String index, final IndexQuery query, final String facetSetupDoc) {
     return getFacets(index, query, facetSetupDoc, 0, null);
@@ -1198,7 +1211,7 @@ public class ServerClient implements IDatabaseCommands {
       request.setSkipServerCheck(cachedRequestDetails.isSkipServerCheck());
 
       RavenJObject json = (RavenJObject)request.readResponseJson();
-      return convention.createSerializer().deserialize(json.toString(), FacetResults.class);
+      return convention.createSerializer().deserialize(json, FacetResults.class);
     }
   }
 
@@ -1442,14 +1455,12 @@ public class ServerClient implements IDatabaseCommands {
         GetRequest[] requestsForServer =
           multiGetOperation.preparingForCachingRequest(jsonRequestFactory);
 
-        String postedData = JsonConvert.serializeObject(requestsForServer);
-
-        if (multiGetOperation.canFullyCache(jsonRequestFactory, httpJsonRequest, postedData)) {
+        if (multiGetOperation.canFullyCache(jsonRequestFactory, httpJsonRequest, requestsForServer)) {
           return multiGetOperation.handleCachingResponse(new GetResponse[requests.length],
             jsonRequestFactory);
         }
 
-        httpJsonRequest.write(postedData);
+        httpJsonRequest.write(JsonHttpEntity.forObject(requestsForServer, JsonConvert.getObjectWriter()));
         RavenJArray results = (RavenJArray)httpJsonRequest.readResponseJson();
 
         GetResponse[] responses = convention.createSerializer().deserialize(results, GetResponse[].class);
@@ -1656,18 +1667,21 @@ public class ServerClient implements IDatabaseCommands {
       .addOperationHeaders(operationsHeaders))
       .addReplicationStatusHeaders(url, operationMetadata.getUrl(), replicationInformer, convention.getFailoverBehavior(), new HandleReplicationStatusChangesCallback())) {
 
-      RavenJArray jArray = new RavenJArray();
-      for (ICommandData command: commandDatas) {
-        jArray.add(command.toJson());
-      }
+      // commands are converted to json one at a time, while request body is written
+      JsonHttpEntity requestData = JsonHttpEntity.forArray(commandDatas, new Function1<ICommandData, RavenJObject>() {
+        @Override
+        public RavenJObject apply(ICommandData command) {
+          return command.toJson();
+        }
+      });
 
       ErrorResponseException responseException;
       try {
-        req.write(jArray.toString());
+        req.write(requestData);
         RavenJArray response = (RavenJArray)req.readResponseJson();
 
         if (response == null) {
-          throw new IllegalStateException("Got null response from the server after doing a batch, something is very wrong. Probably a garbled response. Posted: " + jArray);
+          throw new IllegalStateException("Got null response from the server after doing a batch, something is very wrong. Probably a garbled response. Posted: " + postedData(requestData));
         }
         return JsonConvert.deserializeObject(BatchResult[].class, response.toString());
       } catch (ErrorResponseException e) {
@@ -1985,11 +1999,11 @@ public class ServerClient implements IDatabaseCommands {
     return yieldStreamResults(response);
   }
 
-  private static RavenJObjectIterator yieldStreamResults(final CloseableHttpResponse webResponse) {
+  private RavenJObjectIterator yieldStreamResults(final CloseableHttpResponse webResponse) {
     HttpEntity httpEntity = webResponse.getEntity();
     try {
       InputStream stream = httpEntity.getContent();
-      JsonParser jsonParser = new JsonFactory().createJsonParser(stream);
+      JsonParser jsonParser = RavenJsonTextReader.getInstance().createJsonParser(stream);
       if (jsonParser.nextToken() == null || jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
         throw new IllegalStateException("Unexpected data at start of stream");
       }
@@ -2000,7 +2014,7 @@ public class ServerClient implements IDatabaseCommands {
         throw new IllegalStateException("Unexpected data at 'Results', could not find start results array");
       }
 
-      return new RavenJObjectIterator(webResponse, jsonParser);
+      return new RavenJObjectIterator(webResponse, jsonParser, convention.getMaxBytesToDrainOnStreamClose(), jsonRequestFactory);
     } catch (IOException e) {
       throw new JsonReaderException(e);
     }
@@ -2016,6 +2030,18 @@ public class ServerClient implements IDatabaseCommands {
     return streamDocs(fromEtag, null, null, 0, Integer.MAX_VALUE, null);
   }
 
+  @Override
+  public RavenJObjectIterator streamDocs(final Etag fromEtag, final Reference<String> serverUrl) {
+    return executeWithReplication(HttpMethods.GET, new Function1<OperationMetadata, RavenJObjectIterator>() {
+      @Override
+      public RavenJObjectIterator apply(OperationMetadata operationMetadata) {
+        RavenJObjectIterator iterator = directStreamDocs(operationMetadata, fromEtag, null, null, 0, Integer.MAX_VALUE, null, null, null);
+        serverUrl.value = operationMetadata.getUrl();
+        return iterator;
+      }
+    });
+  }
+
   @Override
   public RavenJObjectIterator streamDocs(Etag fromEtag, String startsWith) {
     return streamDocs(fromEtag, startsWith, null, 0, Integer.MAX_VALUE, null);
@@ -2062,7 +2088,7 @@ public class ServerClient implements IDatabaseCommands {
     if (fromEtag != null && startsWith != null)
       throw new IllegalArgumentException("Either fromEtag or startsWith must be null, you can't specify both");
 
-    StringBuilder sb = new StringBuilder(url).append("/streams/docs?");
+    StringBuilder sb = new StringBuilder(operationMetadata.getUrl()).append("/streams/docs?");
 
     if (fromEtag != null) {
       sb.append("etag=")
@@ -2103,9 +2129,9 @@ public class ServerClient implements IDatabaseCommands {
     }
 
     HttpJsonRequest request = jsonRequestFactory.createHttpJsonRequest(
-      new CreateHttpJsonRequestParams(this, sb.toString(), HttpMethods.GET, new RavenJObject(), credentialsThatShouldBeUsedOnlyInOperationsWithoutReplication, convention)
+      new CreateHttpJsonRequestParams(this, sb.toString(), HttpMethods.GET, new RavenJObject(), operationMetadata.getCredentials(), convention)
       .addOperationHeaders(operationsHeaders))
-      .addReplicationStatusHeaders(url, url, replicationInformer, convention.getFailoverBehavior(), new HandleReplicationStatusChangesCallback());
+      .addReplicationStatusHeaders(url, operationMetadata.getUrl(), replicationInformer, convention.getFailoverBehavior(), new HandleReplicationStatusChangesCallback());
 
     request.removeAuthorizationHeader();
     String token = getSingleAuthToken(operationMetadata);
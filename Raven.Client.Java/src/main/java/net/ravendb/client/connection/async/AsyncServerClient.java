@@ -0,0 +1,180 @@
+package net.ravendb.client.connection.async;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import net.ravendb.abstractions.basic.CloseableIterator;
+import net.ravendb.abstractions.basic.CompletionFuture;
+import net.ravendb.abstractions.basic.Reference;
+import net.ravendb.abstractions.commands.ICommandData;
+import net.ravendb.abstractions.data.BatchResult;
+import net.ravendb.abstractions.data.DatabaseStatistics;
+import net.ravendb.abstractions.data.Etag;
+import net.ravendb.abstractions.data.GetRequest;
+import net.ravendb.abstractions.data.GetResponse;
+import net.ravendb.abstractions.data.IndexQuery;
+import net.ravendb.abstractions.data.JsonDocument;
+import net.ravendb.abstractions.data.MultiLoadResult;
+import net.ravendb.abstractions.data.PutResult;
+import net.ravendb.abstractions.data.QueryHeaderInformation;
+import net.ravendb.abstractions.data.QueryResult;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJToken;
+import net.ravendb.client.connection.IDatabaseCommands;
+
+/**
+ * Offloads blocking database commands to executor, so caller thread is not blocked while waiting for server.
+ * Commands still run on blocking http client: every pending operation holds executor thread until response is read.
+ */
+public class AsyncServerClient implements IAsyncDatabaseCommands {
+
+  private final IDatabaseCommands commands;
+  private final Executor executor;
+
+  public AsyncServerClient(IDatabaseCommands commands, Executor executor) {
+    this.commands = commands;
+    this.executor = executor;
+  }
+
+  @Override
+  public IDatabaseCommands getSyncCommands() {
+    return commands;
+  }
+
+  protected <T> CompletionFuture<T> submit(Callable<T> callable) {
+    CompletionFuture<T> future = new CompletionFuture<>(callable);
+    executor.execute(future);
+    return future;
+  }
+
+  @Override
+  public CompletionFuture<JsonDocument> getAsync(final String key) {
+    return submit(new Callable<JsonDocument>() {
+      @Override
+      public JsonDocument call() {
+        return commands.get(key);
+      }
+    });
+  }
+
+  @Override
+  public CompletionFuture<MultiLoadResult> getAsync(final String[] ids, final String[] includes) {
+    return submit(new Callable<MultiLoadResult>() {
+      @Override
+      public MultiLoadResult call() {
+        return commands.get(ids, includes);
+      }
+    });
+  }
+
+  @Override
+  public CompletionFuture<MultiLoadResult> getAsync(final String[] ids, final String[] includes, final String transformer,
+    final Map<String, RavenJToken> transformerParameters, final boolean metadataOnly) {
+    return submit(new Callable<MultiLoadResult>() {
+      @Override
+      public MultiLoadResult call() {
+        return commands.get(ids, includes, transformer, transformerParameters, metadataOnly);
+      }
+    });
+  }
+
+  @Override
+  public CompletionFuture<PutResult> putAsync(final String key, final Etag etag, final RavenJObject document, final RavenJObject metadata) {
+    return submit(new Callable<PutResult>() {
+      @Override
+      public PutResult call() {
+        return commands.put(key, etag, document, metadata);
+      }
+    });
+  }
+
+  @Override
+  public CompletionFuture<Void> deleteAsync(final String key, final Etag etag) {
+    return submit(new Callable<Void>() {
+      @Override
+      public Void call() {
+        commands.delete(key, etag);
+        return null;
+      }
+    });
+  }
+
+  @Override
+  public CompletionFuture<QueryResult> queryAsync(String index, IndexQuery query) {
+    return queryAsync(index, query, null);
+  }
+
+  @Override
+  public CompletionFuture<QueryResult> queryAsync(final String index, final IndexQuery query, final String[] includes) {
+    return submit(new Callable<QueryResult>() {
+      @Override
+      public QueryResult call() {
+        return commands.query(index, query, includes);
+      }
+    });
+  }
+
+  @Override
+  public CompletionFuture<BatchResult[]> batchAsync(final List<ICommandData> commandDatas) {
+    return submit(new Callable<BatchResult[]>() {
+      @Override
+      public BatchResult[] call() {
+        return commands.batch(commandDatas);
+      }
+    });
+  }
+
+  @Override
+  public CompletionFuture<GetResponse[]> multiGetAsync(final GetRequest[] requests) {
+    return submit(new Callable<GetResponse[]>() {
+      @Override
+      public GetResponse[] call() {
+        return commands.multiGet(requests);
+      }
+    });
+  }
+
+  @Override
+  public CompletionFuture<CloseableIterator<RavenJObject>> streamQueryAsync(final String index, final IndexQuery query,
+    final Reference<QueryHeaderInformation> queryHeaderInfo) {
+    return submit(new Callable<CloseableIterator<RavenJObject>>() {
+      @Override
+      public CloseableIterator<RavenJObject> call() {
+        return commands.streamQuery(index, query, queryHeaderInfo);
+      }
+    });
+  }
+
+  @Override
+  public CompletionFuture<CloseableIterator<RavenJObject>> streamDocsAsync(final Etag fromEtag, final String startsWith) {
+    return submit(new Callable<CloseableIterator<RavenJObject>>() {
+      @Override
+      public CloseableIterator<RavenJObject> call() {
+        return commands.streamDocs(fromEtag, startsWith);
+      }
+    });
+  }
+
+  @Override
+  public CompletionFuture<DatabaseStatistics> getStatisticsAsync() {
+    return submit(new Callable<DatabaseStatistics>() {
+      @Override
+      public DatabaseStatistics call() {
+        return commands.getStatistics();
+      }
+    });
+  }
+
+  @Override
+  public IAsyncDatabaseCommands forDatabase(String database) {
+    return new AsyncServerClient(commands.forDatabase(database), executor);
+  }
+
+  @Override
+  public IAsyncDatabaseCommands forSystemDatabase() {
+    return new AsyncServerClient(commands.forSystemDatabase(), executor);
+  }
+
+}
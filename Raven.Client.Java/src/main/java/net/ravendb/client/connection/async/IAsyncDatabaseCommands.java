@@ -0,0 +1,133 @@
+package net.ravendb.client.connection.async;
+
+import java.util.List;
+import java.util.Map;
+
+import net.ravendb.abstractions.basic.CloseableIterator;
+import net.ravendb.abstractions.basic.CompletionFuture;
+import net.ravendb.abstractions.basic.Reference;
+import net.ravendb.abstractions.commands.ICommandData;
+import net.ravendb.abstractions.data.BatchResult;
+import net.ravendb.abstractions.data.DatabaseStatistics;
+import net.ravendb.abstractions.data.Etag;
+import net.ravendb.abstractions.data.GetRequest;
+import net.ravendb.abstractions.data.GetResponse;
+import net.ravendb.abstractions.data.IndexQuery;
+import net.ravendb.abstractions.data.JsonDocument;
+import net.ravendb.abstractions.data.MultiLoadResult;
+import net.ravendb.abstractions.data.PutResult;
+import net.ravendb.abstractions.data.QueryHeaderInformation;
+import net.ravendb.abstractions.data.QueryResult;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJToken;
+import net.ravendb.client.connection.IDatabaseCommands;
+
+/**
+ * Asynchronous counterpart of IDatabaseCommands. Operations are blocking calls offloaded to document store executor,
+ * they share http cache, replication informer and conventions with synchronous commands.
+ */
+public interface IAsyncDatabaseCommands {
+
+  /**
+   * Synchronous commands used to execute operations.
+   */
+  public IDatabaseCommands getSyncCommands();
+
+  /**
+   * Retrieve a single document for a specified key.
+   * @param key Key of the document you want to retrieve
+   */
+  public CompletionFuture<JsonDocument> getAsync(String key);
+
+  /**
+   * Retrieves documents with the specified ids, optionally specifying includes to fetch along.
+   * @param ids Array of keys of the documents you want to retrieve
+   * @param includes Array of paths in documents in which server should look for a 'referenced' document
+   */
+  public CompletionFuture<MultiLoadResult> getAsync(String[] ids, String[] includes);
+
+  /**
+   * Retrieves documents with the specified ids, optionally specifying includes to fetch along and also optionally the transformer.
+   * @param ids Array of keys of the documents you want to retrieve
+   * @param includes Array of paths in documents in which server should look for a 'referenced' document
+   * @param transformer Name of a transformer that should be used to transform the results
+   * @param transformerParameters Parameters that will be passed to transformer
+   * @param metadataOnly Specifies if only document metadata should be returned
+   */
+  public CompletionFuture<MultiLoadResult> getAsync(String[] ids, String[] includes, String transformer, Map<String, RavenJToken> transformerParameters, boolean metadataOnly);
+
+  /**
+   * Puts the document in the database with the specified key.
+   * @param key Unique key under which document will be stored
+   * @param etag Current document etag, used for concurrency checks (null to skip check)
+   * @param document Document data
+   * @param metadata Document metadata
+   */
+  public CompletionFuture<PutResult> putAsync(String key, Etag etag, RavenJObject document, RavenJObject metadata);
+
+  /**
+   * Deletes the document with the specified key
+   * @param key Key of a document to delete
+   * @param etag Current document etag, used for concurrency checks (null to skip check)
+   */
+  public CompletionFuture<Void> deleteAsync(String key, Etag etag);
+
+  /**
+   * Queries the specified index.
+   * @param index Name of an index to query
+   * @param query Query definition containing all information required to query a specified index
+   */
+  public CompletionFuture<QueryResult> queryAsync(String index, IndexQuery query);
+
+  /**
+   * Queries the specified index.
+   * @param index Name of an index to query
+   * @param query Query definition containing all information required to query a specified index
+   * @param includes Array of paths in documents in which server should look for a 'referenced' document
+   */
+  public CompletionFuture<QueryResult> queryAsync(String index, IndexQuery query, String[] includes);
+
+  /**
+   * Executes the set of commands in a single transaction.
+   * @param commandDatas Commands to process
+   */
+  public CompletionFuture<BatchResult[]> batchAsync(List<ICommandData> commandDatas);
+
+  /**
+   * Perform a set of get requests in a single roundtrip.
+   * @param requests Requests to execute
+   */
+  public CompletionFuture<GetResponse[]> multiGetAsync(GetRequest[] requests);
+
+  /**
+   * Queries the specified index and streams the results. Iterator is returned as soon as response headers are read.
+   * @param index Name of an index to query
+   * @param query Query definition containing all information required to query a specified index
+   * @param queryHeaderInfo Information about performed query
+   */
+  public CompletionFuture<CloseableIterator<RavenJObject>> streamQueryAsync(String index, IndexQuery query, Reference<QueryHeaderInformation> queryHeaderInfo);
+
+  /**
+   * Streams the documents by etag OR starts with the prefix.
+   * @param fromEtag ETag of a document from which stream should start (mutually exclusive with 'startsWith')
+   * @param startsWith Prefix for which documents should be returned
+   */
+  public CompletionFuture<CloseableIterator<RavenJObject>> streamDocsAsync(Etag fromEtag, String startsWith);
+
+  /**
+   * Retrieves database statistics.
+   */
+  public CompletionFuture<DatabaseStatistics> getStatisticsAsync();
+
+  /**
+   * Creates async commands for given database.
+   * @param database
+   */
+  public IAsyncDatabaseCommands forDatabase(String database);
+
+  /**
+   * Creates async commands for system database.
+   */
+  public IAsyncDatabaseCommands forSystemDatabase();
+
+}
@@ -47,6 +47,7 @@ import net.ravendb.client.document.RemoteBulkInsertOperation.BulkInsertEntity;
 import net.ravendb.java.http.client.GzipHttpEntity;
 import net.ravendb.java.http.client.HttpEval;
 import net.ravendb.java.http.client.HttpReset;
+import net.ravendb.java.http.client.JsonHttpEntity;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
@@ -100,6 +101,7 @@ public class HttpJsonRequest implements AutoCloseable {
   private final Convention conventions;
   private boolean disabledAuthRetries;
   private String postedData;
+  private JsonHttpEntity postedEntity;
   private boolean isRequestSendToServer;
 
   boolean shouldCacheRequest;
@@ -183,16 +185,19 @@ public class HttpJsonRequest implements AutoCloseable {
     if (skipServerCheck) {
       RavenJToken result = factory.getCachedResponse(this, null);
 
-      RequestResultArgs args = new RequestResultArgs();
-      args.setDurationMilliseconds(calculateDuration());
-      args.setMethod(method);
-      args.setHttpResult(responseStatusCode);
-      args.setStatus(RequestStatus.AGGRESSIVELY_CACHED);
-      args.setResult(result.toString());
-      args.setUrl(url);
-      args.setPostedData(postedData);
-
-      factory.invokeLogRequest(owner, args);
+      if (factory.hasLogRequestEventHandlers()) {
+        RequestResultArgs args = new RequestResultArgs();
+        args.setDurationMilliseconds(calculateDuration());
+        args.setMethod(method);
+        args.setHttpResult(responseStatusCode);
+        args.setStatus(RequestStatus.AGGRESSIVELY_CACHED);
+        args.setResult(result);
+        args.setUrl(url);
+        args.setPostedData(getPostedData());
+
+        factory.invokeLogRequest(owner, args);
+        result = snapshotOf(result);
+      }
 
       return result;
     }
@@ -310,16 +315,18 @@ public class HttpJsonRequest implements AutoCloseable {
     if (response.getStatusLine().getStatusCode() == HttpStatus.SC_UNAUTHORIZED ||
       response.getStatusLine().getStatusCode() == HttpStatus.SC_NOT_FOUND ||
       response.getStatusLine().getStatusCode() == HttpStatus.SC_CONFLICT) {
-      RequestResultArgs requestResultArgs = new RequestResultArgs();
-      requestResultArgs.setDurationMilliseconds(calculateDuration());
-      requestResultArgs.setMethod(method);
-      requestResultArgs.setHttpResult(response.getStatusLine().getStatusCode());
-      requestResultArgs.setStatus(RequestStatus.ERROR_ON_SERVER);
-      requestResultArgs.setResult(response.getStatusLine().getReasonPhrase());
-      requestResultArgs.setUrl(url);
-      requestResultArgs.setPostedData(postedData);
-
-      factory.invokeLogRequest(owner, requestResultArgs);
+      if (factory.hasLogRequestEventHandlers()) {
+        RequestResultArgs requestResultArgs = new RequestResultArgs();
+        requestResultArgs.setDurationMilliseconds(calculateDuration());
+        requestResultArgs.setMethod(method);
+        requestResultArgs.setHttpResult(response.getStatusLine().getStatusCode());
+        requestResultArgs.setStatus(RequestStatus.ERROR_ON_SERVER);
+        requestResultArgs.setResult(response.getStatusLine().getReasonPhrase());
+        requestResultArgs.setUrl(url);
+        requestResultArgs.setPostedData(getPostedData());
+
+        factory.invokeLogRequest(owner, requestResultArgs);
+      }
 
       throw ErrorResponseException.fromResponseMessage(response, readErrorString);
     }
@@ -329,14 +336,17 @@ public class HttpJsonRequest implements AutoCloseable {
       RavenJToken result = factory.getCachedResponse(this, responseHeaders);
       handleReplicationStatusChanges.apply(responseHeaders, primaryUrl, operationUrl);
 
-      RequestResultArgs requestResultArgs = new RequestResultArgs();
-      requestResultArgs.setDurationMilliseconds(calculateDuration());
-      requestResultArgs.setMethod(method);
-      requestResultArgs.setStatus(RequestStatus.CACHED);
-      requestResultArgs.setResult(result.toString());
-      requestResultArgs.setUrl(url);
-      requestResultArgs.setPostedData(postedData);
-      factory.invokeLogRequest(owner, requestResultArgs);
+      if (factory.hasLogRequestEventHandlers()) {
+        RequestResultArgs requestResultArgs = new RequestResultArgs();
+        requestResultArgs.setDurationMilliseconds(calculateDuration());
+        requestResultArgs.setMethod(method);
+        requestResultArgs.setStatus(RequestStatus.CACHED);
+        requestResultArgs.setResult(result);
+        requestResultArgs.setUrl(url);
+        requestResultArgs.setPostedData(getPostedData());
+        factory.invokeLogRequest(owner, requestResultArgs);
+        result = snapshotOf(result);
+      }
 
       return result;
     }
@@ -351,15 +361,17 @@ public class HttpJsonRequest implements AutoCloseable {
       }
     }
 
-    RequestResultArgs requestResultArgs = new RequestResultArgs();
-    requestResultArgs.setDurationMilliseconds(calculateDuration());
-    requestResultArgs.setMethod(method);
-    requestResultArgs.setHttpResult(response.getStatusLine().getStatusCode());
-    requestResultArgs.setStatus(RequestStatus.CACHED);
-    requestResultArgs.setResult(readToEnd);
-    requestResultArgs.setUrl(url);
-    requestResultArgs.setPostedData(postedData);
-    factory.invokeLogRequest(owner, requestResultArgs);
+    if (factory.hasLogRequestEventHandlers()) {
+      RequestResultArgs requestResultArgs = new RequestResultArgs();
+      requestResultArgs.setDurationMilliseconds(calculateDuration());
+      requestResultArgs.setMethod(method);
+      requestResultArgs.setHttpResult(response.getStatusLine().getStatusCode());
+      requestResultArgs.setStatus(RequestStatus.CACHED);
+      requestResultArgs.setResult(readToEnd);
+      requestResultArgs.setUrl(url);
+      requestResultArgs.setPostedData(getPostedData());
+      factory.invokeLogRequest(owner, requestResultArgs);
+    }
 
     if (StringUtils.isBlank(readToEnd)) {
       throw ErrorResponseException.fromResponseMessage(response, true);
@@ -465,16 +477,19 @@ public class HttpJsonRequest implements AutoCloseable {
         factory.cacheResponse(url, data, responseHeaders);
       }
 
-      RequestResultArgs args = new RequestResultArgs();
-      args.setDurationMilliseconds(calculateDuration());
-      args.setMethod(method);
-      args.setHttpResult(responseStatusCode);
-      args.setStatus(RequestStatus.SEND_TO_SERVER);
-      args.setResult((data != null) ? data.toString() : "");
-      args.setUrl(url);
-      args.setPostedData(postedData);
-
-      factory.invokeLogRequest(owner, args);
+      if (factory.hasLogRequestEventHandlers()) {
+        RequestResultArgs args = new RequestResultArgs();
+        args.setDurationMilliseconds(calculateDuration());
+        args.setMethod(method);
+        args.setHttpResult(responseStatusCode);
+        args.setStatus(RequestStatus.SEND_TO_SERVER);
+        args.setResult(data);
+        args.setUrl(url);
+        args.setPostedData(getPostedData());
+
+        factory.invokeLogRequest(owner, args);
+        data = snapshotOf(data);
+      }
 
       return data;
     } catch (IOException e) {
@@ -482,6 +497,13 @@ public class HttpJsonRequest implements AutoCloseable {
     }
   }
 
+  /**
+   * Logged result is read-only, caller gets its snapshot.
+   */
+  private static RavenJToken snapshotOf(RavenJToken loggedResult) {
+    return loggedResult != null ? loggedResult.createSnapshot() : null;
+  }
+
   public HttpJsonRequest addOperationHeaders(Map<String, String> operationsHeaders) {
     for (Entry<String, String> header : operationsHeaders.entrySet()) {
       headers.put(header.getKey(), header.getValue());
@@ -584,7 +606,7 @@ public class HttpJsonRequest implements AutoCloseable {
             public void apply() {
               Closeables.closeQuietly(response);
             }
-          });
+          }, conventions);
           observableLineStream.start();
           return observableLineStream;
         } catch (IOException e) {
@@ -615,6 +637,31 @@ public class HttpJsonRequest implements AutoCloseable {
 
   public void write(final String data) {
     postedData = data;
+    postedEntity = null;
+    StringEntity entity = new StringEntity(data, ContentType.APPLICATION_JSON);
+    entity.setChunked(true);
+    writeEntity(entity);
+  }
+
+  /**
+   * Writes token directly to request stream (without building request body as string).
+   * @param data
+   */
+  public void write(RavenJToken data) {
+    write(JsonHttpEntity.forToken(data));
+  }
+
+  /**
+   * Writes json entity directly to request stream (without building request body as string).
+   * @param entity
+   */
+  public void write(JsonHttpEntity entity) {
+    postedData = null;
+    postedEntity = entity;
+    writeEntity(entity);
+  }
+
+  private void writeEntity(final HttpEntity innerEntity) {
     writeCalled = true;
 
     sendRequestInternal(new Function0<HttpUriRequest>() {
@@ -624,8 +671,6 @@ public class HttpJsonRequest implements AutoCloseable {
         HttpUriRequest request = createWebRequest(url, method);
         HttpEntityEnclosingRequestBase requestMethod = (HttpEntityEnclosingRequestBase) request;
         HttpEntity entity = null;
-        StringEntity innerEntity = new StringEntity(data, ContentType.APPLICATION_JSON);
-        innerEntity.setChunked(true);
         if (factory.isDisableRequestCompression()) {
           entity = innerEntity;
         } else {
@@ -637,6 +682,20 @@ public class HttpJsonRequest implements AutoCloseable {
     }, true);
   }
 
+  /**
+   * Returns posted data for request logging. Streamed entities are serialized only when needed.
+   */
+  private String getPostedData() {
+    if (postedData == null && postedEntity != null) {
+      try {
+        postedData = IOUtils.toString(postedEntity.getContent(), "UTF-8");
+      } catch (IOException e) {
+        throw new JsonWriterException(e.getMessage(), e);
+      }
+    }
+    return postedData;
+  }
+
   public CloseableHttpResponse executeRawResponse(String data) throws IOException {
     return executeRawResponseInternal(new StringEntity(data));
   }
@@ -1,11 +1,18 @@
 package net.ravendb.client.connection.implementation;
 
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import net.ravendb.abstractions.basic.CleanCloseable;
 import net.ravendb.abstractions.basic.EventHandler;
@@ -16,19 +23,28 @@ import net.ravendb.abstractions.data.Constants;
 import net.ravendb.abstractions.json.linq.RavenJToken;
 import net.ravendb.client.connection.CachedRequest;
 import net.ravendb.client.connection.CachedRequestOp;
+import net.ravendb.client.connection.ConnectionPoolOptions;
 import net.ravendb.client.connection.CreateHttpJsonRequestParams;
+import net.ravendb.client.connection.HttpCacheStorageMode;
 import net.ravendb.client.connection.profiling.IHoldProfilingInformation;
 import net.ravendb.client.connection.profiling.RequestResultArgs;
+import net.ravendb.client.document.Convention;
 import net.ravendb.client.extensions.MultiDatabase;
+import net.ravendb.client.util.CacheStatistics;
+import net.ravendb.client.util.ConnectionPoolStatistics;
+import net.ravendb.client.util.ObjectSizeEstimator;
 import net.ravendb.client.util.SimpleCache;
 
 import org.apache.commons.lang.StringUtils;
+import org.apache.http.HttpHost;
 import org.apache.http.HttpStatus;
 import org.apache.http.config.SocketConfig;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.client.StandardHttpRequestRetryHandler;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 
 import com.google.common.io.Closeables;
 
@@ -41,14 +57,21 @@ public class HttpJsonRequestFactory implements AutoCloseable {
 
   private CloseableHttpClient httpClient;
 
+  private final PoolingHttpClientConnectionManager connectionManager;
+
+  private ScheduledExecutorService connectionEvictionExecutor;
+
   private List<EventHandler<WebRequestEventArgs>> configureRequest = new ArrayList<>();
 
-  private List<EventHandler<RequestResultArgs>> logRequest = new ArrayList<>();
+  private List<EventHandler<RequestResultArgs>> logRequest = new CopyOnWriteArrayList<>();
 
   private final int maxNumberOfCachedRequests;
+  private final long maxCacheSizeInBytes;
   private SimpleCache cache;
   private final boolean acceptGzipContent;
   protected AtomicInteger numOfCachedRequests = new AtomicInteger();
+  private final AtomicLong numOfDrainedStreams = new AtomicLong();
+  private final AtomicLong numOfAbortedStreams = new AtomicLong();
   protected int numOfCacheResets;
   private boolean disableRequestCompression;
   private boolean enableBasicAuthenticationOverUnsecuredHttpEvenThoughPasswordsWouldBeSentOverTheWireInClearTextToBeStolenByHackers;
@@ -56,6 +79,8 @@ public class HttpJsonRequestFactory implements AutoCloseable {
   private ThreadLocal<Boolean> disableHttpCaching = new ThreadLocal<>();
   private volatile boolean disposed;
   private ThreadLocal<Long> requestTimeout=  new ThreadLocal<>();// in milis
+  private volatile HttpCacheStorageMode cacheStorageMode = HttpCacheStorageMode.TOKENS;
+  private volatile boolean compressCachedResponses;
 
 
   public HttpJsonRequestFactory(int maxNumberOfCachedRequests) {
@@ -63,16 +88,83 @@ public class HttpJsonRequestFactory implements AutoCloseable {
   }
 
   public HttpJsonRequestFactory(int maxNumberOfCachedRequests, boolean acceptGzipContent) {
+    this(maxNumberOfCachedRequests, Long.MAX_VALUE, acceptGzipContent);
+  }
+
+  public HttpJsonRequestFactory(int maxNumberOfCachedRequests, long maxCacheSizeInBytes, boolean acceptGzipContent) {
+    this(maxNumberOfCachedRequests, maxCacheSizeInBytes, acceptGzipContent, new ConnectionPoolOptions());
+  }
+
+  public HttpJsonRequestFactory(int maxNumberOfCachedRequests, long maxCacheSizeInBytes, boolean acceptGzipContent, ConnectionPoolOptions poolOptions) {
+    this(maxNumberOfCachedRequests, maxCacheSizeInBytes, acceptGzipContent, poolOptions, new Convention());
+  }
+
+  /**
+   * @param conventions used to create connection eviction thread
+   */
+  public HttpJsonRequestFactory(int maxNumberOfCachedRequests, long maxCacheSizeInBytes, boolean acceptGzipContent, ConnectionPoolOptions poolOptions,
+    Convention conventions) {
     super();
     this.acceptGzipContent = acceptGzipContent;
 
-    PoolingHttpClientConnectionManager cm = new PoolingHttpClientConnectionManager();
-    cm.setDefaultMaxPerRoute(10);
-    this.httpClient = HttpClients.custom().setConnectionManager(cm).setRetryHandler(new StandardHttpRequestRetryHandler(0, false))
+    connectionManager = new PoolingHttpClientConnectionManager(poolOptions.getConnectionTimeToLive(), TimeUnit.MILLISECONDS);
+    connectionManager.setMaxTotal(poolOptions.getMaxTotal());
+    connectionManager.setDefaultMaxPerRoute(poolOptions.getMaxPerRoute());
+    this.httpClient = HttpClients.custom().setConnectionManager(connectionManager).setRetryHandler(new StandardHttpRequestRetryHandler(0, false))
       .setDefaultSocketConfig(SocketConfig.custom().setTcpNoDelay(true).build()).
       build();
     this.maxNumberOfCachedRequests = maxNumberOfCachedRequests;
+    this.maxCacheSizeInBytes = maxCacheSizeInBytes;
     resetCache();
+
+    if (poolOptions.isEvictionEnabled()) {
+      startConnectionEviction(poolOptions, conventions);
+    }
+  }
+
+  private void startConnectionEviction(ConnectionPoolOptions poolOptions, final Convention conventions) {
+    final long maxIdleTime = poolOptions.getMaxIdleTime();
+    connectionEvictionExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread = conventions.newThread(r, "RavenDB connection eviction");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    connectionEvictionExecutor.scheduleWithFixedDelay(new Runnable() {
+      @SuppressWarnings("synthetic-access")
+      @Override
+      public void run() {
+        connectionManager.closeExpiredConnections();
+        if (maxIdleTime > 0) {
+          connectionManager.closeIdleConnections(maxIdleTime, TimeUnit.MILLISECONDS);
+        }
+      }
+    }, poolOptions.getEvictionInterval(), poolOptions.getEvictionInterval(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Connection pool counters (for all servers).
+   */
+  public ConnectionPoolStatistics getConnectionPoolStatistics() {
+    return toStatistics(connectionManager.getTotalStats());
+  }
+
+  /**
+   * Connection pool counters for server with given url.
+   * @param url
+   */
+  public ConnectionPoolStatistics getConnectionPoolStatistics(String url) {
+    URI uri = URI.create(url);
+    boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+    int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+    HttpRoute route = new HttpRoute(new HttpHost(uri.getHost(), port, uri.getScheme()), null, secure);
+    return toStatistics(connectionManager.getStats(route));
+  }
+
+  private static ConnectionPoolStatistics toStatistics(PoolStats stats) {
+    return new ConnectionPoolStatistics(stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax());
   }
 
   public boolean isAcceptGzipContent() {
@@ -102,10 +194,19 @@ public class HttpJsonRequestFactory implements AutoCloseable {
       return;
     }
 
-    RavenJToken clone = data.cloneToken();
-    clone.ensureCannotBeChangeAndEnableShapshotting();
-
-    cache.set(url, new CachedRequest(clone, new Date(), new HashMap<>(headers), MultiDatabase.getDatabaseName(url), false));
+    CachedRequest cachedRequest = new CachedRequest(null, new Date(), new HashMap<>(headers), MultiDatabase.getDatabaseName(url), false);
+    long dataSize;
+    if (cacheStorageMode == HttpCacheStorageMode.TOKENS) {
+      RavenJToken clone = data.cloneToken();
+      clone.ensureCannotBeChangeAndEnableShapshotting();
+      cachedRequest.setData(clone);
+      dataSize = ObjectSizeEstimator.estimateSize(clone);
+    } else {
+      cachedRequest.setSerializedData(data, cacheStorageMode == HttpCacheStorageMode.SERIALIZED_OFF_HEAP, compressCachedResponses);
+      dataSize = ObjectSizeEstimator.estimateSize(cachedRequest.getSerializedData());
+    }
+    cachedRequest.setSize(ObjectSizeEstimator.estimateSize(url) + dataSize + ObjectSizeEstimator.estimateSize(headers));
+    cache.set(url, cachedRequest);
   }
 
   @Override
@@ -114,6 +215,9 @@ public class HttpJsonRequestFactory implements AutoCloseable {
       return ;
     }
     disposed = true;
+    if (connectionEvictionExecutor != null) {
+      connectionEvictionExecutor.shutdownNow();
+    }
     cache.close();
     Closeables.closeQuietly(httpClient);
   }
@@ -215,7 +319,7 @@ public class HttpJsonRequestFactory implements AutoCloseable {
     }
 
     incrementCachedRequests();
-    return httpJsonRequest.getCachedRequestDetails().getData().cloneToken();
+    return httpJsonRequest.getCachedRequestDetails().cloneData();
   }
 
   /**
@@ -225,6 +329,13 @@ public class HttpJsonRequestFactory implements AutoCloseable {
     return cache.getCurrentSize();
   }
 
+  /**
+   * Hit, miss and eviction counters of the http cache
+   */
+  public CacheStatistics getCacheStatistics() {
+    return cache.getStatistics();
+  }
+
   public boolean getDisableHttpCaching() {
     Boolean value = disableHttpCaching.get();
     if (value == null) {
@@ -254,6 +365,35 @@ public class HttpJsonRequestFactory implements AutoCloseable {
     numOfCachedRequests.incrementAndGet();
   }
 
+  /**
+   * Number of streaming responses closed before end, which were drained so connection could be reused.
+   */
+  public long getNumOfDrainedStreams() {
+    return numOfDrainedStreams.get();
+  }
+
+  /**
+   * Number of streaming responses closed before end, which were aborted because too much data remained.
+   */
+  public long getNumOfAbortedStreams() {
+    return numOfAbortedStreams.get();
+  }
+
+  public void incrementDrainedStreams() {
+    numOfDrainedStreams.incrementAndGet();
+  }
+
+  public void incrementAbortedStreams() {
+    numOfAbortedStreams.incrementAndGet();
+  }
+
+  /**
+   * @return true if any log request handler is registered, so {@link RequestResultArgs} are worth building
+   */
+  public boolean hasLogRequestEventHandlers() {
+    return !logRequest.isEmpty();
+  }
+
   public void invokeLogRequest(IHoldProfilingInformation sender, RequestResultArgs requestResult) {
     EventHelper.invoke(logRequest, sender, requestResult);
   }
@@ -288,7 +428,7 @@ public class HttpJsonRequestFactory implements AutoCloseable {
         cache.close();
       } catch (Exception e) { /*ignore */ }
     }
-    cache = new SimpleCache(maxNumberOfCachedRequests);
+    cache = new SimpleCache(maxNumberOfCachedRequests, maxCacheSizeInBytes);
     numOfCachedRequests = new AtomicInteger();
   }
 
@@ -333,6 +473,36 @@ public class HttpJsonRequestFactory implements AutoCloseable {
     httpJsonRequest.getCachedRequestDetails().setTime(new Date());
   }
 
+  /**
+   * @return the way new responses are kept in http cache
+   */
+  public HttpCacheStorageMode getCacheStorageMode() {
+    return cacheStorageMode;
+  }
+
+  /**
+   * Sets the way new responses are kept in http cache. Responses already cached are not converted.
+   * @param cacheStorageMode
+   */
+  public void setCacheStorageMode(HttpCacheStorageMode cacheStorageMode) {
+    this.cacheStorageMode = cacheStorageMode;
+  }
+
+  /**
+   * @return true if responses kept in serialized form are gzipped
+   */
+  public boolean isCompressCachedResponses() {
+    return compressCachedResponses;
+  }
+
+  /**
+   * Gzip responses kept in serialized form. Has no effect for {@link HttpCacheStorageMode#TOKENS}.
+   * @param compressCachedResponses
+   */
+  public void setCompressCachedResponses(boolean compressCachedResponses) {
+    this.compressCachedResponses = compressCachedResponses;
+  }
+
   public Long getRequestTimeout() {
     return requestTimeout.get();
   }
@@ -3,9 +3,14 @@ package net.ravendb.client.connection.profiling;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import net.ravendb.abstractions.basic.EventArgs;
 import net.ravendb.abstractions.data.HttpMethods;
+import net.ravendb.abstractions.json.linq.RavenJArray;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJToken;
+import net.ravendb.abstractions.json.linq.RavenJValue;
 import net.ravendb.client.connection.profiling.RequestStatus;
 
 import org.apache.commons.lang.StringUtils;
@@ -21,7 +26,9 @@ public class RequestResultArgs extends EventArgs {
   private HttpMethods method;
   private String postedData;
   private int httpResult;
-  private String result;
+  private volatile String result;
+  private RavenJToken resultToken;
+  private long resultLength = -1;
 
   public RequestResultArgs() {
     at = new Date();
@@ -137,17 +144,85 @@ public class RequestResultArgs extends EventArgs {
    * @return the result
    */
   public String getResult() {
-    return result;
+    String value = result;
+    if (value != null) {
+      return value;
+    }
+    synchronized (this) {
+      if (result == null && resultToken != null) {
+        result = resultToken.toString();
+        resultToken = null;
+      }
+      return result;
+    }
   }
   /**
    * @param result the result to set
    */
-  public void setResult(String result) {
+  public synchronized void setResult(String result) {
+    this.resultToken = null;
+    this.resultLength = -1;
     this.result = result;
   }
+  /**
+   * Sets the result as json token, which is converted to string on first call to {@link #getResult()}.
+   * Token is made read-only (see {@link RavenJToken#ensureCannotBeChangeAndEnableShapshotting()}), so caller
+   * should continue with {@link RavenJToken#createSnapshot()} of it.
+   * @param result the result to set
+   */
+  public synchronized void setResult(RavenJToken result) {
+    if (result != null) {
+      result.ensureCannotBeChangeAndEnableShapshotting();
+    }
+    this.resultToken = result;
+    this.resultLength = -1;
+    this.result = result != null ? null : "";
+  }
 
+  /**
+   * Approximate size of result, url and posted data in characters. Result set as json token is not converted
+   * to string, its length is estimated.
+   */
   public int getTotalSize() {
-    return StringUtils.length(result) + StringUtils.length(postedData) + StringUtils.length(url);
+    return (int) Math.min(Integer.MAX_VALUE, getResultLength() + StringUtils.length(postedData) + StringUtils.length(url));
+  }
+
+  private synchronized long getResultLength() {
+    if (result != null) {
+      return result.length();
+    }
+    if (resultLength < 0) {
+      resultLength = estimateLength(resultToken);
+    }
+    return resultLength;
+  }
+
+  /**
+   * Estimates length of json text of given token, without building it.
+   */
+  private static long estimateLength(RavenJToken token) {
+    if (token == null) {
+      return 0;
+    }
+    if (token instanceof RavenJObject) {
+      long length = 2;
+      for (Entry<String, RavenJToken> property : (RavenJObject) token) {
+        length += property.getKey().length() + 4 + estimateLength(property.getValue());
+      }
+      return length;
+    }
+    if (token instanceof RavenJArray) {
+      long length = 2;
+      for (RavenJToken item : (RavenJArray) token) {
+        length += 1 + estimateLength(item);
+      }
+      return length;
+    }
+    Object value = ((RavenJValue) token).getValue();
+    if (value instanceof String) {
+      return ((String) value).length() + 2;
+    }
+    return String.valueOf(value).length();
   }
 
 
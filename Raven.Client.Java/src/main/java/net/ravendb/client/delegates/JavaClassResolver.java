@@ -0,0 +1,6 @@
+package net.ravendb.client.delegates;
+
+
+public interface JavaClassResolver {
+  public Class<?> resolve(String className) throws ClassNotFoundException;
+}
@@ -0,0 +1,178 @@
+package net.ravendb.client.document;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import net.ravendb.abstractions.basic.CompletionFuture;
+import net.ravendb.abstractions.basic.SerialExecutor;
+import net.ravendb.client.IAsyncDocumentSession;
+import net.ravendb.client.IDocumentSession;
+import net.ravendb.client.indexes.AbstractIndexCreationTask;
+import net.ravendb.client.linq.IRavenQueryable;
+
+/**
+ * Runs operations of synchronous session on executor. Operations are queued per session and run one at a time
+ * in the order they were called, even if executor has many threads. Continuations registered on returned futures
+ * run on the thread which drains session queue, so they should not wait for other operations of the same session.
+ * Closing session is queued as well: underlying session is closed after operations called before close are done.
+ */
+public class AsyncDocumentSession implements IAsyncDocumentSession {
+
+  private final IDocumentSession session;
+  private final Executor executor;
+  private final Lock sessionLock = new ReentrantLock();
+  private volatile boolean closed;
+
+  public AsyncDocumentSession(IDocumentSession session, Executor executor) {
+    this.session = session;
+    this.executor = new SerialExecutor(executor);
+  }
+
+  @Override
+  public IDocumentSession getSyncSession() {
+    return session;
+  }
+
+  private <T> CompletionFuture<T> submit(final Callable<T> callable) {
+    if (closed) {
+      throw new IllegalStateException("Session was closed");
+    }
+    CompletionFuture<T> future = new CompletionFuture<>(new Callable<T>() {
+      @Override
+      public T call() throws Exception {
+        sessionLock.lock();
+        try {
+          return callable.call();
+        } finally {
+          sessionLock.unlock();
+        }
+      }
+    });
+    executor.execute(future);
+    return future;
+  }
+
+  @Override
+  public <T> CompletionFuture<T> loadAsync(final Class<T> clazz, final String id) {
+    return submit(new Callable<T>() {
+      @Override
+      public T call() {
+        return session.load(clazz, id);
+      }
+    });
+  }
+
+  @Override
+  public <T> CompletionFuture<T[]> loadAsync(final Class<T> clazz, final String... ids) {
+    return submit(new Callable<T[]>() {
+      @Override
+      public T[] call() {
+        return session.load(clazz, ids);
+      }
+    });
+  }
+
+  @Override
+  public <T> IRavenQueryable<T> query(Class<T> clazz) {
+    sessionLock.lock();
+    try {
+      return session.query(clazz);
+    } finally {
+      sessionLock.unlock();
+    }
+  }
+
+  @Override
+  public <T> IRavenQueryable<T> query(Class<T> clazz, Class< ? extends AbstractIndexCreationTask> indexCreator) {
+    sessionLock.lock();
+    try {
+      return session.query(clazz, indexCreator);
+    } finally {
+      sessionLock.unlock();
+    }
+  }
+
+  @Override
+  public <T> CompletionFuture<List<T>> toListAsync(final IRavenQueryable<T> query) {
+    return submit(new Callable<List<T>>() {
+      @Override
+      public List<T> call() {
+        return query.toList();
+      }
+    });
+  }
+
+  @Override
+  public CompletionFuture<Void> storeAsync(final Object entity) {
+    return submit(new Callable<Void>() {
+      @Override
+      public Void call() {
+        session.store(entity);
+        return null;
+      }
+    });
+  }
+
+  @Override
+  public CompletionFuture<Void> storeAsync(final Object entity, final String id) {
+    return submit(new Callable<Void>() {
+      @Override
+      public Void call() {
+        session.store(entity, id);
+        return null;
+      }
+    });
+  }
+
+  @Override
+  public <T> CompletionFuture<Void> delete(final T entity) {
+    return submit(new Callable<Void>() {
+      @Override
+      public Void call() {
+        session.delete(entity);
+        return null;
+      }
+    });
+  }
+
+  @Override
+  public CompletionFuture<Void> delete(final String id) {
+    return submit(new Callable<Void>() {
+      @Override
+      public Void call() {
+        session.delete(id);
+        return null;
+      }
+    });
+  }
+
+  @Override
+  public CompletionFuture<Void> saveChangesAsync() {
+    return submit(new Callable<Void>() {
+      @Override
+      public Void call() {
+        session.saveChanges();
+        return null;
+      }
+    });
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    submit(new Callable<Void>() {
+      @Override
+      public Void call() {
+        session.close();
+        return null;
+      }
+    });
+    closed = true;
+  }
+
+}
@@ -1,6 +1,9 @@
 package net.ravendb.client.document;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -29,6 +32,7 @@ public class BulkInsertOperation implements AutoCloseable {
   private IDatabaseCommands databaseCommands;
 
   private final EntityToJson entityToJson;
+  private final EntityToBson entityToBson;
 
   private Set<BeforeEntityInsert> onBeforeEntityInsert = new LinkedHashSet<>();
 
@@ -61,10 +65,24 @@ public class BulkInsertOperation implements AutoCloseable {
     return databaseCommands;
   }
 
+  /**
+   * Id of the bulk insert operation. When options use more than one parallel operation, this is id of
+   * the first one only - use {@link #getOperationIds()} to get all of them.
+   */
   public UUID getOperationId() {
     return operation.getOperationId();
   }
 
+  /**
+   * Ids of all server side operations (one per parallel operation), in order they were started.
+   */
+  public List<UUID> getOperationIds() {
+    if (operation instanceof ParallelBulkInsertOperation) {
+      return ((ParallelBulkInsertOperation) operation).getOperationIds();
+    }
+    return Collections.singletonList(operation.getOperationId());
+  }
+
   public BulkInsertOperation(final String database, final IDocumentStore documentStore, DocumentSessionListeners listeners, BulkInsertOptions options, IDatabaseChanges changes) {
     this.documentStore = documentStore;
     final String finalDatabase = (database != null) ? database : MultiDatabase.getDatabaseName(documentStore.getUrl());
@@ -79,10 +97,25 @@ public class BulkInsertOperation implements AutoCloseable {
     });
     operation = getBulkInsertOperation(options, databaseCommands, changes);
     entityToJson = new EntityToJson(documentStore, listeners);
+    entityToBson = new EntityToBson(documentStore.getConventions());
   }
 
   protected ILowLevelBulkInsertOperation getBulkInsertOperation(BulkInsertOptions options, IDatabaseCommands commands, IDatabaseChanges changes) {
+    if (options.getParallelOperations() <= 1) {
       return commands.getBulkInsertOperation(options, changes);
+    }
+    List<ILowLevelBulkInsertOperation> operations = new ArrayList<>();
+    try {
+      for (int i = 0; i < options.getParallelOperations(); i++) {
+        operations.add(commands.getBulkInsertOperation(options, changes));
+      }
+    } catch (RuntimeException e) {
+      for (ILowLevelBulkInsertOperation operation : operations) {
+        operation.abort();
+      }
+      throw e;
+    }
+    return new ParallelBulkInsertOperation(operations);
   }
 
   @Override
@@ -108,6 +141,13 @@ public class BulkInsertOperation implements AutoCloseable {
     if (tag != null) {
       metadata.add(Constants.RAVEN_ENTITY_NAME, tag);
     }
+
+    if (canEncodeDirectly(entity)) {
+      metadata.add("@id", id);
+      operation.write(id, entityToBson.convertEntityToBson(entity, metadata));
+      return;
+    }
+
     RavenJObject data = entityToJson.convertEntityToJson(id, entity, metadata);
 
     onBeforeEntityInsert(id, data, metadata);
@@ -115,6 +155,15 @@ public class BulkInsertOperation implements AutoCloseable {
     operation.write(id, metadata, data);
   }
 
+  /**
+   * Entity is serialized straight to BSON when nobody needs to see (or change) its json form.
+   */
+  private boolean canEncodeDirectly(Object entity) {
+    return onBeforeEntityInsert.isEmpty()
+      && entityToJson.getListeners().getConversionListeners().isEmpty()
+      && !(entity instanceof RavenJObject);
+  }
+
   private void onBeforeEntityInsert(String id, RavenJObject data, RavenJObject metadata) {
     for (BeforeEntityInsert event: onBeforeEntityInsert) {
       event.apply(id, data, metadata);
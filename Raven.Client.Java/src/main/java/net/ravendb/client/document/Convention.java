@@ -7,6 +7,7 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadFactory;
 
 import org.apache.commons.lang.reflect.FieldUtils;
 import org.apache.http.HttpRequest;
@@ -44,6 +45,8 @@ public class Convention {
 
   private boolean saveEnumsAsIntegers;
 
+  private ThreadFactory threadFactory;
+
   public void updateFrom(ReplicationClientConfiguration configuration) {
     if (configuration == null) {
       return;
@@ -233,4 +236,34 @@ public class Convention {
   public void setSaveEnumsAsIntegers(boolean saveEnumsAsIntegers) {
     this.saveEnumsAsIntegers = saveEnumsAsIntegers;
   }
+  /**
+   * Factory used to create background threads (bulk insert, changes, subscriptions, replication checks).
+   */
+  public ThreadFactory getThreadFactory() {
+    return threadFactory;
+  }
+
+  /**
+   * Factory used to create background threads (bulk insert, changes, subscriptions, replication checks).
+   * When not set, platform threads are created.
+   * @param threadFactory
+   */
+  public void setThreadFactory(ThreadFactory threadFactory) {
+    this.threadFactory = threadFactory;
+  }
+
+  /**
+   * Creates (not started) background thread using configured thread factory.
+   * @param runnable
+   * @param name
+   */
+  public Thread newThread(Runnable runnable, String name) {
+    if (threadFactory == null) {
+      return new Thread(runnable, name);
+    }
+    Thread thread = threadFactory.newThread(runnable);
+    thread.setName(name);
+    return thread;
+  }
+
 }
@@ -8,12 +8,15 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import net.ravendb.abstractions.basic.Reference;
 import net.ravendb.abstractions.basic.Tuple;
 import net.ravendb.abstractions.data.Constants;
 import net.ravendb.abstractions.indexing.SortOptions;
 import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.client.changes.ChangesOverflowPolicy;
 import net.ravendb.client.connection.IDatabaseCommands;
 import net.ravendb.client.connection.IDocumentStoreReplicationInformer;
 import net.ravendb.client.connection.ReplicationInformer;
@@ -29,6 +32,7 @@ import net.ravendb.client.delegates.IdentityPropertyFinder;
 import net.ravendb.client.delegates.IdentityPropertyNameFinder;
 import net.ravendb.client.delegates.JavaClassFinder;
 import net.ravendb.client.delegates.JavaClassNameFinder;
+import net.ravendb.client.delegates.JavaClassResolver;
 import net.ravendb.client.delegates.PropertyNameFinder;
 import net.ravendb.client.delegates.ReplicationInformerFactory;
 import net.ravendb.client.delegates.RequestCachePolicy;
@@ -74,6 +78,17 @@ public class DocumentConvention extends Convention implements Serializable {
 
   private JavaClassNameFinder findJavaClassName;
 
+  private JavaClassResolver resolveJavaClass;
+
+  /**
+   * Marks class names which can't be resolved, so we don't ask class loader again.
+   */
+  private static final Class<?> UNRESOLVED_JAVA_CLASS = UnresolvedJavaClass.class;
+
+  private static final int MAX_UNRESOLVED_JAVA_CLASSES = 1024;
+
+  private transient ConcurrentMap<String, Class<?>> resolvedJavaClasses;
+
   private DocumentKeyFinder findFullDocumentKeyFromNonStringIdentifier;
 
   private DeserializationProblemHandler jsonContractResolver;
@@ -106,17 +121,34 @@ public class DocumentConvention extends Convention implements Serializable {
 
   private final List<Tuple<Class<?>, TryConvertValueForQueryDelegate<?>>> listOfQueryValueConverters = new ArrayList<>();
 
-  private JsonSerializer jsonSerializer;
+  private transient JsonSerializer jsonSerializer;
 
   private EnumSet<IndexAndTransformerReplicationMode> indexAndTransformerReplicationMode;
 
   private boolean acceptGzipContent;
 
+  private boolean bindStreamedResultsDirectly;
+
+  private long maxBytesToDrainOnStreamClose;
+
+  private int streamReadAhead;
+
+  private int streamDeserializationThreads;
+
+  private double hiLoPrefetchWatermark;
+
+  private int changesDispatchQueueSize;
+
+  private ChangesOverflowPolicy changesOverflowPolicy;
+
   public DocumentConvention() {
 
     setIdentityTypeConvertors(Arrays.<ITypeConverter> asList(new UUIDConverter(), new Int32Converter(), new Int64Converter()));
     setDisableProfiling(true);
     setUseParallelMultiGet(true);
+    setMaxBytesToDrainOnStreamClose(64 * 1024);
+    setStreamDeserializationThreads(Runtime.getRuntime().availableProcessors());
+    setChangesOverflowPolicy(ChangesOverflowPolicy.DROP_OLDEST);
     setDefaultQueryingConsistency(ConsistencyOptions.NONE);
     setFailoverBehavior(FailoverBehaviorSet.of(FailoverBehavior.ALLOW_READS_FROM_SECONDARIES));
     setShouldCacheRequest(new RequestCachePolicy() {
@@ -138,6 +170,20 @@ public class DocumentConvention extends Convention implements Serializable {
         return metadata.value(String.class, Constants.RAVEN_JAVA_CLASS);
       }
     });
+    setResolveJavaClass(new JavaClassResolver() {
+      @Override
+      public Class< ? > resolve(String className) throws ClassNotFoundException {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader != null) {
+          try {
+            return Class.forName(className, false, classLoader);
+          } catch (ClassNotFoundException e) {
+            // fall back to class loader which loaded client
+          }
+        }
+        return Class.forName(className);
+      }
+    });
     setFindJavaClassName(new JavaClassNameFinder() {
       @Override
       public String find(Class< ? > entityType) {
@@ -217,7 +263,6 @@ public class DocumentConvention extends Convention implements Serializable {
         IndexAndTransformerReplicationMode.INDEXES,
         IndexAndTransformerReplicationMode.TRANSFORMERS));
     acceptGzipContent = true;
-    jsonSerializer = new JsonSerializer(this);
   }
 
   public static String defaultTransformTypeTagNameToDocumentKeyPrefix(String typeTagName) {
@@ -435,6 +480,70 @@ public class DocumentConvention extends Convention implements Serializable {
     return documentKeyGenerator.generate(dbName, databaseCommands, entity);
   }
 
+  /**
+   *  Gets the function to load java class by its name.
+   */
+  public JavaClassResolver getResolveJavaClass() {
+    return resolveJavaClass;
+  }
+
+  /**
+   *  Sets the function to load java class by its name. Use it when entity classes are not visible
+   *  from context class loader (for example in OSGi containers).
+   * @param resolveJavaClass
+   */
+  public void setResolveJavaClass(JavaClassResolver resolveJavaClass) {
+    this.resolveJavaClass = resolveJavaClass;
+    this.resolvedJavaClasses = null;
+  }
+
+  /**
+   * Returns java class for given name. Results are cached per conventions instance,
+   * names which can't be loaded are remembered only while cache is smaller than MAX_UNRESOLVED_JAVA_CLASSES.
+   * @param className
+   * @throws ClassNotFoundException if class can't be loaded
+   */
+  public Class<?> resolveJavaClass(String className) throws ClassNotFoundException {
+    ConcurrentMap<String, Class<?>> cache = resolvedJavaClasses;
+    if (cache == null) {
+      cache = new ConcurrentHashMap<>();
+      resolvedJavaClasses = cache;
+    }
+    Class<?> result = cache.get(className);
+    if (result == UNRESOLVED_JAVA_CLASS) {
+      throw new ClassNotFoundException(className);
+    }
+    if (result != null) {
+      return result;
+    }
+    try {
+      result = resolveJavaClass.resolve(className);
+    } catch (ClassNotFoundException | LinkageError e) {
+      rememberUnresolvedJavaClass(cache, className);
+      throw e;
+    }
+    if (result == null) {
+      rememberUnresolvedJavaClass(cache, className);
+      throw new ClassNotFoundException(className);
+    }
+    cache.putIfAbsent(className, result);
+    return result;
+  }
+
+  private static void rememberUnresolvedJavaClass(ConcurrentMap<String, Class<?>> cache, String className) {
+    if (cache.size() < MAX_UNRESOLVED_JAVA_CLASSES) {
+      cache.putIfAbsent(className, UNRESOLVED_JAVA_CLASS);
+    }
+  }
+
+  /**
+   * Forgets resolved java classes, including names which couldn't be loaded before.
+   * Use it after entity classes became visible to the resolver (for example when bundle was installed).
+   */
+  public void clearJavaClassCache() {
+    resolvedJavaClasses = null;
+  }
+
   /**
    *  Gets the function to find the java class of a document.
    */
@@ -802,10 +911,16 @@ public class DocumentConvention extends Convention implements Serializable {
     return customRangeTypes.contains(type);
   }
 
+  /**
+   * Returns serializer configured with this conventions. Serializer is created once and reused.
+   */
   public JsonSerializer createSerializer() {
-    jsonSerializer.config();
-    return jsonSerializer;
-
+    JsonSerializer serializer = jsonSerializer;
+    if (serializer == null) {
+      serializer = new JsonSerializer(this);
+      jsonSerializer = serializer;
+    }
+    return serializer;
   }
 
   public int getMaxLengthOfQueryUsingGetUrl() {
@@ -858,4 +973,140 @@ public class DocumentConvention extends Convention implements Serializable {
     this.acceptGzipContent = acceptGzipContent;
   }
 
+  /**
+   * Whatever session.stream(...) binds entities straight from the response stream,
+   * without building intermediate RavenJObject for each document (only @metadata is materialized).
+   */
+  public boolean isBindStreamedResultsDirectly() {
+    return bindStreamedResultsDirectly;
+  }
+
+  /**
+   * Whatever session.stream(...) binds entities straight from the response stream,
+   * without building intermediate RavenJObject for each document (only @metadata is materialized).
+   *
+   * Entities are always bound to requested class (Raven-Java-Class metadata is ignored).
+   * Direct binding is not used when conversion listeners are registered or when query has projections.
+   * @param bindStreamedResultsDirectly
+   */
+  public void setBindStreamedResultsDirectly(boolean bindStreamedResultsDirectly) {
+    this.bindStreamedResultsDirectly = bindStreamedResultsDirectly;
+  }
+
+  /**
+   * How many bytes of streaming response (streamDocs/streamQuery) are read and discarded when stream is closed
+   * before its end. If more data remain, request is aborted and connection is dropped instead of returned to pool.
+   */
+  public long getMaxBytesToDrainOnStreamClose() {
+    return maxBytesToDrainOnStreamClose;
+  }
+
+  /**
+   * How many bytes of streaming response (streamDocs/streamQuery) are read and discarded when stream is closed
+   * before its end. If more data remain, request is aborted and connection is dropped instead of returned to pool.
+   * Negative value means whole response is always drained. Defaults to 64 KB.
+   * @param maxBytesToDrainOnStreamClose
+   */
+  public void setMaxBytesToDrainOnStreamClose(long maxBytesToDrainOnStreamClose) {
+    this.maxBytesToDrainOnStreamClose = maxBytesToDrainOnStreamClose;
+  }
+
+  /**
+   * How many documents session.stream(...) parses ahead of the consumer. Zero (default) means
+   * stream is parsed and deserialized on the calling thread.
+   */
+  public int getStreamReadAhead() {
+    return streamReadAhead;
+  }
+
+  /**
+   * How many documents session.stream(...) parses ahead of the consumer. Zero (default) means
+   * stream is parsed and deserialized on the calling thread.
+   *
+   * When positive, background thread reads documents from the response and hands them to
+   * deserialization threads; entities are still returned in the stream order. Reading blocks
+   * when this many documents wait for the consumer. Takes precedence over direct binding,
+   * and is not used when conversion listeners are registered or when query has projections.
+   * @param streamReadAhead
+   */
+  public void setStreamReadAhead(int streamReadAhead) {
+    this.streamReadAhead = streamReadAhead;
+  }
+
+  /**
+   * Number of threads deserializing streamed entities (shared by all streams of the store) when stream read ahead is enabled.
+   */
+  public int getStreamDeserializationThreads() {
+    return streamDeserializationThreads;
+  }
+
+  /**
+   * Number of threads deserializing streamed entities (shared by all streams of the store) when stream read ahead is enabled.
+   * Defaults to number of available processors. Read when the first stream of the store is read ahead.
+   * @param streamDeserializationThreads
+   */
+  public void setStreamDeserializationThreads(int streamDeserializationThreads) {
+    this.streamDeserializationThreads = streamDeserializationThreads;
+  }
+
+  /**
+   * Fraction of HiLo range which has to be used before next range is requested in background.
+   * Zero (default) means next range is requested when current one is exhausted.
+   */
+  public double getHiLoPrefetchWatermark() {
+    return hiLoPrefetchWatermark;
+  }
+
+  /**
+   * Fraction of HiLo range which has to be used before next range is requested in background.
+   * Zero (default) means next range is requested when current one is exhausted.
+   *
+   * For example with 0.7 next range is fetched once 70% of identifiers from current range are
+   * generated, so generating keys doesn't wait for the server as long as fetch completes
+   * before current range runs out. Values outside (0, 1) disable prefetching.
+   * Background fetch is done by default key generator of the store, using store level database commands.
+   * @param hiLoPrefetchWatermark
+   */
+  public void setHiLoPrefetchWatermark(double hiLoPrefetchWatermark) {
+    this.hiLoPrefetchWatermark = hiLoPrefetchWatermark;
+  }
+
+  /**
+   * Size of queue of each changes API subscription. Zero (default) means observers are called on the changes connection thread.
+   */
+  public int getChangesDispatchQueueSize() {
+    return changesDispatchQueueSize;
+  }
+
+  /**
+   * Size of queue of each changes API subscription. Zero (default) means observers are called on the changes connection thread.
+   *
+   * When positive, notifications are taken from the queue by dispatcher threads shared by subscriptions of
+   * the changes client (one at a time for each subscription), so slow observer doesn't delay reading
+   * of changes connection (and other observers).
+   * What happens when queue is full is controlled by changesOverflowPolicy.
+   * @param changesDispatchQueueSize
+   */
+  public void setChangesDispatchQueueSize(int changesDispatchQueueSize) {
+    this.changesDispatchQueueSize = changesDispatchQueueSize;
+  }
+
+  /**
+   * What happens when queue of changes API subscription is full. Defaults to dropping oldest notification.
+   */
+  public ChangesOverflowPolicy getChangesOverflowPolicy() {
+    return changesOverflowPolicy;
+  }
+
+  /**
+   * What happens when queue of changes API subscription is full. Defaults to dropping oldest notification.
+   * @param changesOverflowPolicy
+   */
+  public void setChangesOverflowPolicy(ChangesOverflowPolicy changesOverflowPolicy) {
+    this.changesOverflowPolicy = changesOverflowPolicy;
+  }
+
+  private static final class UnresolvedJavaClass {
+    // marker only
+  }
 }
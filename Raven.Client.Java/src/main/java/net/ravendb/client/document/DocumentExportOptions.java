@@ -0,0 +1,81 @@
+package net.ravendb.client.document;
+
+import java.io.File;
+
+/**
+ * Options of {@link ResumableDocumentExport}.
+ */
+public class DocumentExportOptions {
+
+  private int batchSize = 1024;
+
+  private int maxRetries = 10;
+
+  private long retryDelay = 1000;
+
+  private File checkpointFile;
+
+  /**
+   * Maximum number of documents passed to the sink at once.
+   */
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Maximum number of documents passed to the sink at once.
+   * @param batchSize
+   */
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * How many times in a row export reconnects without delivering any batch, before it gives up.
+   * Negative value means no limit.
+   */
+  public int getMaxRetries() {
+    return maxRetries;
+  }
+
+  /**
+   * How many times in a row export reconnects without delivering any batch, before it gives up.
+   * Negative value means no limit.
+   * @param maxRetries
+   */
+  public void setMaxRetries(int maxRetries) {
+    this.maxRetries = maxRetries;
+  }
+
+  /**
+   * Delay (in milliseconds) before reconnecting after stream failure.
+   */
+  public long getRetryDelay() {
+    return retryDelay;
+  }
+
+  /**
+   * Delay (in milliseconds) before reconnecting after stream failure.
+   * @param retryDelay
+   */
+  public void setRetryDelay(long retryDelay) {
+    this.retryDelay = retryDelay;
+  }
+
+  /**
+   * File which stores etag of last delivered document. When file exists, export starts from stored etag.
+   */
+  public File getCheckpointFile() {
+    return checkpointFile;
+  }
+
+  /**
+   * File which stores etag of last delivered document. When file exists, export starts from stored etag.
+   * File is updated after each batch is accepted by the sink. Optional.
+   * @param checkpointFile
+   */
+  public void setCheckpointFile(File checkpointFile) {
+    this.checkpointFile = checkpointFile;
+  }
+
+}
@@ -18,6 +18,7 @@ import net.ravendb.abstractions.basic.Reference;
 import net.ravendb.abstractions.basic.Tuple;
 import net.ravendb.abstractions.closure.Action1;
 import net.ravendb.abstractions.closure.Function0;
+import net.ravendb.abstractions.closure.Function1;
 import net.ravendb.abstractions.data.BatchResult;
 import net.ravendb.abstractions.data.Constants;
 import net.ravendb.abstractions.data.Etag;
@@ -43,6 +44,7 @@ import net.ravendb.client.RavenQueryHighlightings;
 import net.ravendb.client.RavenQueryStatistics;
 import net.ravendb.client.connection.IDatabaseCommands;
 import net.ravendb.client.connection.IRavenQueryInspector;
+import net.ravendb.client.connection.RavenJObjectIterator;
 import net.ravendb.client.connection.SerializationHelper;
 import net.ravendb.client.document.batches.IEagerSessionOperations;
 import net.ravendb.client.document.batches.ILazyOperation;
@@ -546,22 +548,128 @@ public class DocumentSession extends InMemoryDocumentSessionOperations implement
     incrementRequestCount();
 
     CloseableIterator<RavenJObject> iterator = databaseCommands.streamQuery(ravenQueryInspector.getIndexQueried(), indexQuery, queryHeaderInformation);
-    return new StreamIterator<>(query, iterator);
+    DocumentQuery<T> documentQuery = (DocumentQuery<T>) query;
+    if (canDeserializeStreamedResultsInParallel(documentQuery.getElementType())
+      && (documentQuery.projectionFields == null || documentQuery.projectionFields.length == 0)) {
+      return new CompletingStreamIterator<>(readAhead(iterator, new QueryStreamResultConverter<>(this, documentQuery.getElementType())), true);
+    }
+    return new StreamIterator<>(this, query, iterator);
+  }
+
+  private <T> CloseableIterator<StreamResult<T>> readAhead(CloseableIterator<RavenJObject> iterator, Function1<RavenJObject, StreamResult<T>> converter) {
+    DocumentConvention conventions = getConventions();
+    return new ParallelStreamIterator<>(iterator, converter, conventions.getStreamReadAhead(),
+      ((DocumentStore) getDocumentStore()).getStreamDeserializationExecutor(), conventions);
+  }
+
+  /**
+   * Converts streamed query result on read ahead thread. Entity is completed by CompletingStreamIterator.
+   */
+  private static class QueryStreamResultConverter<T> implements Function1<RavenJObject, StreamResult<T>> {
+    private final InMemoryDocumentSessionOperations session;
+    private final Class<T> entityClass;
+
+    public QueryStreamResultConverter(InMemoryDocumentSessionOperations session, Class<T> entityClass) {
+      this.session = session;
+      this.entityClass = entityClass;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public StreamResult<T> apply(RavenJObject nextValue) {
+      RavenJObject meta = nextValue.value(RavenJObject.class, Constants.METADATA);
+      nextValue.remove(Constants.METADATA);
+      StreamResult<T> streamResult = StreamIterator.createStreamResult(meta, nextValue.value(String.class, Constants.DOCUMENT_ID_FIELD_NAME));
+      streamResult.setDocument((T) session.deserializeStreamedEntity(entityClass, streamResult.getKey(), nextValue, meta));
+      return streamResult;
+    }
+  }
+
+  /**
+   * Converts streamed document on read ahead thread. Entity is completed by CompletingStreamIterator.
+   */
+  private static class DocumentStreamResultConverter<T> implements Function1<RavenJObject, StreamResult<T>> {
+    private final InMemoryDocumentSessionOperations session;
+    private final Class<T> entityClass;
+
+    public DocumentStreamResultConverter(InMemoryDocumentSessionOperations session, Class<T> entityClass) {
+      this.session = session;
+      this.entityClass = entityClass;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public StreamResult<T> apply(RavenJObject next) {
+      JsonDocument document = SerializationHelper.ravenJObjectToJsonDocument(next);
+      StreamResult<T> streamResult = new StreamResult<>();
+      streamResult.setDocument((T) session.deserializeStreamedEntity(entityClass, document.getKey(), document.getDataAsJson(), document.getMetadata()));
+      streamResult.setEtag(document.getEtag());
+      streamResult.setKey(document.getKey());
+      streamResult.setMetadata(document.getMetadata());
+      return streamResult;
+    }
+  }
+
+  /**
+   * Completes entities deserialized by read ahead threads on the consumer (session) thread.
+   * Query results are completed like in queries, documents like in convertToEntity.
+   */
+  private class CompletingStreamIterator<T> implements CloseableIterator<StreamResult<T>> {
+    private final CloseableIterator<StreamResult<T>> innerIterator;
+    private final boolean queryResults;
+
+    public CompletingStreamIterator(CloseableIterator<StreamResult<T>> innerIterator, boolean queryResults) {
+      this.innerIterator = innerIterator;
+      this.queryResults = queryResults;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return innerIterator.hasNext();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public StreamResult<T> next() {
+      StreamResult<T> streamResult = innerIterator.next();
+      Object entity = queryResults
+        ? completeStreamedEntity(streamResult.getKey(), streamResult.getDocument(), streamResult.getMetadata())
+        : completeStreamedDocument(streamResult.getKey(), streamResult.getDocument(), streamResult.getMetadata());
+      streamResult.setDocument((T) entity);
+      return streamResult;
+    }
+
+    @Override
+    public void close() {
+      innerIterator.close();
+    }
+
+    @Override
+    public void remove() {
+      throw new IllegalStateException("Not implemented!");
+    }
   }
 
 
   private static class StreamIterator<T> implements CloseableIterator<StreamResult<T>> {
 
     private CloseableIterator<RavenJObject> innerIterator;
+    private RavenJObjectIterator directIterator;
+    private InMemoryDocumentSessionOperations session;
     private DocumentQuery<T> query;
     private QueryOperation queryOperation;
 
-    public StreamIterator(IDocumentQuery<T> query, CloseableIterator<RavenJObject> innerIterator) {
+    public StreamIterator(InMemoryDocumentSessionOperations session, IDocumentQuery<T> query, CloseableIterator<RavenJObject> innerIterator) {
       super();
+      this.session = session;
       this.innerIterator = innerIterator;
       this.query = (DocumentQuery<T>) query;
       queryOperation = ((DocumentQuery<T>)query).initializeQueryOperation();
       queryOperation.setDisableEntitiesTracking(true);
+      if (innerIterator instanceof RavenJObjectIterator && session.canBindStreamedResultsDirectly(this.query.getElementType())
+        && (this.query.projectionFields == null || this.query.projectionFields.length == 0)) {
+        directIterator = (RavenJObjectIterator) innerIterator;
+      }
     }
 
     @Override
@@ -576,9 +684,31 @@ public class DocumentSession extends InMemoryDocumentSessionOperations implement
 
     @Override
     public StreamResult<T> next() {
+      if (directIterator != null) {
+        return nextBoundDirectly();
+      }
       RavenJObject nextValue = innerIterator.next();
       RavenJObject meta = nextValue.value(RavenJObject.class, Constants.METADATA);
 
+      StreamResult<T> streamResult = createStreamResult(meta, nextValue.value(String.class, Constants.DOCUMENT_ID_FIELD_NAME));
+      streamResult.setDocument(queryOperation.deserialize(query.getElementType(), nextValue));
+      return streamResult;
+    }
+
+    @SuppressWarnings("unchecked")
+    private StreamResult<T> nextBoundDirectly() {
+      Reference<RavenJObject> metaRef = new Reference<>();
+      Reference<String> documentIdRef = new Reference<>();
+      T entity = directIterator.next(session.getConventions().createSerializer(), query.getElementType(), metaRef, documentIdRef);
+      RavenJObject meta = metaRef.value;
+
+      StreamResult<T> streamResult = createStreamResult(meta, documentIdRef.value);
+      String id = meta != null ? meta.value(String.class, "@id") : null;
+      streamResult.setDocument((T) session.completeStreamedEntity(id, entity, meta));
+      return streamResult;
+    }
+
+    static <R> StreamResult<R> createStreamResult(RavenJObject meta, String documentId) {
       String key = null;
       Etag etag = null;
       if (meta != null) {
@@ -587,7 +717,7 @@ public class DocumentSession extends InMemoryDocumentSessionOperations implement
           key = meta.value(String.class, Constants.DOCUMENT_ID_FIELD_NAME);
         }
         if (key == null) {
-          key = nextValue.value(String.class, Constants.DOCUMENT_ID_FIELD_NAME);
+          key = documentId;
         }
 
         String value = meta.value(String.class, "@etag");
@@ -596,8 +726,7 @@ public class DocumentSession extends InMemoryDocumentSessionOperations implement
         }
       }
 
-      StreamResult<T> streamResult = new StreamResult<>();
-      streamResult.setDocument(queryOperation.deserialize(query.getElementType(), nextValue));
+      StreamResult<R> streamResult = new StreamResult<>();
       streamResult.setEtag(etag);
       streamResult.setKey(key);
       streamResult.setMetadata(meta);
@@ -650,6 +779,9 @@ public class DocumentSession extends InMemoryDocumentSessionOperations implement
   public <T> CloseableIterator<StreamResult<T>> stream(Class<T> entityClass, Etag fromEtag, String startsWith, String matches, int start, int pageSize, RavenPagingInformation pagingInformation, String skipAfter) {
     incrementRequestCount();
     CloseableIterator<RavenJObject> iterator = databaseCommands.streamDocs(fromEtag, startsWith, matches, start, pageSize, null, pagingInformation, skipAfter);
+    if (canDeserializeStreamedResultsInParallel(entityClass)) {
+      return new CompletingStreamIterator<>(readAhead(iterator, new DocumentStreamResultConverter<>(this, entityClass)), false);
+    }
     return new SimpleSteamIterator<>(iterator, entityClass);
   }
 
@@ -661,6 +793,7 @@ public class DocumentSession extends InMemoryDocumentSessionOperations implement
 
   private class SimpleSteamIterator<T> implements CloseableIterator<StreamResult<T>> {
     private CloseableIterator<RavenJObject> innerIterator;
+    private RavenJObjectIterator directIterator;
     private Class<T> entityClass;
     private boolean closed = false;
 
@@ -668,6 +801,9 @@ public class DocumentSession extends InMemoryDocumentSessionOperations implement
       super();
       this.innerIterator = innerIterator;
       this.entityClass = entityClass;
+      if (innerIterator instanceof RavenJObjectIterator && canBindStreamedResultsDirectly(entityClass)) {
+        directIterator = (RavenJObjectIterator) innerIterator;
+      }
     }
 
     @Override
@@ -687,6 +823,9 @@ public class DocumentSession extends InMemoryDocumentSessionOperations implement
       if (closed) {
         throw new IllegalStateException("Stream is closed");
       }
+      if (directIterator != null) {
+        return nextBoundDirectly();
+      }
       RavenJObject next = innerIterator.next();
       JsonDocument document = SerializationHelper.ravenJObjectToJsonDocument(next);
       StreamResult<T> streamResult = new StreamResult<>();
@@ -697,6 +836,25 @@ public class DocumentSession extends InMemoryDocumentSessionOperations implement
       return streamResult;
     }
 
+    @SuppressWarnings("unchecked")
+    private StreamResult<T> nextBoundDirectly() {
+      Reference<RavenJObject> metaRef = new Reference<>();
+      Reference<String> documentIdRef = new Reference<>();
+      T entity = directIterator.next(getConventions().createSerializer(), entityClass, metaRef, documentIdRef);
+
+      RavenJObject documentWithMetadata = new RavenJObject();
+      if (metaRef.value != null) {
+        documentWithMetadata.add(Constants.METADATA, metaRef.value);
+      }
+      JsonDocument document = SerializationHelper.ravenJObjectToJsonDocument(documentWithMetadata);
+      StreamResult<T> streamResult = new StreamResult<>();
+      streamResult.setDocument((T) completeStreamedDocument(document.getKey(), entity, document.getMetadata()));
+      streamResult.setEtag(document.getEtag());
+      streamResult.setKey(document.getKey());
+      streamResult.setMetadata(document.getMetadata());
+      return streamResult;
+    }
+
     @Override
     public void remove() {
       throw new IllegalStateException("Not implemented!");
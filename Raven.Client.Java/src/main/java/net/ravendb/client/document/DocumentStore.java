@@ -10,6 +10,13 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import net.ravendb.abstractions.basic.CleanCloseable;
 import net.ravendb.abstractions.basic.EventHandler;
@@ -31,19 +38,26 @@ import net.ravendb.abstractions.oauth.BasicAuthenticator;
 import net.ravendb.abstractions.oauth.SecuredAuthenticator;
 import net.ravendb.abstractions.util.AtomicDictionary;
 import net.ravendb.client.DocumentStoreBase;
+import net.ravendb.client.IAsyncDocumentSession;
 import net.ravendb.client.IDocumentSession;
 import net.ravendb.client.IDocumentStore;
 import net.ravendb.client.changes.IDatabaseChanges;
 import net.ravendb.client.changes.RemoteDatabaseChanges;
+import net.ravendb.client.connection.ConnectionPoolOptions;
+import net.ravendb.client.connection.HttpCacheStorageMode;
 import net.ravendb.client.connection.IDatabaseCommands;
 import net.ravendb.client.connection.IDocumentStoreReplicationInformer;
 import net.ravendb.client.connection.OperationMetadata;
 import net.ravendb.client.connection.ServerClient;
+import net.ravendb.client.connection.async.AsyncServerClient;
+import net.ravendb.client.connection.async.IAsyncDatabaseCommands;
 import net.ravendb.client.connection.implementation.HttpJsonRequestFactory;
 import net.ravendb.client.connection.profiling.RequestResultArgs;
 import net.ravendb.client.delegates.HttpResponseWithMetaHandler;
 import net.ravendb.client.extensions.MultiDatabase;
 import net.ravendb.client.listeners.IDocumentConflictListener;
+import net.ravendb.client.util.CacheStatistics;
+import net.ravendb.client.util.ConnectionPoolStatistics;
 import net.ravendb.client.util.EvictItemsFromCacheBasedOnChanges;
 import net.ravendb.client.utils.Closer;
 import net.ravendb.client.utils.RequirementsChecker;
@@ -63,16 +77,26 @@ public class DocumentStore extends DocumentStoreBase {
   protected static ThreadLocal<UUID> currentSessionId = new ThreadLocal<>();
 
   private final static int DEFAULT_NUMBER_OF_CACHED_REQUESTS = 2048;
+  private final static long DEFAULT_CACHE_SIZE_IN_BYTES = Math.min(512L * 1024 * 1024, Runtime.getRuntime().maxMemory() / 8);
   private int maxNumberOfCachedRequests = DEFAULT_NUMBER_OF_CACHED_REQUESTS;
+  private long maxCacheSizeInBytes = DEFAULT_CACHE_SIZE_IN_BYTES;
+  private HttpCacheStorageMode httpCacheStorageMode = HttpCacheStorageMode.TOKENS;
+  private boolean compressHttpCache;
+  private ConnectionPoolOptions connectionPoolOptions = new ConnectionPoolOptions();
+  private Executor asyncExecutor;
+  private ExecutorService ownedAsyncExecutor;
+  private ExecutorService streamDeserializationExecutor;
   private boolean aggressiveCachingUsed;
 
   protected Function0<IDatabaseCommands> databaseCommandsGenerator;
 
+  private MultiDatabaseHiLoGenerator hiLoGenerator;
+
   private final ConcurrentMap<String, IDocumentStoreReplicationInformer> replicationInformers =  new ConcurrentSkipListMap<>(String.CASE_INSENSITIVE_ORDER);
   private String identifier;
 
   private final AtomicDictionary<IDatabaseChanges> databaseChanges = new AtomicDictionary<>(String.CASE_INSENSITIVE_ORDER);
-  protected HttpJsonRequestFactory jsonRequestFactory = new HttpJsonRequestFactory(DEFAULT_NUMBER_OF_CACHED_REQUESTS);
+  protected HttpJsonRequestFactory jsonRequestFactory = new HttpJsonRequestFactory(DEFAULT_NUMBER_OF_CACHED_REQUESTS, DEFAULT_CACHE_SIZE_IN_BYTES, true);
 
   private ReplicationBehavior replication;
 
@@ -127,6 +151,14 @@ public class DocumentStore extends DocumentStoreBase {
     return jsonRequestFactory;
   }
 
+  /**
+   * HiLo generator used by default document key generator (null if custom key generator was configured).
+   * Can be used to inspect generators metrics.
+   */
+  public MultiDatabaseHiLoGenerator getHiLoGenerator() {
+    return hiLoGenerator;
+  }
+
   @Override
   public IDatabaseCommands getDatabaseCommands() {
     assertInitialized();
@@ -239,6 +271,15 @@ public class DocumentStore extends DocumentStoreBase {
       subscriptions.close();
     }
 
+    synchronized (this) {
+      if (ownedAsyncExecutor != null) {
+        ownedAsyncExecutor.shutdown();
+      }
+      if (streamDeserializationExecutor != null) {
+        streamDeserializationExecutor.shutdownNow();
+      }
+    }
+
     // if this is still going, we continue with disposal, it is for grace only, anyway
 
     if (jsonRequestFactory != null) {
@@ -295,6 +336,107 @@ public class DocumentStore extends DocumentStoreBase {
     }
   }
 
+  /**
+   * Opens the async session.
+   */
+  public IAsyncDocumentSession openAsyncSession() {
+    return new AsyncDocumentSession(openSession(), getAsyncExecutor());
+  }
+
+  /**
+   * Opens the async session for a particular database
+   * @param database
+   */
+  public IAsyncDocumentSession openAsyncSession(String database) {
+    return new AsyncDocumentSession(openSession(database), getAsyncExecutor());
+  }
+
+  /**
+   * Gets the async database commands.
+   */
+  public IAsyncDatabaseCommands getAsyncDatabaseCommands() {
+    return new AsyncServerClient(getDatabaseCommands(), getAsyncExecutor());
+  }
+
+  /**
+   * Executor which runs async operations. When not set, store creates (on first use) thread pool using conventions
+   * thread factory and shuts it down when store is closed. Async operations are offloaded blocking calls: they use
+   * the same blocking http client as sync commands, so each running operation occupies pool thread. Pool is limited
+   * to connection pool max total, as more threads would only wait for free connection, and operations above
+   * that limit are queued. It frees caller threads, but it doesn't increase number of concurrent requests.
+   */
+  public synchronized Executor getAsyncExecutor() {
+    ensureNotClosed();
+    if (asyncExecutor == null) {
+      int maxThreads = Math.max(1, connectionPoolOptions.getMaxTotal());
+      ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+        @Override
+        public Thread newThread(Runnable r) {
+          Thread thread = conventions.newThread(r, "RavenDB async operation " + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+      pool.allowCoreThreadTimeOut(true);
+      ownedAsyncExecutor = pool;
+      asyncExecutor = ownedAsyncExecutor;
+    }
+    return asyncExecutor;
+  }
+
+  /**
+   * Executor which deserializes streamed documents when stream read ahead is enabled. It is shared by all streams
+   * of this store: created on first use with conventions stream deserialization threads and shut down when store is closed.
+   */
+  public synchronized Executor getStreamDeserializationExecutor() {
+    ensureNotClosed();
+    if (streamDeserializationExecutor == null) {
+      int threads = Math.max(1, conventions.getStreamDeserializationThreads());
+      ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+        @Override
+        public Thread newThread(Runnable r) {
+          Thread thread = conventions.newThread(r, "RavenDB stream deserializer " + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+      pool.allowCoreThreadTimeOut(true);
+      streamDeserializationExecutor = pool;
+    }
+    return streamDeserializationExecutor;
+  }
+
+  /**
+   * Executor which runs async operations (for example executor which starts virtual thread per task).
+   * Executor passed here is not shut down when store is closed.
+   * @param asyncExecutor
+   */
+  public synchronized void setAsyncExecutor(Executor asyncExecutor) {
+    if (ownedAsyncExecutor != null) {
+      ownedAsyncExecutor.shutdown();
+      ownedAsyncExecutor = null;
+    }
+    this.asyncExecutor = asyncExecutor;
+  }
+
+  /**
+   * Factory used to create background threads (bulk insert, changes, subscriptions, replication checks, async operations).
+   */
+  public ThreadFactory getThreadFactory() {
+    return conventions.getThreadFactory();
+  }
+
+  /**
+   * Factory used to create background threads (bulk insert, changes, subscriptions, replication checks, async operations).
+   * Use it to run client on custom (for example virtual) threads.
+   * @param threadFactory
+   */
+  public void setThreadFactory(ThreadFactory threadFactory) {
+    conventions.setThreadFactory(threadFactory);
+  }
+
   private static IDatabaseCommands setupCommands(IDatabaseCommands databaseCommands, String database, OpenSessionOptions options) {
     if (database != null) {
       databaseCommands = databaseCommands.forDatabase(database);
@@ -313,7 +455,11 @@ public class DocumentStore extends DocumentStoreBase {
 
     assertValidConfiguration();
 
-    jsonRequestFactory = new HttpJsonRequestFactory(getMaxNumberOfCachedRequests());
+    if (jsonRequestFactory != null) {
+      Closer.close(jsonRequestFactory);
+    }
+    jsonRequestFactory = new HttpJsonRequestFactory(getMaxNumberOfCachedRequests(), getMaxCacheSizeInBytes(), true, connectionPoolOptions, conventions);
+    configureCacheStorage(jsonRequestFactory);
     try {
       initializeEncryptor();
       initializeSecurity();
@@ -321,7 +467,15 @@ public class DocumentStore extends DocumentStoreBase {
       initializeInternal();
 
       if (conventions.getDocumentKeyGenerator() == null) { // don't overwrite what the user is doing
-        final MultiDatabaseHiLoGenerator generator = new MultiDatabaseHiLoGenerator(32);
+        // background range fetch gets its own store level commands, session commands are not thread safe
+        final MultiDatabaseHiLoGenerator generator = new MultiDatabaseHiLoGenerator(32, new Function1<String, IDatabaseCommands>() {
+          @Override
+          public IDatabaseCommands apply(String dbName) {
+            IDatabaseCommands commands = getDatabaseCommands();
+            return dbName != null ? commands.forDatabase(dbName) : commands;
+          }
+        });
+        hiLoGenerator = generator;
         conventions.setDocumentKeyGenerator(new DocumentKeyGenerator() {
           @Override
           public String generate(String dbName, IDatabaseCommands databaseCommands, Object entity) {
@@ -344,7 +498,14 @@ public class DocumentStore extends DocumentStoreBase {
   }
 
   private HttpJsonRequestFactory initializeJsonRequestFactory() {
-      return new HttpJsonRequestFactory(maxNumberOfCachedRequests, getConventions().isAcceptGzipContent());
+      HttpJsonRequestFactory factory = new HttpJsonRequestFactory(maxNumberOfCachedRequests, maxCacheSizeInBytes, getConventions().isAcceptGzipContent(), connectionPoolOptions, getConventions());
+      configureCacheStorage(factory);
+      return factory;
+  }
+
+  private void configureCacheStorage(HttpJsonRequestFactory factory) {
+    factory.setCacheStorageMode(httpCacheStorageMode);
+    factory.setCompressCachedResponses(compressHttpCache);
   }
 
   public void initializeProfiling() {
@@ -614,6 +775,107 @@ public class DocumentStore extends DocumentStoreBase {
     jsonRequestFactory = initializeJsonRequestFactory();
   }
 
+  /**
+   * Maximum estimated size (in bytes) of responses held in http cache.
+   * Defaults to 1/8 of max heap size, but no more than 512 MB.
+   */
+  public long getMaxCacheSizeInBytes() {
+    return maxCacheSizeInBytes;
+  }
+
+  /**
+   * Maximum estimated size (in bytes) of responses held in http cache.
+   * Least valuable responses are evicted when limit is exceeded.
+   * @param value
+   */
+  public void setMaxCacheSizeInBytes(long value) {
+    maxCacheSizeInBytes = value;
+    if (jsonRequestFactory != null) {
+      Closer.close(jsonRequestFactory);
+    }
+    jsonRequestFactory = initializeJsonRequestFactory();
+  }
+
+  /**
+   * The way responses are kept in http cache.
+   */
+  public HttpCacheStorageMode getHttpCacheStorageMode() {
+    return httpCacheStorageMode;
+  }
+
+  /**
+   * The way responses are kept in http cache. Serialized modes keep compact json bytes
+   * instead of parsed trees, which lowers GC pressure on read-heavy applications,
+   * at the cost of parsing response on every cache hit.
+   * @param httpCacheStorageMode
+   */
+  public void setHttpCacheStorageMode(HttpCacheStorageMode httpCacheStorageMode) {
+    this.httpCacheStorageMode = httpCacheStorageMode;
+    if (jsonRequestFactory != null) {
+      jsonRequestFactory.setCacheStorageMode(httpCacheStorageMode);
+    }
+  }
+
+  /**
+   * Gzip responses kept in serialized form in http cache.
+   */
+  public boolean isCompressHttpCache() {
+    return compressHttpCache;
+  }
+
+  /**
+   * Gzip responses kept in serialized form in http cache.
+   * Has no effect for {@link HttpCacheStorageMode#TOKENS}.
+   * @param compressHttpCache
+   */
+  public void setCompressHttpCache(boolean compressHttpCache) {
+    this.compressHttpCache = compressHttpCache;
+    if (jsonRequestFactory != null) {
+      jsonRequestFactory.setCompressCachedResponses(compressHttpCache);
+    }
+  }
+
+  /**
+   * Hit, miss and eviction counters of the http cache
+   */
+  public CacheStatistics getCacheStatistics() {
+    return jsonRequestFactory.getCacheStatistics();
+  }
+
+  /**
+   * Settings of http connection pool
+   */
+  public ConnectionPoolOptions getConnectionPoolOptions() {
+    return connectionPoolOptions;
+  }
+
+  /**
+   * Settings of http connection pool. Connection pool (and http cache) is recreated when options are changed.
+   * @param connectionPoolOptions
+   */
+  public void setConnectionPoolOptions(ConnectionPoolOptions connectionPoolOptions) {
+    this.connectionPoolOptions = connectionPoolOptions;
+    if (jsonRequestFactory != null) {
+      Closer.close(jsonRequestFactory);
+    }
+    jsonRequestFactory = initializeJsonRequestFactory();
+  }
+
+  /**
+   * Leased, pending and available connections (to all servers)
+   */
+  public ConnectionPoolStatistics getConnectionPoolStatistics() {
+    return jsonRequestFactory.getConnectionPoolStatistics();
+  }
+
+  /**
+   * Leased, pending and available connections to server with given url
+   * @param url
+   */
+  public ConnectionPoolStatistics getConnectionPoolStatistics(String url) {
+    return jsonRequestFactory.getConnectionPoolStatistics(url);
+  }
+
 
   @Override
   public BulkInsertOperation bulkInsert() {
@@ -0,0 +1,320 @@
+package net.ravendb.client.document;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import net.ravendb.abstractions.data.Constants;
+import net.ravendb.abstractions.exceptions.JsonWriterException;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJValue;
+
+import org.codehaus.jackson.Base64Variant;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonNode;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.SerializableString;
+import org.codehaus.jackson.io.SerializedString;
+import org.codehaus.jackson.util.JsonGeneratorDelegate;
+
+import de.undercouch.bson4jackson.BsonFactory;
+
+/**
+ * Serializes entities straight to BSON documents (as sent by bulk insert), without building {@link RavenJObject} for them.
+ *
+ * Result is the same document as the one built by {@link EntityToJson} (properties may be written in different order):
+ * identity property is removed and metadata is written as the last (@metadata) property. Conversion listeners are not invoked.
+ */
+public class EntityToBson {
+
+  private final BsonFactory bsonFactory = new BsonFactory();
+  private final DocumentConvention conventions;
+
+  public EntityToBson(DocumentConvention conventions) {
+    this.conventions = conventions;
+  }
+
+  /**
+   * Serializes entity as BSON document. Raven-Java-Class is added to metadata.
+   * @param entity
+   * @param metadata
+   */
+  public byte[] convertEntityToBson(Object entity, RavenJObject metadata) {
+    Class<?> entityType = entity.getClass();
+    Field identityProperty = conventions.getIdentityProperty(entityType);
+    metadata.add(Constants.RAVEN_JAVA_CLASS, new RavenJValue(conventions.getJavaClassName(entityType)));
+
+    JsonSerializer serializer = conventions.createSerializer();
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (JsonGenerator generator = new DocumentGenerator(bsonFactory.createJsonGenerator(output), serializer,
+      identityProperty != null ? identityProperty.getName() : null, metadata)) {
+      serializer.serialize(generator, entity);
+    } catch (IOException e) {
+      throw new JsonWriterException(e.getMessage(), e);
+    }
+    return output.toByteArray();
+  }
+
+  /**
+   * Skips identity property of root object and writes metadata before root object is closed.
+   */
+  private static class DocumentGenerator extends JsonGeneratorDelegate {
+    private final JsonSerializer serializer;
+    private final String identityPropertyName;
+    private final RavenJObject metadata;
+    private int depth;
+    private int skipDepth = -1;
+
+    public DocumentGenerator(JsonGenerator delegate, JsonSerializer serializer, String identityPropertyName, RavenJObject metadata) {
+      super(delegate);
+      this.serializer = serializer;
+      this.identityPropertyName = identityPropertyName;
+      this.metadata = metadata;
+    }
+
+    private boolean skipping() {
+      return skipDepth >= 0;
+    }
+
+    /**
+     * Returns true if value (written as a whole) should be skipped.
+     */
+    private boolean skipValue() {
+      if (!skipping()) {
+        return false;
+      }
+      if (depth == skipDepth) {
+        skipDepth = -1;
+      }
+      return true;
+    }
+
+    private boolean skipFieldName(String name) {
+      if (skipping()) {
+        return true;
+      }
+      if (depth == 1 && name.equals(identityPropertyName)) {
+        skipDepth = depth;
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void writeStartObject() throws IOException {
+      if (!skipping()) {
+        delegate.writeStartObject();
+      }
+      depth++;
+    }
+
+    @Override
+    public void writeEndObject() throws IOException {
+      depth--;
+      if (skipping()) {
+        if (depth == skipDepth) {
+          skipDepth = -1;
+        }
+        return;
+      }
+      if (depth == 0) {
+        delegate.writeFieldName(Constants.METADATA);
+        metadata.writeTo(delegate);
+      }
+      delegate.writeEndObject();
+    }
+
+    @Override
+    public void writeStartArray() throws IOException {
+      if (!skipping()) {
+        delegate.writeStartArray();
+      }
+      depth++;
+    }
+
+    @Override
+    public void writeEndArray() throws IOException {
+      depth--;
+      if (skipping()) {
+        if (depth == skipDepth) {
+          skipDepth = -1;
+        }
+        return;
+      }
+      delegate.writeEndArray();
+    }
+
+    @Override
+    public void writeFieldName(String name) throws IOException {
+      if (!skipFieldName(name)) {
+        delegate.writeFieldName(name);
+      }
+    }
+
+    @Override
+    public void writeFieldName(SerializedString name) throws IOException {
+      if (!skipFieldName(name.getValue())) {
+        delegate.writeFieldName(name);
+      }
+    }
+
+    @Override
+    public void writeFieldName(SerializableString name) throws IOException {
+      if (!skipFieldName(name.getValue())) {
+        delegate.writeFieldName(name);
+      }
+    }
+
+    @Override
+    public void writeString(String text) throws IOException {
+      if (!skipValue()) {
+        delegate.writeString(text);
+      }
+    }
+
+    @Override
+    public void writeString(char[] text, int offset, int len) throws IOException {
+      if (!skipValue()) {
+        delegate.writeString(text, offset, len);
+      }
+    }
+
+    @Override
+    public void writeString(SerializableString text) throws IOException {
+      if (!skipValue()) {
+        delegate.writeString(text);
+      }
+    }
+
+    @Override
+    public void writeRawUTF8String(byte[] text, int offset, int length) throws IOException {
+      if (!skipValue()) {
+        delegate.writeRawUTF8String(text, offset, length);
+      }
+    }
+
+    @Override
+    public void writeUTF8String(byte[] text, int offset, int length) throws IOException {
+      if (!skipValue()) {
+        delegate.writeUTF8String(text, offset, length);
+      }
+    }
+
+    @Override
+    public void writeRawValue(String text) throws IOException {
+      if (!skipValue()) {
+        delegate.writeRawValue(text);
+      }
+    }
+
+    @Override
+    public void writeRawValue(String text, int offset, int len) throws IOException {
+      if (!skipValue()) {
+        delegate.writeRawValue(text, offset, len);
+      }
+    }
+
+    @Override
+    public void writeRawValue(char[] text, int offset, int len) throws IOException {
+      if (!skipValue()) {
+        delegate.writeRawValue(text, offset, len);
+      }
+    }
+
+    @Override
+    public void writeBinary(Base64Variant b64variant, byte[] data, int offset, int len) throws IOException {
+      if (!skipValue()) {
+        delegate.writeBinary(b64variant, data, offset, len);
+      }
+    }
+
+    @Override
+    public void writeNumber(int v) throws IOException {
+      if (!skipValue()) {
+        delegate.writeNumber(v);
+      }
+    }
+
+    @Override
+    public void writeNumber(long v) throws IOException {
+      if (!skipValue()) {
+        delegate.writeNumber(v);
+      }
+    }
+
+    @Override
+    public void writeNumber(BigInteger v) throws IOException {
+      if (!skipValue()) {
+        delegate.writeNumber(v);
+      }
+    }
+
+    @Override
+    public void writeNumber(double v) throws IOException {
+      if (!skipValue()) {
+        delegate.writeNumber(v);
+      }
+    }
+
+    @Override
+    public void writeNumber(float v) throws IOException {
+      if (!skipValue()) {
+        delegate.writeNumber(v);
+      }
+    }
+
+    @Override
+    public void writeNumber(BigDecimal v) throws IOException {
+      if (!skipValue()) {
+        delegate.writeNumber(v);
+      }
+    }
+
+    @Override
+    public void writeNumber(String encodedValue) throws IOException {
+      if (!skipValue()) {
+        delegate.writeNumber(encodedValue);
+      }
+    }
+
+    @Override
+    public void writeBoolean(boolean state) throws IOException {
+      if (!skipValue()) {
+        delegate.writeBoolean(state);
+      }
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+      if (!skipValue()) {
+        delegate.writeNull();
+      }
+    }
+
+    @Override
+    public void writeObject(Object pojo) throws IOException {
+      if (pojo == null) {
+        writeNull();
+      } else {
+        // serialized through this generator, so nested writes are tracked (and skipped if needed)
+        serializer.serialize(this, pojo);
+      }
+    }
+
+    @Override
+    public void writeTree(JsonNode rootNode) throws IOException {
+      if (!skipValue()) {
+        delegate.writeTree(rootNode);
+      }
+    }
+
+    @Override
+    public void copyCurrentStructure(JsonParser jp) throws IOException {
+      if (!skipValue()) {
+        delegate.copyCurrentStructure(jp);
+      }
+    }
+  }
+}
@@ -1,19 +1,48 @@
 package net.ravendb.client.document;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import net.ravendb.abstractions.basic.CompletionFuture;
 import net.ravendb.abstractions.data.Etag;
 import net.ravendb.abstractions.data.JsonDocument;
 import net.ravendb.abstractions.data.MultiLoadResult;
 import net.ravendb.abstractions.exceptions.ConcurrencyException;
 import net.ravendb.abstractions.json.linq.RavenJObject;
 import net.ravendb.abstractions.json.linq.RavenJValue;
+import net.ravendb.abstractions.logging.ILog;
+import net.ravendb.abstractions.logging.LogManager;
 import net.ravendb.client.connection.IDatabaseCommands;
 import net.ravendb.client.exceptions.ConflictException;
 
 /**
  * Generate hilo numbers against a RavenDB document
+ *
+ * When {@link DocumentConvention#getHiLoPrefetchWatermark()} is set and generator has its own prefetch commands,
+ * next range is fetched in background once given part of current range is used, so generating keys doesn't wait
+ * for the server. Background fetch never uses commands of the caller (they belong to the session).
  */
 public class HiLoKeyGenerator extends HiLoKeyGeneratorBase {
-  private final Object generatorLock = new Object();
+
+  private static final ILog logger = LogManager.getCurrentClassLogger();
+
+  /**
+   * Marks range for which next range is fetched synchronously (no prefetch was started).
+   */
+  private static final CompletionFuture<RangeValue> FETCHING_SYNCHRONOUSLY = new CompletionFuture<>(new Callable<RangeValue>() {
+    @Override
+    public RangeValue call() throws Exception {
+      return null;
+    }
+  });
+
+  private final Lock generatorLock = new ReentrantLock();
+  private final AtomicLong rangesFetched = new AtomicLong();
+  private final AtomicLong waitTimeNanos = new AtomicLong();
+  private final IDatabaseCommands prefetchCommands;
 
   /**
    * Initializes a new instance of the {@link HiLoKeyGenerator} class.
@@ -21,7 +50,18 @@ public class HiLoKeyGenerator extends HiLoKeyGeneratorBase {
    * @param capacity
    */
   public HiLoKeyGenerator(String tag, long capacity) {
+    this(tag, capacity, null);
+  }
+
+  /**
+   * Initializes a new instance of the {@link HiLoKeyGenerator} class.
+   * @param tag
+   * @param capacity
+   * @param prefetchCommands commands used only by background fetch of next range (null disables prefetching)
+   */
+  public HiLoKeyGenerator(String tag, long capacity, IDatabaseCommands prefetchCommands) {
     super(tag, capacity);
+    this.prefetchCommands = prefetchCommands;
   }
 
 
@@ -32,7 +72,7 @@ public class HiLoKeyGenerator extends HiLoKeyGeneratorBase {
    * @param entity
    */
   public String generateDocumentKey(IDatabaseCommands databaseCommands, DocumentConvention convention, Object entity) {
-    return getDocumentKeyFromId(convention, nextId(databaseCommands));
+    return getDocumentKeyFromId(convention, nextId(databaseCommands, convention));
   }
 
   /**
@@ -40,20 +80,99 @@ public class HiLoKeyGenerator extends HiLoKeyGeneratorBase {
    * @param commands
    */
   public long nextId(IDatabaseCommands commands) {
+    return nextId(commands, null);
+  }
+
+  private long nextId(IDatabaseCommands commands, DocumentConvention convention) {
     while (true) {
       RangeValue myRange = getRange();// thread safe copy
       long current = myRange.current.incrementAndGet();
 
-      if (current <= myRange.max.longValue())
+      if (current <= myRange.max.longValue()) {
+        if (current >= myRange.prefetchAt && myRange.next.get() == null && convention != null && prefetchCommands != null) {
+          prefetchNextRange(convention, myRange);
+        }
         return current;
+      }
 
-      synchronized (generatorLock) {
+      long waitStart = System.nanoTime();
+      generatorLock.lock();
+      try {
         if (getRange() != myRange)
           // Lock was contended, and the max has already been changed. Just get a new id as usual.
           continue;
 
-        setRange(getNextRange(commands));
+        RangeValue nextRange = takePrefetchedRange(myRange);
+        if (nextRange == null) {
+          nextRange = getNextRange(commands);
+        }
+        nextRange.prefetchAt = getPrefetchPoint(nextRange, convention);
+        setRange(nextRange);
+      } finally {
+        generatorLock.unlock();
+        waitTimeNanos.addAndGet(System.nanoTime() - waitStart);
+      }
+    }
+  }
+
+  /**
+   * Number of ranges fetched from the server (including prefetched ones).
+   */
+  public long getRangesFetched() {
+    return rangesFetched.get();
+  }
+
+  /**
+   * Total time callers spent waiting for next range (when current one was exhausted), in milliseconds.
+   */
+  public long getWaitTime() {
+    return TimeUnit.NANOSECONDS.toMillis(waitTimeNanos.get());
+  }
+
+  private static long getPrefetchPoint(RangeValue range, DocumentConvention convention) {
+    double watermark = convention != null ? convention.getHiLoPrefetchWatermark() : 0;
+    if (watermark <= 0 || watermark >= 1) {
+      return Long.MAX_VALUE;
+    }
+    long min = range.min.longValue();
+    long size = range.max.longValue() - min + 1;
+    return min + Math.max(0, (long) (size * watermark) - 1);
+  }
+
+  /**
+   * Starts fetching range following given one, unless it was already requested.
+   * Only one request for next range is made per range, so at most one fetch (and one thread using prefetch commands)
+   * runs at a time.
+   */
+  private void prefetchNextRange(DocumentConvention convention, RangeValue range) {
+    CompletionFuture<RangeValue> prefetch = new CompletionFuture<>(new Callable<RangeValue>() {
+      @Override
+      public RangeValue call() throws Exception {
+        return getNextRange(prefetchCommands);
       }
+    });
+    if (!range.next.compareAndSet(null, prefetch)) {
+      return;
+    }
+    Thread thread = convention.newThread(prefetch, "RavenDB HiLo prefetch " + tag);
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Returns range prefetched for given (exhausted) range, waiting for fetch in progress.
+   * Returns null if nothing was prefetched or prefetch failed - next range has to be fetched synchronously then.
+   */
+  private RangeValue takePrefetchedRange(RangeValue range) {
+    CompletionFuture<RangeValue> prefetch = range.next.getAndSet(FETCHING_SYNCHRONOUSLY);
+    if (prefetch == null || prefetch == FETCHING_SYNCHRONOUSLY) {
+      return null;
+    }
+    try {
+      return prefetch.join();
+    } catch (RuntimeException e) {
+      logger.warnException("Unable to prefetch HiLo range for " + tag + ", retrying", e);
+      return null;
     }
   }
 
@@ -102,6 +221,7 @@ public class HiLoKeyGenerator extends HiLoKeyGeneratorBase {
             document.getDataAsJson().add("Max", new RavenJValue(max));
           }
           putDocument(databaseCommands, document);
+          rangesFetched.incrementAndGet();
 
           return new RangeValue(min, max);
         } catch (ConcurrencyException e) {
@@ -4,7 +4,9 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+import net.ravendb.abstractions.basic.CompletionFuture;
 import net.ravendb.abstractions.data.JsonDocument;
 import net.ravendb.abstractions.data.MultiLoadResult;
 import net.ravendb.abstractions.json.linq.RavenJValue;
@@ -17,7 +19,7 @@ public abstract class HiLoKeyGeneratorBase {
   protected final String RAVEN_KEY_SERVER_PREFIX = "Raven/ServerPrefixForHilo";
 
   protected final String tag;
-  protected long capacity;
+  protected volatile long capacity;
   protected long baseCapacity;
   private volatile RangeValue range;
 
@@ -53,6 +55,13 @@ public abstract class HiLoKeyGeneratorBase {
     return RAVEN_KEY_GENERATORS_HILO + tag;
   }
 
+  /**
+   * Size of the range requested with next fetch.
+   */
+  public long getCapacity() {
+    return capacity;
+  }
+
   public boolean isDisableCapacityChanges() {
     return disableCapacityChanges;
   }
@@ -119,6 +128,14 @@ public abstract class HiLoKeyGeneratorBase {
     public AtomicLong min;
     public AtomicLong max;
     public AtomicLong current;
+    /**
+     * Value of current after which next range is prefetched.
+     */
+    public long prefetchAt = Long.MAX_VALUE;
+    /**
+     * Next range (fetched in background or synchronously) once it was requested.
+     */
+    public final AtomicReference<CompletionFuture<RangeValue>> next = new AtomicReference<>();
 
     public RangeValue(long min, long max)
     {
@@ -15,6 +15,13 @@ public interface ILowLevelBulkInsertOperation extends AutoCloseable {
 
   public void write(String id, RavenJObject metadata, RavenJObject data, Integer dataSize) throws InterruptedException;
 
+  /**
+   * Writes document which is already encoded as BSON (with @metadata, including @id).
+   * @param id
+   * @param bsonDocument
+   */
+  public void write(String id, byte[] bsonDocument) throws InterruptedException;
+
   public Action1<String> getReport();
 
   /**
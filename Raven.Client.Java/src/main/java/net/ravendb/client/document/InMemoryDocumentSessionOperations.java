@@ -475,10 +475,8 @@ public abstract class InMemoryDocumentSessionOperations implements CleanCloseabl
       try {
         String documentType = getConventions().getJavaClass(id, documentFound, metadata);
         if (documentType != null) {
-          Class< ? > type = Class.forName(documentType);
-          if (type != null) {
-            entity = getConventions().createSerializer().deserialize(documentFound, type);
-          }
+          Class< ? > type = getConventions().resolveJavaClass(documentType);
+          entity = getConventions().createSerializer().deserialize(documentFound, type);
         }
 
         if (Objects.equals(entity, defaultValue)) {
@@ -501,6 +499,90 @@ public abstract class InMemoryDocumentSessionOperations implements CleanCloseabl
 
   }
 
+  /**
+   * Checks if streamed documents of given type can be bound directly from response stream.
+   * @param entityType
+   */
+  public boolean canBindStreamedResultsDirectly(Class<?> entityType) {
+    return getConventions().isBindStreamedResultsDirectly()
+      && !RavenJObject.class.equals(entityType)
+      && theListeners.getConversionListeners().isEmpty();
+  }
+
+  /**
+   * Completes streamed query result which was bound outside of query operation. Entity is not tracked,
+   * but as in queries, instance already tracked by session is returned instead.
+   * @param key
+   * @param entity
+   * @param metadata
+   */
+  public Object completeStreamedEntity(String key, Object entity, RavenJObject metadata) {
+    if (key != null && entitiesByKey.containsKey(key)) {
+      // the local instance may have been changed, we adhere to the current Unit of Work
+      // instance, and return that, ignoring anything new.
+      return entitiesByKey.get(key);
+    }
+    if (metadata != null) {
+      ensureNotReadVetoed(metadata);
+      if (metadata.value(Boolean.TYPE, "Non-Authoritative-Information") && !allowNonAuthoritativeInformation) {
+        throw new NonAuthoritativeInformationException("Document " + key +
+          " returned Non Authoritative Information (probably modified by a transaction in progress) and AllowNonAuthoritativeInformation  is set to false");
+      }
+    }
+    if (key != null) {
+      generateEntityIdOnTheClient.trySetIdentity(entity, key);
+    }
+    return entity;
+  }
+
+  /**
+   * Completes streamed document which was bound outside of convertToEntity. As in convertToEntity,
+   * streamed instance is always returned (even if session tracks the document).
+   * @param key
+   * @param entity
+   * @param metadata
+   */
+  public Object completeStreamedDocument(String key, Object entity, RavenJObject metadata) {
+    if (metadata != null) {
+      ensureNotReadVetoed(metadata);
+    }
+    if (key != null) {
+      generateEntityIdOnTheClient.trySetIdentity(entity, key);
+    }
+    return entity;
+  }
+
+  /**
+   * Checks if streamed documents of given type can be deserialized on stream read ahead threads.
+   * @param entityType
+   */
+  public boolean canDeserializeStreamedResultsInParallel(Class<?> entityType) {
+    return getConventions().getStreamReadAhead() > 0
+      && !RavenJObject.class.equals(entityType)
+      && theListeners.getConversionListeners().isEmpty();
+  }
+
+  /**
+   * Deserializes streamed document without touching session state, so it can be called from any thread.
+   * Result must be passed to completeStreamedEntity or completeStreamedDocument on session thread.
+   * @param entityType
+   * @param id
+   * @param document
+   * @param metadata
+   */
+  public Object deserializeStreamedEntity(Class<?> entityType, String id, RavenJObject document, RavenJObject metadata) {
+    String documentType = getConventions().getJavaClass(id, document, metadata);
+    Class<?> type = entityType;
+    if (documentType != null) {
+      try {
+        type = getConventions().resolveJavaClass(documentType);
+      } catch (ClassNotFoundException e) {
+        throw new RuntimeException(e);
+      }
+    }
+    return getConventions().createSerializer().deserialize(document, type);
+  }
+
   private void registerMissingProperties(Object o, String key, RavenJToken value) {
     if (!entityToJson.getMissingDictionary().containsKey(o)) {
       entityToJson.getMissingDictionary().put(o, new HashMap<String, RavenJToken>());
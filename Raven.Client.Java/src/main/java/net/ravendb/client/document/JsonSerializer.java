@@ -1,49 +1,84 @@
 package net.ravendb.client.document;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import net.ravendb.abstractions.exceptions.JsonReaderException;
 import net.ravendb.abstractions.exceptions.JsonWriterException;
 import net.ravendb.abstractions.extensions.JsonExtensions;
 import net.ravendb.abstractions.json.linq.RavenJToken;
+import net.ravendb.abstractions.json.linq.RavenJTokenReader;
 import net.ravendb.abstractions.json.linq.RavenJTokenWriter;
 
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 import org.codehaus.jackson.map.Module;
 import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.ObjectWriter;
+import org.codehaus.jackson.map.SerializationConfig;
 import org.codehaus.jackson.map.SerializationConfig.Feature;
 
 
+/**
+ * Serializes entities with settings taken from {@link DocumentConvention}.
+ *
+ * Serializers share one {@link ObjectMapper} (and its serializer/deserializer caches), which is never reconfigured
+ * after creation. Convention specific settings are applied by {@link ObjectWriter} built for given convention,
+ * so serializers of different stores can be used concurrently. Serializer with registered modules uses its own mapper.
+ */
 public class JsonSerializer {
-  private static ObjectMapper objectMapper;
-  private DocumentConvention convention;
+  private static final ObjectMapper sharedObjectMapper = JsonExtensions.createDefaultJsonSerializer();
+
+  private final DocumentConvention convention;
+  private final List<Module> modules = new ArrayList<>();
+  private volatile ObjectMapper objectMapper = sharedObjectMapper;
+  private volatile ConfiguredWriter writer;
 
   public JsonSerializer() {
-    if (objectMapper == null) {
-      synchronized (JsonSerializer.class) {
-        if (objectMapper == null) {
-          objectMapper = JsonExtensions.createDefaultJsonSerializer();
-        }
-      }
-    }
+    this(null);
   }
 
   public JsonSerializer(DocumentConvention convention) {
-    this();
     this.convention = convention;
-    config();
   }
 
+  /**
+   * Convention settings are applied on every use of serializer, there is nothing to configure.
+   * @deprecated not needed anymore, does nothing
+   */
+  @Deprecated
   public void config() {
-    if (convention.isSaveEnumsAsIntegers()) {
-      objectMapper.enable(Feature.WRITE_ENUMS_USING_INDEX);
-    } else {
-      objectMapper.disable(Feature.WRITE_ENUMS_USING_INDEX);
-    }
+    // settings are read from convention when writer is built
   }
 
+  /**
+   * Returns writer configured for current convention settings. Writer is rebuilt only when settings
+   * (or registered modules) have changed since it was created.
+   */
+  private ObjectWriter getWriter() {
+    boolean saveEnumsAsIntegers = convention != null && convention.isSaveEnumsAsIntegers();
+    ObjectMapper mapper = objectMapper;
+    ConfiguredWriter current = writer;
+    if (current == null || current.saveEnumsAsIntegers != saveEnumsAsIntegers || current.mapper != mapper) {
+      SerializationConfig config = mapper.copySerializationConfig();
+      config = saveEnumsAsIntegers ? config.with(Feature.WRITE_ENUMS_USING_INDEX) : config.without(Feature.WRITE_ENUMS_USING_INDEX);
+      current = new ConfiguredWriter(mapper, config, saveEnumsAsIntegers);
+      writer = current;
+    }
+    return current;
+  }
   public void serialize(RavenJTokenWriter jsonWriter, Object value) {
     try {
-      objectMapper.writeValue(jsonWriter, value);
+      getWriter().writeValue(jsonWriter, value);
+    } catch (IOException e) {
+      throw new JsonWriterException(e.getMessage(), e);
+    }
+  }
+
+  public void serialize(JsonGenerator jsonGenerator, Object value) {
+    try {
+      getWriter().writeValue(jsonGenerator, value);
     } catch (IOException e) {
       throw new JsonWriterException(e.getMessage(), e);
     }
@@ -51,7 +86,7 @@ public class JsonSerializer {
 
   public String serializeAsString(Object value) {
     try {
-      return objectMapper.writeValueAsString(value);
+      return getWriter().writeValueAsString(value);
     } catch (IOException e) {
       throw new JsonWriterException(e.getMessage(), e);
     }
@@ -65,12 +100,46 @@ public class JsonSerializer {
     }
   }
 
+  public <T> T deserialize(JsonParser parser, Class<T> type) {
+    try {
+      return objectMapper.readValue(parser, type);
+    } catch (IOException e) {
+      throw new JsonReaderException(e.getMessage(), e);
+    }
+  }
+
   public <T> T deserialize(RavenJToken y, Class<T> type) {
-    return deserialize(y.toString(), type);
+    try {
+      ObjectMapper mapper = objectMapper;
+      return mapper.readValue(new RavenJTokenReader(y, mapper), type);
+    } catch (IOException e) {
+      throw new JsonReaderException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Registers module in this serializer only (other conventions and stores are not affected).
+   * Serializer switches to its own mapper with all modules registered so far; mapper in use is never modified.
+   * @param module
+   */
+  public synchronized void registerModule(Module module) {
+    modules.add(module);
+    ObjectMapper mapper = JsonExtensions.createDefaultJsonSerializer();
+    for (Module registered : modules) {
+      mapper.registerModule(registered);
+    }
+    objectMapper = mapper;
   }
 
-  public void registerModule(Module setupMoneyModule) {
-    objectMapper.registerModule(setupMoneyModule);
+  private static class ConfiguredWriter extends ObjectWriter {
+    private final ObjectMapper mapper;
+    private final boolean saveEnumsAsIntegers;
+
+    public ConfiguredWriter(ObjectMapper mapper, SerializationConfig config, boolean saveEnumsAsIntegers) {
+      super(mapper, config);
+      this.mapper = mapper;
+      this.saveEnumsAsIntegers = saveEnumsAsIntegers;
+    }
   }
 
 }
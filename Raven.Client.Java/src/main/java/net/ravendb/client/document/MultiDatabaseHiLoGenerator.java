@@ -1,8 +1,12 @@
 package net.ravendb.client.document;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import net.ravendb.abstractions.closure.Function0;
+import net.ravendb.abstractions.closure.Function1;
 import net.ravendb.abstractions.data.Constants;
 import net.ravendb.client.connection.IDatabaseCommands;
 
@@ -10,10 +14,21 @@ import net.ravendb.client.connection.IDatabaseCommands;
 public class MultiDatabaseHiLoGenerator {
 
   private final int capacity;
+  private final Function1<String, IDatabaseCommands> prefetchCommandsFactory;
   private final ConcurrentMap<String, MultiTypeHiLoKeyGenerator> generators = new ConcurrentHashMap<>();
 
   public MultiDatabaseHiLoGenerator(int capacity) {
+    this(capacity, null);
+  }
+
+  /**
+   * @param capacity
+   * @param prefetchCommandsFactory creates commands for given database (null means default database), used by
+   * background range fetch. Commands must not be shared with sessions. Null disables prefetching.
+   */
+  public MultiDatabaseHiLoGenerator(int capacity, Function1<String, IDatabaseCommands> prefetchCommandsFactory) {
     this.capacity = capacity;
+    this.prefetchCommandsFactory = prefetchCommandsFactory;
   }
 
 
@@ -22,8 +37,33 @@ public class MultiDatabaseHiLoGenerator {
     if (key == null) {
       key = Constants.SYSTEM_DATABASE;
     }
-    generators.putIfAbsent(key, new MultiTypeHiLoKeyGenerator(capacity));
     MultiTypeHiLoKeyGenerator generator = generators.get(key);
+    if (generator == null) {
+      generator = new MultiTypeHiLoKeyGenerator(capacity, prefetchCommands(dbName));
+      MultiTypeHiLoKeyGenerator existing = generators.putIfAbsent(key, generator);
+      if (existing != null) {
+        generator = existing;
+      }
+    }
     return generator.generateDocumentKey(databaseCommands, conventions, entity);
   }
+
+  private Function0<IDatabaseCommands> prefetchCommands(final String dbName) {
+    if (prefetchCommandsFactory == null) {
+      return null;
+    }
+    return new Function0<IDatabaseCommands>() {
+      @Override
+      public IDatabaseCommands apply() {
+        return prefetchCommandsFactory.apply(dbName);
+      }
+    };
+  }
+
+  /**
+   * Generators created so far, by database name. Can be used to inspect their metrics.
+   */
+  public Map<String, MultiTypeHiLoKeyGenerator> getGenerators() {
+    return Collections.unmodifiableMap(generators);
+  }
 }
@@ -1,8 +1,11 @@
 package net.ravendb.client.document;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import net.ravendb.abstractions.closure.Function0;
 import net.ravendb.client.connection.IDatabaseCommands;
 
 import org.apache.commons.lang.StringUtils;
@@ -13,15 +16,26 @@ import org.apache.commons.lang.StringUtils;
  */
 public class MultiTypeHiLoKeyGenerator {
   private final int capacity;
-  private final Object generatorLock = new Object();
-  private Map<String, HiLoKeyGenerator> keyGeneratorsByTag = new HashMap<>();
+  private final Function0<IDatabaseCommands> prefetchCommandsFactory;
+  private final ConcurrentMap<String, HiLoKeyGenerator> keyGeneratorsByTag = new ConcurrentHashMap<>();
 
   /**
    * Initializes a new instance of the {@link MultiTypeHiLoKeyGenerator} class.
    * @param capacity
    */
   public MultiTypeHiLoKeyGenerator(int capacity) {
+    this(capacity, null);
+  }
+
+  /**
+   * Initializes a new instance of the {@link MultiTypeHiLoKeyGenerator} class.
+   * @param capacity
+   * @param prefetchCommandsFactory creates commands used by background range fetch of each type generator
+   * (null disables prefetching)
+   */
+  public MultiTypeHiLoKeyGenerator(int capacity, Function0<IDatabaseCommands> prefetchCommandsFactory) {
     this.capacity = capacity;
+    this.prefetchCommandsFactory = prefetchCommandsFactory;
   }
 
   /**
@@ -36,19 +50,23 @@ public class MultiTypeHiLoKeyGenerator {
       return null;
     }
     String tag = conventions.getTransformTypeTagNameToDocumentKeyPrefix().transform(typeTagName);
-    if (keyGeneratorsByTag.containsKey(tag)) {
-      return keyGeneratorsByTag.get(tag).generateDocumentKey(databaseCommands, conventions, entity);
-    }
-    HiLoKeyGenerator value = null;
-    synchronized (generatorLock) {
-      if (keyGeneratorsByTag.containsKey(tag)) {
-        return keyGeneratorsByTag.get(tag).generateDocumentKey(databaseCommands, conventions, entity);
-      }
-
-      value = new HiLoKeyGenerator(tag, capacity);
-      keyGeneratorsByTag.put(tag, value);
+    return getGenerator(tag).generateDocumentKey(databaseCommands, conventions, entity);
+  }
+
+  private HiLoKeyGenerator getGenerator(String tag) {
+    HiLoKeyGenerator generator = keyGeneratorsByTag.get(tag);
+    if (generator != null) {
+      return generator;
     }
+    generator = new HiLoKeyGenerator(tag, capacity, prefetchCommandsFactory != null ? prefetchCommandsFactory.apply() : null);
+    HiLoKeyGenerator existing = keyGeneratorsByTag.putIfAbsent(tag, generator);
+    return existing != null ? existing : generator;
+  }
 
-    return value.generateDocumentKey(databaseCommands, conventions, entity);
+  /**
+   * Generators created so far, by tag. Can be used to inspect their metrics.
+   */
+  public Map<String, HiLoKeyGenerator> getGenerators() {
+    return Collections.unmodifiableMap(keyGeneratorsByTag);
   }
 }
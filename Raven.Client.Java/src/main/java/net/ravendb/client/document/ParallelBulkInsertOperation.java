@@ -0,0 +1,141 @@
+package net.ravendb.client.document;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import net.ravendb.abstractions.closure.Action1;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+
+/**
+ * Bulk insert which writes documents using several bulk insert operations (connections) at once.
+ *
+ * Documents are distributed by id hash, so all writes of given document go through the same operation
+ * (and are applied in the order they were written).
+ */
+public class ParallelBulkInsertOperation implements ILowLevelBulkInsertOperation {
+
+  private final List<ILowLevelBulkInsertOperation> operations;
+  private final Lock reportLock = new ReentrantLock();
+  private Action1<String> report;
+
+  public ParallelBulkInsertOperation(List<ILowLevelBulkInsertOperation> operations) {
+    if (operations.isEmpty()) {
+      throw new IllegalArgumentException("At least one bulk insert operation is required");
+    }
+    this.operations = Collections.unmodifiableList(new ArrayList<>(operations));
+  }
+
+  /**
+   * Id of the first operation. Ids of all operations are returned by getOperationIds.
+   */
+  @Override
+  public UUID getOperationId() {
+    return operations.get(0).getOperationId();
+  }
+
+  public List<UUID> getOperationIds() {
+    List<UUID> result = new ArrayList<>(operations.size());
+    for (ILowLevelBulkInsertOperation operation : operations) {
+      result.add(operation.getOperationId());
+    }
+    return result;
+  }
+
+  public List<ILowLevelBulkInsertOperation> getOperations() {
+    return operations;
+  }
+
+  /**
+   * Returns true if any of operations was aborted.
+   */
+  @Override
+  public boolean isAborted() {
+    for (ILowLevelBulkInsertOperation operation : operations) {
+      if (operation.isAborted()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void write(String id, RavenJObject metadata, RavenJObject data) throws InterruptedException {
+    write(id, metadata, data, null);
+  }
+
+  @Override
+  public void write(String id, RavenJObject metadata, RavenJObject data, Integer dataSize) throws InterruptedException {
+    if (id == null) {
+      throw new IllegalArgumentException("id");
+    }
+    operations.get((id.hashCode() & Integer.MAX_VALUE) % operations.size()).write(id, metadata, data, dataSize);
+  }
+
+  @Override
+  public void write(String id, byte[] bsonDocument) throws InterruptedException {
+    if (id == null) {
+      throw new IllegalArgumentException("id");
+    }
+    operations.get((id.hashCode() & Integer.MAX_VALUE) % operations.size()).write(id, bsonDocument);
+  }
+
+  @Override
+  public Action1<String> getReport() {
+    return report;
+  }
+
+  /**
+   * Report of the progress of operation. Messages are prefixed with number of operation which reported them,
+   * and are passed to report one at a time.
+   * @param report
+   */
+  @Override
+  public void setReport(final Action1<String> report) {
+    this.report = report;
+    for (int i = 0; i < operations.size(); i++) {
+      final String prefix = "[" + (i + 1) + "/" + operations.size() + "] ";
+      operations.get(i).setReport(report == null ? null : new Action1<String>() {
+        @Override
+        public void apply(String message) {
+          reportLock.lock();
+          try {
+            report.apply(prefix + message);
+          } finally {
+            reportLock.unlock();
+          }
+        }
+      });
+    }
+  }
+
+  @Override
+  public void abort() {
+    for (ILowLevelBulkInsertOperation operation : operations) {
+      operation.abort();
+    }
+  }
+
+  /**
+   * Closes (waits for) all operations. First error is rethrown after all operations are closed.
+   */
+  @Override
+  public void close() throws Exception {
+    Exception firstError = null;
+    for (ILowLevelBulkInsertOperation operation : operations) {
+      try {
+        operation.close();
+      } catch (Exception e) {
+        if (firstError == null) {
+          firstError = e;
+        }
+      }
+    }
+    if (firstError != null) {
+      throw firstError;
+    }
+  }
+}
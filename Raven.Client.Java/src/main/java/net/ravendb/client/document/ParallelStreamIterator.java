@@ -0,0 +1,193 @@
+package net.ravendb.client.document;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import net.ravendb.abstractions.basic.CloseableIterator;
+import net.ravendb.abstractions.basic.CompletionFuture;
+import net.ravendb.abstractions.closure.Function1;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.logging.ILog;
+import net.ravendb.abstractions.logging.LogManager;
+
+/**
+ * Iterator which reads documents from inner (streaming) iterator on background thread and converts them
+ * on deserialization executor (usually shared by all streams). Results are returned in the order of the inner iterator.
+ *
+ * At most readAhead converted (or being converted) documents wait for the consumer, reader blocks when limit is reached.
+ * Inner iterator is used and closed only by reader thread. Converter must be thread-safe.
+ * @param <T>
+ */
+public class ParallelStreamIterator<T> implements CloseableIterator<T> {
+
+  private static final ILog logger = LogManager.getCurrentClassLogger();
+
+  private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+  private final CloseableIterator<RavenJObject> innerIterator;
+  private final Function1<RavenJObject, T> converter;
+  private final BlockingQueue<CompletionFuture<T>> queue;
+  private final CompletionFuture<T> endOfStream;
+  private final Executor deserializers;
+
+  private volatile boolean closed;
+  private boolean finished;
+  private CompletionFuture<T> current;
+
+  public ParallelStreamIterator(CloseableIterator<RavenJObject> innerIterator, Function1<RavenJObject, T> converter,
+    int readAhead, Executor deserializers, Convention convention) {
+    this.innerIterator = innerIterator;
+    this.converter = converter;
+    this.queue = new ArrayBlockingQueue<>(Math.max(1, readAhead));
+    this.endOfStream = new CompletionFuture<>(new Callable<T>() {
+      @Override
+      public T call() {
+        return null;
+      }
+    });
+    this.deserializers = deserializers;
+
+    Thread reader = convention.newThread(new Runnable() {
+      @Override
+      public void run() {
+        read();
+      }
+    }, "RavenDB stream reader");
+    reader.setDaemon(true);
+    reader.start();
+  }
+
+  /**
+   * Whatever happens, end of stream (preceded by failure, if any) is queued, so consumer never waits forever.
+   */
+  private void read() {
+    CompletionFuture<T> failure = null;
+    try {
+      while (!closed && innerIterator.hasNext()) {
+        final RavenJObject next = innerIterator.next();
+        CompletionFuture<T> future = new CompletionFuture<>(new Callable<T>() {
+          @Override
+          public T call() {
+            return converter.apply(next);
+          }
+        });
+        deserializers.execute(future);
+        if (!offer(future)) {
+          return;
+        }
+      }
+    } catch (Throwable e) {
+      failure = failed(e);
+    } finally {
+      try {
+        innerIterator.close();
+      } catch (Throwable e) {
+        if (failure == null) {
+          failure = failed(e);
+        } else {
+          logger.warnException("Unable to close stream after read error", e);
+        }
+      }
+      if (failure == null || offer(failure)) {
+        offer(endOfStream);
+      }
+    }
+  }
+
+  private CompletionFuture<T> failed(final Throwable error) {
+    CompletionFuture<T> failed = new CompletionFuture<>(new Callable<T>() {
+      @Override
+      public T call() throws Exception {
+        if (error instanceof Exception) {
+          throw (Exception) error;
+        }
+        if (error instanceof Error) {
+          throw (Error) error;
+        }
+        throw new RuntimeException(error);
+      }
+    });
+    failed.run();
+    return failed;
+  }
+
+  /**
+   * Puts item to the queue, waiting for space. Returns false if iterator was closed in the meantime.
+   */
+  private boolean offer(CompletionFuture<T> item) {
+    try {
+      while (!closed) {
+        if (queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+          return true;
+        }
+      }
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (closed) {
+      return false;
+    }
+    if (current == null && !finished) {
+      CompletionFuture<T> next;
+      try {
+        next = queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+      if (next == endOfStream) {
+        finished = true;
+      } else {
+        current = next;
+      }
+    }
+    return current != null;
+  }
+
+  @Override
+  public T next() {
+    if (closed) {
+      throw new IllegalStateException("Stream is closed");
+    }
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    CompletionFuture<T> result = current;
+    current = null;
+    return result.join();
+  }
+
+  /**
+   * Stops reading. Inner iterator is closed by reader thread, as soon as it notices close request.
+   * Conversions which haven't started yet are cancelled.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    CompletionFuture<T> pending;
+    while ((pending = queue.poll()) != null) {
+      pending.cancel(false);
+    }
+    if (current != null) {
+      current.cancel(false);
+    }
+  }
+
+  @Override
+  public void remove() {
+    throw new IllegalStateException("Not implemented!");
+  }
+}
@@ -6,13 +6,22 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.GZIPOutputStream;
 
 import net.ravendb.abstractions.closure.Action1;
@@ -53,7 +62,8 @@ public class RemoteBulkInsertOperation implements ILowLevelBulkInsertOperation,
   private final ServerClient operationClient;
 
   private final ByteArrayOutputStream bufferedStream = new ByteArrayOutputStream();
-  private final BlockingQueue<RavenJObject> queue;
+  private final Deque<Future<EncodedBatch>> pendingBatches = new ArrayDeque<>();
+  private final BlockingQueue<Object> queue;
 
   private static final RavenJObject ABORT_MARKER = new RavenJObject();
   private static final RavenJObject SKIP_MARKER = new RavenJObject();
@@ -178,7 +188,7 @@ public class RemoteBulkInsertOperation implements ILowLevelBulkInsertOperation,
     }
     final String tokenToPass = token;
 
-    Thread thread = new Thread(new Runnable() {
+    Thread thread = operationClient.getConvention().newThread(new Runnable() {
 
       @Override
       public void run() {
@@ -205,7 +215,7 @@ public class RemoteBulkInsertOperation implements ILowLevelBulkInsertOperation,
           operationClient.setExpect100Continue(false);
         }
       }
-    });
+    }, "Bulk insert " + operationId);
 
 
     thread.setUncaughtExceptionHandler(new UncaughtExceptionHandler() {
@@ -264,37 +274,67 @@ public class RemoteBulkInsertOperation implements ILowLevelBulkInsertOperation,
   }
 
   private void writeQueueToServer(OutputStream stream, BulkInsertOptions options, CancellationToken cancellationToken) throws IOException {
-    while (true) {
-      cancellationToken.throwIfCancellationRequested();
-      List<RavenJObject> batch = new ArrayList<>();
-      try {
-        RavenJObject document;
-        while ((document = queue.poll(200, TimeUnit.MICROSECONDS)) != null) {
-          cancellationToken.throwIfCancellationRequested();
-
-          if (document == END_OF_QUEUE_OBJECT) { //marker
-            flushBatch(stream, batch);
-            return;
-          }
-          if (document == SKIP_MARKER) { // ignore this, just filling the queue
-            continue;
-          }
-          if (document == ABORT_MARKER) { // abort immediately
-            return;
-          }
-          batch.add(document);
+    ExecutorService encoders = createEncoders(options);
+    try {
+      while (true) {
+        cancellationToken.throwIfCancellationRequested();
+        List<Object> batch = new ArrayList<>();
+        try {
+          Object document;
+          while ((document = queue.poll(200, TimeUnit.MICROSECONDS)) != null) {
+            cancellationToken.throwIfCancellationRequested();
+
+            if (document == END_OF_QUEUE_OBJECT) { //marker
+              flushBatch(stream, batch, encoders);
+              while (!pendingBatches.isEmpty()) {
+                writeEncodedBatch(stream, takeEncodedBatch());
+              }
+              return;
+            }
+            if (document == SKIP_MARKER) { // ignore this, just filling the queue
+              continue;
+            }
+            if (document == ABORT_MARKER) { // abort immediately
+              return;
+            }
+            batch.add(document);
 
-          if (batch.size() >= options.getBatchSize()) {
-            break;
+            if (batch.size() >= options.getBatchSize()) {
+              break;
+            }
           }
+        } catch (InterruptedException e ){
+          //ignore
         }
-      } catch (InterruptedException e ){
-        //ignore
+        flushBatch(stream, batch, encoders);
+      }
+    } finally {
+      pendingBatches.clear();
+      if (encoders != null) {
+        encoders.shutdownNow();
       }
-      flushBatch(stream, batch);
     }
   }
 
+  /**
+   * Creates pool which encodes batches in parallel, or returns null when batches are encoded by writing thread.
+   */
+  private ExecutorService createEncoders(BulkInsertOptions options) {
+    if (options.getEncodingThreads() <= 1) {
+      return null;
+    }
+    final Convention convention = operationClient.getConvention();
+    return Executors.newFixedThreadPool(options.getEncodingThreads(), new ThreadFactory() {
+      private final AtomicInteger threadNumber = new AtomicInteger();
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread = convention.newThread(r, "Bulk insert " + operationId + " encoder " + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+  }
+
   @Override
   public void write(String id, RavenJObject metadata, RavenJObject data) throws InterruptedException {
     write(id, metadata, data, null);
@@ -317,6 +357,24 @@ public class RemoteBulkInsertOperation implements ILowLevelBulkInsertOperation,
 
     metadata.add("@id", id);
     data.add(Constants.METADATA, metadata);
+    enqueue(data, dataSize);
+  }
+
+  @Override
+  public void write(String id, byte[] bsonDocument) throws InterruptedException {
+    if (id == null) {
+      throw new IllegalArgumentException("id");
+    }
+    if (bsonDocument == null) {
+      throw new IllegalArgumentException("bsonDocument");
+    }
+    if (aborted) {
+      throw new IllegalStateException("Operation has been aborted");
+    }
+    enqueue(bsonDocument, bsonDocument.length);
+  }
+
+  private void enqueue(Object data, Integer dataSize) throws InterruptedException {
     for (int i = 0; i < 2; i++) {
       if (operationTask.isInterrupted() || !operationTask.isAlive()){
         operationTask.join();
@@ -390,33 +448,83 @@ public class RemoteBulkInsertOperation implements ILowLevelBulkInsertOperation,
     reportInternal("Done writing to server");
   }
 
-  private  void flushBatch(OutputStream requestStream, Collection<RavenJObject> localBatch) throws IOException {
-    if (localBatch.isEmpty()) {
-      return ;
+  /**
+   * Encodes and writes batch. When encoders are used, batch is only submitted for encoding, and batches
+   * which are already encoded are written (in submit order). Writer waits only when too many batches are pending.
+   */
+  private void flushBatch(OutputStream requestStream, final List<Object> localBatch, ExecutorService encoders) throws IOException {
+    if (encoders == null) {
+      if (localBatch.isEmpty()) {
+        return;
+      }
+      checkNotAborted();
+      bufferedStream.reset();
+      writeToBuffer(localBatch, bufferedStream);
+      writeEncodedBatch(requestStream, new EncodedBatch(localBatch.size(), bufferedStream));
+      return;
+    }
+
+    if (!localBatch.isEmpty()) {
+      checkNotAborted();
+      pendingBatches.add(encoders.submit(new Callable<EncodedBatch>() {
+        @Override
+        public EncodedBatch call() throws Exception {
+          ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+          writeToBuffer(localBatch, buffer);
+          return new EncodedBatch(localBatch.size(), buffer);
+        }
+      }));
+    }
+
+    int maxPendingBatches = options.getEncodingThreads() * 2;
+    while (!pendingBatches.isEmpty() && (pendingBatches.size() > maxPendingBatches || pendingBatches.peek().isDone())) {
+      writeEncodedBatch(requestStream, takeEncodedBatch());
+    }
+  }
+
+  private EncodedBatch takeEncodedBatch() throws IOException {
+    Future<EncodedBatch> future = pendingBatches.poll();
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for bulk insert batch", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new RuntimeException(cause);
     }
+  }
+
+  private void checkNotAborted() {
     if (aborted) {
       throw new IllegalStateException("Operation was timed out or has been aborted");
     }
-    bufferedStream.reset();
-    writeToBuffer(localBatch);
+  }
 
-    byte[] bytes = ByteBuffer.allocate(4).putInt(bufferedStream.size()).array();
+  private void writeEncodedBatch(OutputStream requestStream, EncodedBatch encodedBatch) throws IOException {
+    checkNotAborted();
+    byte[] bytes = ByteBuffer.allocate(4).putInt(encodedBatch.data.size()).array();
     ArrayUtils.reverse(bytes);
     requestStream.write(bytes);
-    bufferedStream.writeTo(requestStream);
+    encodedBatch.data.writeTo(requestStream);
     requestStream.flush();
 
-    total += localBatch.size();
+    total += encodedBatch.documentCount;
 
     Action1<String> report = getReport();
     if (report != null) {
-      report.apply(String.format("Wrote %d (total %d) documents to server gzipped to %d kb", localBatch.size(), total, bufferedStream.size() / 1024));
+      report.apply(String.format("Wrote %d (total %d) documents to server gzipped to %d kb", encodedBatch.documentCount, total, encodedBatch.data.size() / 1024));
     }
-
   }
 
-  private void writeToBuffer(Collection<RavenJObject> localBatch) throws IOException {
-    GZIPOutputStream gzipOutputStream = new GZIPOutputStream(bufferedStream);
+  private void writeToBuffer(Collection<Object> localBatch, ByteArrayOutputStream buffer) throws IOException {
+    GZIPOutputStream gzipOutputStream = new GZIPOutputStream(buffer);
 
     BsonGenerator bsonWriter = bsonFactory.createJsonGenerator(gzipOutputStream);
     bsonWriter.disable(org.codehaus.jackson.JsonGenerator.Feature.AUTO_CLOSE_TARGET);
@@ -424,12 +532,28 @@ public class RemoteBulkInsertOperation implements ILowLevelBulkInsertOperation,
     byte[] bytes = ByteBuffer.allocate(4).putInt(localBatch.size()).array();
     ArrayUtils.reverse(bytes);
     gzipOutputStream.write(bytes);
-    for (RavenJObject doc : localBatch) {
-      doc.writeTo(bsonWriter);
+    for (Object doc : localBatch) {
+      if (doc instanceof byte[]) {
+        // already encoded document
+        bsonWriter.flush();
+        gzipOutputStream.write((byte[]) doc);
+      } else {
+        ((RavenJObject) doc).writeTo(bsonWriter);
+      }
     }
     bsonWriter.close();
     gzipOutputStream.finish();
-    bufferedStream.flush();
+    buffer.flush();
+  }
+
+  private static class EncodedBatch {
+    private final int documentCount;
+    private final ByteArrayOutputStream data;
+
+    public EncodedBatch(int documentCount, ByteArrayOutputStream data) {
+      this.documentCount = documentCount;
+      this.data = data;
+    }
   }
 
   private void reportInternal(String format, Object... args) {
@@ -0,0 +1,197 @@
+package net.ravendb.client.document;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.ravendb.abstractions.basic.CloseableIterator;
+import net.ravendb.abstractions.basic.Reference;
+import net.ravendb.abstractions.closure.Action1;
+import net.ravendb.abstractions.data.Etag;
+import net.ravendb.abstractions.data.JsonDocument;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.logging.ILog;
+import net.ravendb.abstractions.logging.LogManager;
+import net.ravendb.client.connection.IDatabaseCommands;
+import net.ravendb.client.connection.SerializationHelper;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Exports all documents in etag order, in batches, using streamDocs.
+ *
+ * When stream fails, export reconnects and continues after etag of last delivered document. Each reconnect goes
+ * through replication aware streamDocs, so export fails over to other servers when primary is not available.
+ * Documents are delivered at least once: batch which was being delivered when process died is delivered again
+ * after restart (when checkpoint file is used).
+ *
+ * Etags are local to each server, so url of the server which streamed the documents is kept (and checkpointed)
+ * next to the last delivered etag. When stream continues on other server (e.g. after failover), export starts
+ * again from the beginning on that server.
+ */
+public class ResumableDocumentExport {
+
+  private static final ILog logger = LogManager.getCurrentClassLogger();
+
+  private final IDatabaseCommands databaseCommands;
+  private final DocumentExportOptions options;
+  private volatile Etag lastDeliveredEtag;
+  private volatile String serverUrl;
+
+  public ResumableDocumentExport(IDatabaseCommands databaseCommands, DocumentExportOptions options) {
+    this.databaseCommands = databaseCommands;
+    this.options = options;
+  }
+
+  /**
+   * Etag of last document accepted by the sink.
+   */
+  public Etag getLastDeliveredEtag() {
+    return lastDeliveredEtag;
+  }
+
+  /**
+   * Url of the server which last delivered etag belongs to.
+   */
+  public String getServerUrl() {
+    return serverUrl;
+  }
+
+  /**
+   * Exports documents to the sink. Returns when all documents are delivered.
+   * Exception thrown by the sink (or by checkpoint write) stops export and is rethrown.
+   * @param fromEtag export documents after this etag of the first server which answers (ignored when checkpoint file exists)
+   * @param sink receives batches of documents
+   * @return etag of last delivered document
+   */
+  public Etag export(Etag fromEtag, Action1<List<JsonDocument>> sink) {
+    if (!readCheckpoint()) {
+      lastDeliveredEtag = fromEtag != null ? fromEtag : Etag.empty();
+      serverUrl = null;
+    }
+
+    int failures = 0;
+    while (true) {
+      boolean delivering = false;
+      CloseableIterator<RavenJObject> iterator = null;
+      try {
+        Reference<String> streamServerUrl = new Reference<>();
+        iterator = databaseCommands.streamDocs(lastDeliveredEtag, streamServerUrl);
+        if (isOtherServer(streamServerUrl.value)) {
+          logger.warn("Export stream moved from %s to %s, etag %s is not valid there. Restarting export from the beginning",
+            serverUrl, streamServerUrl.value, lastDeliveredEtag);
+          lastDeliveredEtag = Etag.empty();
+          serverUrl = null;
+          continue;
+        }
+        serverUrl = streamServerUrl.value;
+        boolean endOfStream = false;
+        while (!endOfStream) {
+          List<JsonDocument> batch = new ArrayList<>();
+          endOfStream = readBatch(iterator, batch);
+          if (!batch.isEmpty()) {
+            delivering = true;
+            sink.apply(batch);
+            lastDeliveredEtag = batch.get(batch.size() - 1).getEtag();
+            writeCheckpoint(lastDeliveredEtag, serverUrl);
+            delivering = false;
+            failures = 0;
+          }
+        }
+        return lastDeliveredEtag;
+      } catch (RuntimeException e) {
+        if (delivering) {
+          throw e;
+        }
+        failures++;
+        if (options.getMaxRetries() >= 0 && failures > options.getMaxRetries()) {
+          throw e;
+        }
+        logger.warnException("Export stream failed, resuming after etag " + lastDeliveredEtag, e);
+      } finally {
+        closeQuietly(iterator);
+      }
+      waitBeforeRetry();
+    }
+  }
+
+  private boolean isOtherServer(String streamServerUrl) {
+    return serverUrl != null && !serverUrl.equals(streamServerUrl) && !Etag.empty().equals(lastDeliveredEtag);
+  }
+
+  /**
+   * Reads up to batch size documents. Returns true when stream has ended.
+   */
+  private boolean readBatch(CloseableIterator<RavenJObject> iterator, List<JsonDocument> batch) {
+    while (batch.size() < options.getBatchSize()) {
+      if (!iterator.hasNext()) {
+        return true;
+      }
+      batch.add(SerializationHelper.ravenJObjectToJsonDocument(iterator.next()));
+    }
+    return false;
+  }
+
+  private static void closeQuietly(CloseableIterator<RavenJObject> iterator) {
+    if (iterator == null) {
+      return;
+    }
+    try {
+      iterator.close();
+    } catch (RuntimeException e) {
+      logger.debugException("Unable to close export stream", e);
+    }
+  }
+
+  private void waitBeforeRetry() {
+    if (options.getRetryDelay() <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(options.getRetryDelay());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Reads last delivered etag and server url from checkpoint file. Returns false when there is no checkpoint.
+   */
+  private boolean readCheckpoint() {
+    File file = options.getCheckpointFile();
+    if (file == null || !file.exists()) {
+      return false;
+    }
+    try {
+      String[] lines = StringUtils.split(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8), "\r\n");
+      if (lines.length == 0 || StringUtils.isBlank(lines[0])) {
+        return false;
+      }
+      lastDeliveredEtag = Etag.parse(lines[0].trim());
+      serverUrl = lines.length > 1 ? StringUtils.trimToNull(lines[1]) : null;
+      return true;
+    } catch (IOException e) {
+      throw new RuntimeException("Unable to read export checkpoint from " + file, e);
+    }
+  }
+
+  private void writeCheckpoint(Etag etag, String url) {
+    File file = options.getCheckpointFile();
+    if (file == null) {
+      return;
+    }
+    File tempFile = new File(file.getPath() + ".tmp");
+    try {
+      String checkpoint = url != null ? etag + "\n" + url : etag.toString();
+      Files.write(tempFile.toPath(), checkpoint.getBytes(StandardCharsets.UTF_8));
+      Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new RuntimeException("Unable to write export checkpoint to " + file, e);
+    }
+  }
+}
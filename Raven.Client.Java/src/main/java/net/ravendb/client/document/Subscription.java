@@ -256,7 +256,7 @@ public class Subscription<T> implements IObservable<T>, CleanCloseable {
       }
     };
 
-    Thread pullingThread = new Thread(runnable, "Subscription pulling thread");
+    Thread pullingThread = conventions.newThread(runnable, "Subscription pulling thread");
     pullingThread.start();
     return pullingThread;
   }
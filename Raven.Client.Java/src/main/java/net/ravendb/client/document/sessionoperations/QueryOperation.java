@@ -1,6 +1,5 @@
 package net.ravendb.client.document.sessionoperations;
 
-import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Date;
@@ -15,7 +14,6 @@ import net.ravendb.abstractions.data.Constants;
 import net.ravendb.abstractions.data.IndexQuery;
 import net.ravendb.abstractions.data.JsonDocument;
 import net.ravendb.abstractions.data.QueryResult;
-import net.ravendb.abstractions.extensions.JsonExtensions;
 import net.ravendb.abstractions.json.linq.JTokenType;
 import net.ravendb.abstractions.json.linq.RavenJArray;
 import net.ravendb.abstractions.json.linq.RavenJObject;
@@ -25,6 +23,7 @@ import net.ravendb.abstractions.logging.ILog;
 import net.ravendb.abstractions.logging.LogManager;
 import net.ravendb.client.connection.SerializationHelper;
 import net.ravendb.client.document.InMemoryDocumentSessionOperations;
+import net.ravendb.client.document.JsonSerializer;
 import net.ravendb.client.exceptions.NonAuthoritativeInformationException;
 
 import org.apache.commons.lang.StringUtils;
@@ -33,6 +32,11 @@ import org.apache.commons.lang.StringUtils;
 public class QueryOperation {
 
   private static final ILog log = LogManager.getCurrentClassLogger();
+
+  /**
+   * Projections are bound with default mapper, modules registered in conventions don't apply to them.
+   */
+  private static final JsonSerializer projectionSerializer = new JsonSerializer();
   private final InMemoryDocumentSessionOperations sessionOperations;
   private final String indexName;
   private final IndexQuery indexQuery;
@@ -206,11 +210,7 @@ public class QueryOperation {
       }
     }
 
-    try {
-      return JsonExtensions.createDefaultJsonSerializer().readValue(result.toString(), clazz);
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
+    return projectionSerializer.deserialize(result, clazz);
   }
 
   private void handleInternalMetadata(RavenJObject result) {
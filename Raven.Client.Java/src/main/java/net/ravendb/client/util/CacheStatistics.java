@@ -0,0 +1,145 @@
+package net.ravendb.client.util;
+
+/**
+ * Snapshot of http cache counters.
+ */
+public class CacheStatistics {
+
+  private int currentSize;
+  private int maxSize;
+  private long currentSizeInBytes;
+  private long maxSizeInBytes;
+  private long hits;
+  private long misses;
+  private long evictions;
+  private long rejections;
+
+  /**
+   * Number of responses currently held in cache.
+   */
+  public int getCurrentSize() {
+    return currentSize;
+  }
+
+  /**
+   * Number of responses currently held in cache.
+   * @param currentSize
+   */
+  public void setCurrentSize(int currentSize) {
+    this.currentSize = currentSize;
+  }
+
+  /**
+   * Maximum number of responses cache can hold.
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Maximum number of responses cache can hold.
+   * @param maxSize
+   */
+  public void setMaxSize(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Estimated size (in bytes) of responses currently held in cache.
+   */
+  public long getCurrentSizeInBytes() {
+    return currentSizeInBytes;
+  }
+
+  /**
+   * Estimated size (in bytes) of responses currently held in cache.
+   * @param currentSizeInBytes
+   */
+  public void setCurrentSizeInBytes(long currentSizeInBytes) {
+    this.currentSizeInBytes = currentSizeInBytes;
+  }
+
+  /**
+   * Maximum size (in bytes) of responses cache can hold.
+   */
+  public long getMaxSizeInBytes() {
+    return maxSizeInBytes;
+  }
+
+  /**
+   * Maximum size (in bytes) of responses cache can hold.
+   * @param maxSizeInBytes
+   */
+  public void setMaxSizeInBytes(long maxSizeInBytes) {
+    this.maxSizeInBytes = maxSizeInBytes;
+  }
+
+  /**
+   * Number of lookups which found cached response.
+   */
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * Number of lookups which found cached response.
+   * @param hits
+   */
+  public void setHits(long hits) {
+    this.hits = hits;
+  }
+
+  /**
+   * Number of lookups which did not find cached response.
+   */
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Number of lookups which did not find cached response.
+   * @param misses
+   */
+  public void setMisses(long misses) {
+    this.misses = misses;
+  }
+
+  /**
+   * Number of responses removed from cache to make room for new ones.
+   */
+  public long getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * Number of responses removed from cache to make room for new ones.
+   * @param evictions
+   */
+  public void setEvictions(long evictions) {
+    this.evictions = evictions;
+  }
+
+  /**
+   * Number of responses which were not kept in cache, because they were used less often than cached ones.
+   */
+  public long getRejections() {
+    return rejections;
+  }
+
+  /**
+   * Number of responses which were not kept in cache, because they were used less often than cached ones.
+   * @param rejections
+   */
+  public void setRejections(long rejections) {
+    this.rejections = rejections;
+  }
+
+  /**
+   * Ratio of lookups which found cached response.
+   */
+  public double getHitRatio() {
+    long total = hits + misses;
+    return total == 0 ? 0 : (double) hits / total;
+  }
+
+}
@@ -0,0 +1,85 @@
+package net.ravendb.client.util;
+
+/**
+ * Snapshot of http connection pool counters.
+ */
+public class ConnectionPoolStatistics {
+
+  private int leased;
+  private int pending;
+  private int available;
+  private int max;
+
+  public ConnectionPoolStatistics() {
+    super();
+  }
+
+  public ConnectionPoolStatistics(int leased, int pending, int available, int max) {
+    super();
+    this.leased = leased;
+    this.pending = pending;
+    this.available = available;
+    this.max = max;
+  }
+
+  /**
+   * Number of connections currently used by requests.
+   */
+  public int getLeased() {
+    return leased;
+  }
+
+  /**
+   * Number of connections currently used by requests.
+   * @param leased
+   */
+  public void setLeased(int leased) {
+    this.leased = leased;
+  }
+
+  /**
+   * Number of requests waiting for connection.
+   */
+  public int getPending() {
+    return pending;
+  }
+
+  /**
+   * Number of requests waiting for connection.
+   * @param pending
+   */
+  public void setPending(int pending) {
+    this.pending = pending;
+  }
+
+  /**
+   * Number of idle connections ready to be reused.
+   */
+  public int getAvailable() {
+    return available;
+  }
+
+  /**
+   * Number of idle connections ready to be reused.
+   * @param available
+   */
+  public void setAvailable(int available) {
+    this.available = available;
+  }
+
+  /**
+   * Maximum number of connections.
+   */
+  public int getMax() {
+    return max;
+  }
+
+  /**
+   * Maximum number of connections.
+   * @param max
+   */
+  public void setMax(int max) {
+    this.max = max;
+  }
+
+}
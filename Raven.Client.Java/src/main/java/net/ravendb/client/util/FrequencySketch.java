@@ -0,0 +1,90 @@
+package net.ravendb.client.util;
+
+import java.util.Arrays;
+
+/**
+ * Approximate access frequency counter (count-min sketch with 4-bit counters).
+ *
+ * Used by {@link SimpleCache} as TinyLFU admission filter: new entry replaces the LRU victim
+ * only if it was requested more often than the victim. Counters are halved periodically, so
+ * old popularity fades out.
+ *
+ * This class is not thread safe - caller must guard it.
+ */
+class FrequencySketch {
+
+  private static final int DEPTH = 4;
+  private static final int MAX_COUNT = 15;
+
+  private static final int[] SEEDS = new int[] { 0x97cb3127, 0x7a8b9a4d, 0xc3a5c85c, 0x9e3779b9 };
+
+  private final byte[][] table;
+  private final int mask;
+  private final int sampleSize;
+  private int additions;
+
+  public FrequencySketch(int expectedItems) {
+    int width = 16;
+    while (width < expectedItems * 4 && width < (1 << 24)) {
+      width <<= 1;
+    }
+    table = new byte[DEPTH][width];
+    mask = width - 1;
+    sampleSize = Math.max(10 * expectedItems, 64);
+  }
+
+  public int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int min = MAX_COUNT;
+    for (int i = 0; i < DEPTH; i++) {
+      min = Math.min(min, table[i][indexOf(hash, i)]);
+    }
+    return min;
+  }
+
+  public void increment(Object key) {
+    int hash = spread(key.hashCode());
+    boolean added = false;
+    for (int i = 0; i < DEPTH; i++) {
+      int index = indexOf(hash, i);
+      if (table[i][index] < MAX_COUNT) {
+        table[i][index]++;
+        added = true;
+      }
+    }
+    if (added && ++additions >= sampleSize) {
+      reset();
+    }
+  }
+
+  public void clear() {
+    for (byte[] row : table) {
+      Arrays.fill(row, (byte) 0);
+    }
+    additions = 0;
+  }
+
+  private void reset() {
+    for (byte[] row : table) {
+      for (int i = 0; i < row.length; i++) {
+        row[i] = (byte) (row[i] >>> 1);
+      }
+    }
+    additions /= 2;
+  }
+
+  private int indexOf(int hash, int row) {
+    int h = (hash ^ SEEDS[row]) * 0x9e3779b1;
+    h ^= h >>> 16;
+    return h & mask;
+  }
+
+  private static int spread(int h) {
+    h ^= (h >>> 17);
+    h *= 0xed5ad4bb;
+    h ^= (h >>> 11);
+    h *= 0xac4c1b51;
+    h ^= (h >>> 15);
+    return h;
+  }
+}
@@ -0,0 +1,101 @@
+package net.ravendb.client.util;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Stack;
+
+import net.ravendb.abstractions.json.linq.RavenJArray;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJToken;
+import net.ravendb.abstractions.json.linq.RavenJValue;
+
+/**
+ * Rough estimation of heap retained by json trees and headers held in http cache.
+ * Numbers assume 64-bit JVM with compressed oops - they are meant for cache weighting,
+ * not exact accounting.
+ */
+public class ObjectSizeEstimator {
+
+  private static final int OBJECT_HEADER = 16;
+  private static final int REFERENCE = 4;
+  private static final int RAVEN_JOBJECT = 24 + 40;
+  private static final int RAVEN_JARRAY = 24 + 24 + OBJECT_HEADER;
+  private static final int RAVEN_JVALUE = 24;
+  private static final int MAP_ENTRY = 40;
+  private static final int BOXED_VALUE = 24;
+
+  private ObjectSizeEstimator() {
+    // empty by design
+  }
+
+  public static long estimateSize(String value) {
+    if (value == null) {
+      return 0;
+    }
+    return 40 + 2L * value.length();
+  }
+
+  public static long estimateSize(ByteBuffer buffer) {
+    if (buffer == null) {
+      return 0;
+    }
+    return 64 + buffer.capacity();
+  }
+
+  public static long estimateSize(Map<String, String> headers) {
+    if (headers == null) {
+      return 0;
+    }
+    long size = 48;
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      size += MAP_ENTRY + estimateSize(header.getKey()) + estimateSize(header.getValue());
+    }
+    return size;
+  }
+
+  public static long estimateSize(RavenJToken token) {
+    if (token == null) {
+      return 0;
+    }
+    long size = 0;
+    Stack<RavenJToken> stack = new Stack<>();
+    stack.push(token);
+    while (!stack.isEmpty()) {
+      RavenJToken current = stack.pop();
+      if (current instanceof RavenJObject) {
+        size += RAVEN_JOBJECT;
+        for (Map.Entry<String, RavenJToken> property : (RavenJObject) current) {
+          size += MAP_ENTRY + estimateSize(property.getKey());
+          if (property.getValue() != null) {
+            stack.push(property.getValue());
+          }
+        }
+      } else if (current instanceof RavenJArray) {
+        RavenJArray array = (RavenJArray) current;
+        size += RAVEN_JARRAY + REFERENCE * array.size();
+        for (RavenJToken item : array) {
+          if (item != null) {
+            stack.push(item);
+          }
+        }
+      } else if (current instanceof RavenJValue) {
+        size += RAVEN_JVALUE + estimateValueSize(((RavenJValue) current).getValue());
+      }
+    }
+    return size;
+  }
+
+  private static long estimateValueSize(Object value) {
+    if (value == null || value instanceof Boolean) {
+      return 0;
+    }
+    if (value instanceof String) {
+      return estimateSize((String) value);
+    }
+    if (value instanceof byte[]) {
+      return OBJECT_HEADER + ((byte[]) value).length;
+    }
+    return BOXED_VALUE;
+  }
+
+}
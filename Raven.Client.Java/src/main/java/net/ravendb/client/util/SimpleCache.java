@@ -1,87 +1,121 @@
 package net.ravendb.client.util;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 import net.ravendb.abstractions.basic.CleanCloseable;
-import net.ravendb.abstractions.closure.Action1;
 import net.ravendb.client.connection.CachedRequest;
-import net.ravendb.client.connection.profiling.ConcurrentLruSet;
-
 
+/**
+ * Http response cache.
+ *
+ * Keys are spread over lock-striped segments. Each segment keeps a small admission window
+ * and a main area, both in access order (O(1) touch and eviction). When the window
+ * overflows its eldest entry is admitted to the main area only if it is requested more
+ * often than the main area LRU victims it would push out (W-TinyLFU).
+ *
+ * Cache is bounded by both number of entries and total estimated size of cached responses
+ * (see {@link CachedRequest#getSize()}).
+ */
 public class SimpleCache implements CleanCloseable {
 
-  private final ConcurrentLruSet<String> lruKeys;
-  private final ConcurrentHashMap<String, CachedRequest> actualCache;
+  private static final int MAX_SEGMENTS = 16;
+  private static final int MIN_ENTRIES_PER_SEGMENT = 32;
+
+  private final Segment[] segments;
+  private final int segmentMask;
+  private final int maxNumberOfCacheEntries;
+  private final long maxSizeInBytes;
   private final ConcurrentHashMap<String, Long> lastWritePerDb = new ConcurrentHashMap<>();
 
-  private AtomicInteger memoryPressureCounterOnSet = new AtomicInteger();
-  private AtomicInteger memoryPressureCounterOnGet = new AtomicInteger();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong rejections = new AtomicLong();
 
   public SimpleCache(int maxNumberOfCacheEntries) {
-    actualCache = new ConcurrentHashMap<>();
-    lruKeys = new ConcurrentLruSet<>(maxNumberOfCacheEntries, new Action1<String>() {
-      @Override
-      public void apply(String key) {
-        actualCache.remove(key);
-      }
-    });
+    this(maxNumberOfCacheEntries, Long.MAX_VALUE);
   }
 
-  private static long getAvailableMemory() {
-    return Runtime.getRuntime().freeMemory() / 1024 / 1024;
-  }
+  public SimpleCache(int maxNumberOfCacheEntries, long maxSizeInBytes) {
+    this.maxNumberOfCacheEntries = Math.max(0, maxNumberOfCacheEntries);
+    this.maxSizeInBytes = Math.max(0, maxSizeInBytes);
 
-  public void set(String key, CachedRequest val) {
-    if (memoryPressureCounterOnSet.incrementAndGet() % 25 == 0) {
-      tryClearMemory();
+    int segmentsCount = 1;
+    while (segmentsCount < MAX_SEGMENTS && segmentsCount * 2 * MIN_ENTRIES_PER_SEGMENT <= this.maxNumberOfCacheEntries) {
+      segmentsCount <<= 1;
     }
-
-    if (lastWritePerDb.containsKey(val.getDatabase())) {
-      val.setReadTime(lastWritePerDb.get(val.getDatabase()));
+    segments = new Segment[segmentsCount];
+    segmentMask = segmentsCount - 1;
+    for (int i = 0; i < segmentsCount; i++) {
+      int capacity = this.maxNumberOfCacheEntries / segmentsCount + (i < this.maxNumberOfCacheEntries % segmentsCount ? 1 : 0);
+      segments[i] = new Segment(capacity, this.maxSizeInBytes / segmentsCount);
     }
-
-    actualCache.put(key, val);
-    lruKeys.push(key);
   }
 
-  private void tryClearMemory() {
-    long availableMemory = getAvailableMemory();
-    if (availableMemory != -1 && availableMemory < 1024) {
-      lruKeys.clearHalf();
+  public void set(String key, CachedRequest val) {
+    Long lastWrite = lastWritePerDb.get(val.getDatabase());
+    if (lastWrite != null) {
+      val.setReadTime(lastWrite);
     }
+
+    segmentFor(key).put(key, val);
   }
 
   public CachedRequest get(String key) {
-    CachedRequest value = null;
-    if (actualCache.containsKey(key)) {
-      value = actualCache.get(key);
-      lruKeys.push(key);
-      if (memoryPressureCounterOnGet.incrementAndGet() % 1000 == 0) {
-        tryClearMemory();
-      }
+    CachedRequest value = segmentFor(key).get(key);
+    if (value == null) {
+      misses.incrementAndGet();
+      return null;
     }
-    if (value != null) {
-      Long lastWrite;
-      if (lastWritePerDb.containsKey(value.getDatabase())) {
-        lastWrite = lastWritePerDb.get(value.getDatabase());
-        if (value.getReadTime()  < lastWrite) {
-          value.setForceServerCheck(true);
-        }
-      }
+    hits.incrementAndGet();
+
+    Long lastWrite = lastWritePerDb.get(value.getDatabase());
+    if (lastWrite != null && value.getReadTime() < lastWrite) {
+      value.setForceServerCheck(true);
     }
 
     return value;
   }
 
   public int getCurrentSize() {
-    return actualCache.size();
+    int size = 0;
+    for (Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  public long getCurrentSizeInBytes() {
+    long size = 0;
+    for (Segment segment : segments) {
+      size += segment.weight();
+    }
+    return size;
+  }
+
+  public CacheStatistics getStatistics() {
+    CacheStatistics statistics = new CacheStatistics();
+    statistics.setCurrentSize(getCurrentSize());
+    statistics.setMaxSize(maxNumberOfCacheEntries);
+    statistics.setCurrentSizeInBytes(getCurrentSizeInBytes());
+    statistics.setMaxSizeInBytes(maxSizeInBytes);
+    statistics.setHits(hits.get());
+    statistics.setMisses(misses.get());
+    statistics.setEvictions(evictions.get());
+    statistics.setRejections(rejections.get());
+    return statistics;
   }
 
   @Override
   public void close() {
-    lruKeys.clear();
-    actualCache.clear();
+    for (Segment segment : segments) {
+      segment.clear();
+    }
   }
 
   public void forceServerCheckOfCachedItemsForDatabase(String databaseName) {
@@ -96,4 +130,162 @@ public class SimpleCache implements CleanCloseable {
     }
   }
 
+  private Segment segmentFor(String key) {
+    int h = key.hashCode();
+    h ^= (h >>> 16);
+    return segments[h & segmentMask];
+  }
+
+  private final class Segment {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, CachedRequest> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, CachedRequest> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final int windowCapacity;
+    private final int mainCapacity;
+    private final long windowMaxWeight;
+    private final long mainMaxWeight;
+    private long windowWeight;
+    private long mainWeight;
+
+    public Segment(int capacity, long maxWeight) {
+      windowCapacity = capacity == 0 ? 0 : Math.max(1, capacity / 100);
+      mainCapacity = capacity - windowCapacity;
+      windowMaxWeight = maxWeight / 100;
+      mainMaxWeight = maxWeight - windowMaxWeight;
+      sketch = new FrequencySketch(capacity);
+    }
+
+    public CachedRequest get(String key) {
+      lock.lock();
+      try {
+        sketch.increment(key);
+        CachedRequest value = main.get(key);
+        if (value == null) {
+          value = window.get(key);
+        }
+        return value;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    public void put(String key, CachedRequest value) {
+      lock.lock();
+      try {
+        CachedRequest previous = main.get(key);
+        if (previous != null) {
+          replaceInMain(key, previous, value);
+          return;
+        }
+        previous = window.remove(key);
+        if (previous != null) {
+          windowWeight -= previous.getSize();
+        } else {
+          sketch.increment(key);
+        }
+        if (windowCapacity == 0) {
+          rejections.incrementAndGet();
+          return;
+        }
+        window.put(key, value);
+        windowWeight += value.getSize();
+        while (!window.isEmpty() && (window.size() > windowCapacity || windowWeight > windowMaxWeight)) {
+          Map.Entry<String, CachedRequest> eldest = window.entrySet().iterator().next();
+          String candidateKey = eldest.getKey();
+          CachedRequest candidate = eldest.getValue();
+          window.remove(candidateKey);
+          windowWeight -= candidate.getSize();
+          admit(candidateKey, candidate);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Updates entry which is already in the main area. It doesn't go through admission again (refreshed entry
+     * is as valuable as it was), other entries are evicted only if the new value doesn't fit.
+     */
+    private void replaceInMain(String key, CachedRequest previous, CachedRequest value) {
+      if (value.getSize() > mainMaxWeight) {
+        main.remove(key);
+        mainWeight -= previous.getSize();
+        rejections.incrementAndGet();
+        return;
+      }
+      main.put(key, value);
+      mainWeight += value.getSize() - previous.getSize();
+      // updated entry is the most recently used one, so it is the last to be visited
+      Iterator<Map.Entry<String, CachedRequest>> victims = main.entrySet().iterator();
+      while (mainWeight > mainMaxWeight) {
+        Map.Entry<String, CachedRequest> victim = victims.next();
+        mainWeight -= victim.getValue().getSize();
+        victims.remove();
+        evictions.incrementAndGet();
+      }
+    }
+
+    private void admit(String candidateKey, CachedRequest candidate) {
+      if (candidate.getSize() > mainMaxWeight || mainCapacity == 0) {
+        rejections.incrementAndGet();
+        return;
+      }
+      int candidateFrequency = sketch.frequency(candidateKey);
+      // find all victims first: candidate is rejected (and nothing is evicted) if any of them is used more often
+      int victimsCount = 0;
+      long victimsWeight = 0;
+      Iterator<Map.Entry<String, CachedRequest>> victims = main.entrySet().iterator();
+      while (main.size() - victimsCount >= mainCapacity || mainWeight - victimsWeight + candidate.getSize() > mainMaxWeight) {
+        Map.Entry<String, CachedRequest> victim = victims.next();
+        if (candidateFrequency <= sketch.frequency(victim.getKey())) {
+          rejections.incrementAndGet();
+          return;
+        }
+        victimsCount++;
+        victimsWeight += victim.getValue().getSize();
+      }
+      victims = main.entrySet().iterator();
+      for (int i = 0; i < victimsCount; i++) {
+        victims.next();
+        victims.remove();
+      }
+      mainWeight -= victimsWeight;
+      evictions.addAndGet(victimsCount);
+      main.put(candidateKey, candidate);
+      mainWeight += candidate.getSize();
+    }
+
+    public int size() {
+      lock.lock();
+      try {
+        return window.size() + main.size();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    public long weight() {
+      lock.lock();
+      try {
+        return windowWeight + mainWeight;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    public void clear() {
+      lock.lock();
+      try {
+        window.clear();
+        main.clear();
+        windowWeight = 0;
+        mainWeight = 0;
+        sketch.clear();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
 }
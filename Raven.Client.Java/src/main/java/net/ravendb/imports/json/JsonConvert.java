@@ -13,6 +13,7 @@ import net.ravendb.abstractions.json.linq.RavenJToken;
 import org.codehaus.jackson.JsonParseException;
 import org.codehaus.jackson.map.JsonMappingException;
 import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.ObjectWriter;
 
 
 public class JsonConvert {
@@ -28,6 +29,14 @@ public class JsonConvert {
     }
   }
 
+  /**
+   * Returns writer configured in the same way as in serializeObject. Use it to write object directly to stream.
+   */
+  public static ObjectWriter getObjectWriter() {
+    initObjectMapper();
+    return objectMapper.writer();
+  }
+
   private static void initObjectMapper() {
     if (objectMapper != null) {
       return ;
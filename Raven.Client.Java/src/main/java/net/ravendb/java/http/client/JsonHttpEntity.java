@@ -0,0 +1,111 @@
+package net.ravendb.java.http.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import net.ravendb.abstractions.closure.Function1;
+import net.ravendb.abstractions.json.RavenJsonTextReader;
+import net.ravendb.abstractions.json.linq.RavenJToken;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.codehaus.jackson.JsonEncoding;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.map.ObjectWriter;
+
+/**
+ * Request entity which writes json directly to connection output stream,
+ * without building request body as string first.
+ *
+ * Entity is repeatable - json is written again when request is retried (failover, authentication).
+ */
+public abstract class JsonHttpEntity extends AbstractHttpEntity {
+
+  protected JsonHttpEntity() {
+    setContentType(ContentType.APPLICATION_JSON.toString());
+    setChunked(true);
+  }
+
+  /**
+   * Creates entity which writes given token.
+   * @param token
+   */
+  public static JsonHttpEntity forToken(final RavenJToken token) {
+    return new JsonHttpEntity() {
+      @Override
+      protected void writeJson(JsonGenerator generator) {
+        token.writeTo(generator);
+      }
+    };
+  }
+
+  /**
+   * Creates entity which writes json array of given items. Each item is converted to json while it is written,
+   * so whole array is never held in memory.
+   * @param items
+   * @param toJson converts item to json (called again when request is retried)
+   */
+  public static <T> JsonHttpEntity forArray(final Iterable<T> items, final Function1<T, ? extends RavenJToken> toJson) {
+    return new JsonHttpEntity() {
+      @Override
+      protected void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        for (T item : items) {
+          toJson.apply(item).writeTo(generator);
+        }
+        generator.writeEndArray();
+      }
+    };
+  }
+
+  /**
+   * Creates entity which writes given object using writer.
+   * @param value
+   * @param writer
+   */
+  public static JsonHttpEntity forObject(final Object value, final ObjectWriter writer) {
+    return new JsonHttpEntity() {
+      @Override
+      protected void writeJson(JsonGenerator generator) throws IOException {
+        writer.writeValue(generator, value);
+      }
+    };
+  }
+
+  protected abstract void writeJson(JsonGenerator generator) throws IOException;
+
+  @Override
+  public boolean isRepeatable() {
+    return true;
+  }
+
+  @Override
+  public long getContentLength() {
+    return -1;
+  }
+
+  @Override
+  public InputStream getContent() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    writeTo(outputStream);
+    return new ByteArrayInputStream(outputStream.toByteArray());
+  }
+
+  @Override
+  public void writeTo(OutputStream outstream) throws IOException {
+    try (JsonGenerator generator = RavenJsonTextReader.getInstance().createJsonGenerator(outstream, JsonEncoding.UTF8)) {
+      // caller (http client or gzip entity) owns the stream
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      writeJson(generator);
+    }
+  }
+
+  @Override
+  public boolean isStreaming() {
+    return false;
+  }
+
+}
@@ -1,6 +1,7 @@
 package net.ravendb.abstractions.data;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import net.ravendb.abstractions.indexing.FieldIndexing;
 import net.ravendb.abstractions.indexing.SortOptions;
 import net.ravendb.client.document.DocumentConvention;
@@ -86,4 +87,23 @@ public class SharpEnumTest {
 
   }
 
+  @Test
+  public void conventionsDoNotShareEnumSettings() {
+    DocumentConvention asIntegers = new DocumentConvention();
+    asIntegers.setSaveEnumsAsIntegers(true);
+    DocumentConvention asStrings = new DocumentConvention();
+    asStrings.setSaveEnumsAsIntegers(false);
+
+    JsonSerializer integersSerializer = asIntegers.createSerializer();
+    JsonSerializer stringsSerializer = asStrings.createSerializer();
+
+    assertEquals("7", integersSerializer.serializeAsString(SortOptions.DOUBLE));
+    assertEquals("\"Double\"", stringsSerializer.serializeAsString(SortOptions.DOUBLE));
+    assertEquals("7", integersSerializer.serializeAsString(SortOptions.DOUBLE));
+
+    asIntegers.setSaveEnumsAsIntegers(false);
+    assertSame(integersSerializer, asIntegers.createSerializer());
+    assertEquals("\"Double\"", integersSerializer.serializeAsString(SortOptions.DOUBLE));
+  }
+
 }
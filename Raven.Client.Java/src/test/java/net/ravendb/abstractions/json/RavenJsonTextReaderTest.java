@@ -0,0 +1,57 @@
+package net.ravendb.abstractions.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import net.ravendb.abstractions.json.linq.RavenJArray;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJToken;
+
+import org.junit.Test;
+
+
+public class RavenJsonTextReaderTest {
+
+  private static class TrackingInputStream extends ByteArrayInputStream {
+    private boolean closed;
+
+    public TrackingInputStream(String content) {
+      super(content.getBytes(Charset.forName("UTF-8")));
+    }
+
+    @Override
+    public void close() throws IOException {
+      closed = true;
+      super.close();
+    }
+  }
+
+  @Test
+  public void instanceIsShared() {
+    assertSame(RavenJsonTextReader.getInstance(), RavenJsonTextReader.getInstance());
+  }
+
+  @Test
+  public void tryLoadDoesNotCloseCallerStream() {
+    TrackingInputStream stream = new TrackingInputStream("{\"@metadata\":{\"@id\":\"people/1\"},\"Name\":'John'}");
+    RavenJObject document = (RavenJObject) RavenJToken.tryLoad(stream);
+
+    assertEquals("John", document.value(String.class, "Name"));
+    assertEquals("people/1", document.value(RavenJObject.class, "@metadata").value(String.class, "@id"));
+    assertFalse(stream.closed);
+  }
+
+  @Test
+  public void canRoundTrip() {
+    String json = "{\"Name\":\"John\",\"Tags\":[1,2.5,true,null]}";
+    RavenJObject parsed = RavenJObject.parse(json);
+    assertTrue(RavenJToken.deepEquals(parsed, RavenJToken.parse(parsed.toString())));
+    assertEquals(4, parsed.value(RavenJArray.class, "Tags").size());
+  }
+}
@@ -0,0 +1,73 @@
+package net.ravendb.client.changes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.nio.charset.StandardCharsets;
+
+import net.ravendb.abstractions.data.DocumentChangeNotification;
+import net.ravendb.abstractions.data.DocumentChangeTypes;
+import net.ravendb.abstractions.data.Etag;
+import net.ravendb.abstractions.data.IndexChangeNotification;
+import net.ravendb.abstractions.extensions.JsonExtensions;
+import net.ravendb.client.changes.NotificationDecoder.ChangesEvent;
+
+import org.junit.Test;
+
+
+public class NotificationDecoderTest {
+
+  private static final String DOCUMENT_CHANGE = "{\"Type\":\"Put\",\"Id\":\"users/1\",\"CollectionName\":\"Users\","
+    + "\"TypeName\":\"User\",\"Etag\":\"01000000-0000-0001-0000-000000000005\",\"Message\":null}";
+
+  private final NotificationDecoder decoder = new NotificationDecoder(JsonExtensions.createDefaultJsonSerializer())
+    .register("DocumentChangeNotification", DocumentChangeNotification.class)
+    .register("IndexChangeNotification", IndexChangeNotification.class);
+
+  private ChangesEvent decode(String line) throws Exception {
+    // decoder gets slice of larger buffer, as from line stream
+    byte[] bytes = ("data:" + line + "\r\n").getBytes(StandardCharsets.UTF_8);
+    return decoder.decode(bytes, 5, bytes.length - 7);
+  }
+
+  private static void assertDocumentChange(DocumentChangeNotification notification) {
+    assertEquals(DocumentChangeTypes.PUT, notification.getType());
+    assertEquals("users/1", notification.getId());
+    assertEquals("Users", notification.getCollectionName());
+    assertEquals("User", notification.getTypeName());
+    assertEquals(Etag.parse("01000000-0000-0001-0000-000000000005"), notification.getEtag());
+  }
+
+  @Test
+  public void bindsValueOfRegisteredType() throws Exception {
+    ChangesEvent event = decode("{\"Type\":\"DocumentChangeNotification\",\"Value\":" + DOCUMENT_CHANGE + "}");
+
+    assertEquals("DocumentChangeNotification", event.getType());
+    assertDocumentChange((DocumentChangeNotification) event.getValue());
+  }
+
+  @Test
+  public void bindsValueWrittenBeforeType() throws Exception {
+    ChangesEvent event = decode("{\"Value\":" + DOCUMENT_CHANGE + ",\"Type\":\"DocumentChangeNotification\"}");
+
+    assertEquals("DocumentChangeNotification", event.getType());
+    assertDocumentChange((DocumentChangeNotification) event.getValue());
+  }
+
+  @Test
+  public void bindsSameAsMapper() throws Exception {
+    DocumentChangeNotification expected = JsonExtensions.createDefaultJsonSerializer().readValue(DOCUMENT_CHANGE, DocumentChangeNotification.class);
+    assertDocumentChange(expected);
+  }
+
+  @Test
+  public void skipsValuesOfOtherTypes() throws Exception {
+    ChangesEvent heartbeat = decode("{\"Type\":\"Heartbeat\",\"Value\":{\"Time\":\"2014-01-01\",\"Nested\":[1,2,{}]}}");
+    assertEquals("Heartbeat", heartbeat.getType());
+    assertNull(heartbeat.getValue());
+
+    ChangesEvent initialized = decode("{\"Type\":\"Initialized\",\"Value\":null}");
+    assertEquals("Initialized", initialized.getType());
+    assertNull(initialized.getValue());
+  }
+}
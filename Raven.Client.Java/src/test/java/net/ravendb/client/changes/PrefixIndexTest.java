@@ -0,0 +1,55 @@
+package net.ravendb.client.changes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+
+public class PrefixIndexTest {
+
+  @Test
+  public void findsAllPrefixesIgnoringCase() {
+    PrefixIndex index = new PrefixIndex();
+    index.add("users/");
+    index.add("Users/1");
+    index.add("orders/");
+
+    assertEquals(Arrays.asList("users/", "users/1"), index.findPrefixesOf("USERS/12"));
+    assertEquals(Arrays.asList("users/"), index.findPrefixesOf("users/2"));
+    assertEquals(Collections.emptyList(), index.findPrefixesOf("users"));
+    assertEquals(Collections.emptyList(), index.findPrefixesOf("companies/1"));
+  }
+
+  @Test
+  public void emptyPrefixMatchesEverything() {
+    PrefixIndex index = new PrefixIndex();
+    index.add("");
+
+    assertEquals(Arrays.asList(""), index.findPrefixesOf("users/1"));
+    assertEquals(Arrays.asList(""), index.findPrefixesOf(""));
+  }
+
+  @Test
+  public void removesPrefixes() {
+    PrefixIndex index = new PrefixIndex();
+    assertTrue(index.isEmpty());
+    index.add("users/");
+    index.add("users/1");
+
+    index.remove("USERS/");
+    assertEquals(Arrays.asList("users/1"), index.findPrefixesOf("users/12"));
+    index.remove("companies/");
+    index.remove("users/1");
+    assertEquals(Collections.emptyList(), index.findPrefixesOf("users/12"));
+    assertTrue(index.isEmpty());
+
+    index.add("users/");
+    assertFalse(index.isEmpty());
+    assertEquals(Arrays.asList("users/"), index.findPrefixesOf("users/12"));
+  }
+}
@@ -0,0 +1,300 @@
+package net.ravendb.client.changes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.ravendb.abstractions.closure.Action1;
+import net.ravendb.abstractions.closure.Action0;
+import net.ravendb.abstractions.closure.Function1;
+import net.ravendb.abstractions.closure.Predicates;
+
+import org.junit.After;
+import org.junit.Test;
+
+
+public class QueuedObserverTest {
+
+  private final AtomicInteger dispatcherThreads = new AtomicInteger();
+  private final ExecutorService dispatcher = Executors.newFixedThreadPool(2, new ThreadFactory() {
+    @Override
+    public Thread newThread(Runnable r) {
+      dispatcherThreads.incrementAndGet();
+      Thread thread = new Thread(r);
+      thread.setDaemon(true);
+      return thread;
+    }
+  });
+
+  @After
+  public void shutdown() {
+    dispatcher.shutdownNow();
+  }
+
+  /**
+   * Records notifications; processing of the first one waits until released.
+   */
+  private static class BlockingObserver implements IObserver<String> {
+    private final List<String> received = Collections.synchronizedList(new ArrayList<String>());
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch completed = new CountDownLatch(1);
+    private Exception error;
+
+    @Override
+    public void onNext(String value) {
+      started.countDown();
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+      received.add(value);
+    }
+
+    @Override
+    public void onError(Exception error) {
+      this.error = error;
+    }
+
+    @Override
+    public void onCompleted() {
+      completed.countDown();
+    }
+  }
+
+  private static final Function1<String, String> FIRST_LETTER = new Function1<String, String>() {
+    @Override
+    public String apply(String value) {
+      return value.substring(0, 1);
+    }
+  };
+
+  private static final Action1<QueuedObserver<String>> NO_OP = new Action1<QueuedObserver<String>>() {
+    @Override
+    public void apply(QueuedObserver<String> observer) {
+      // nothing to do
+    }
+  };
+
+  private QueuedObserver<String> startBlocked(BlockingObserver observer, int capacity, ChangesOverflowPolicy policy) throws Exception {
+    QueuedObserver<String> queued = new QueuedObserver<>(observer, capacity, policy, FIRST_LETTER, dispatcher, NO_OP);
+    queued.onNext("x0");
+    assertTrue(observer.started.await(10, TimeUnit.SECONDS));
+    return queued;
+  }
+
+  private static void finish(BlockingObserver observer, QueuedObserver<String> queued) throws Exception {
+    observer.release.countDown();
+    queued.onCompleted();
+    assertTrue(observer.completed.await(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void dropsOldestWhenFull() throws Exception {
+    BlockingObserver observer = new BlockingObserver();
+    QueuedObserver<String> queued = startBlocked(observer, 2, ChangesOverflowPolicy.DROP_OLDEST);
+
+    queued.onNext("a1");
+    queued.onNext("b1");
+    queued.onNext("c1");
+    queued.onNext("d1");
+    queued.onError(new IllegalStateException("Connection lost"));
+    assertEquals(2, queued.getQueueSize());
+    assertEquals(2, queued.getDroppedCount());
+    assertTrue(queued.getLag() >= 0);
+
+    finish(observer, queued);
+    assertEquals(Arrays.asList("x0", "c1", "d1"), observer.received);
+    assertEquals("Connection lost", observer.error.getMessage());
+    assertEquals(3, queued.getDeliveredCount());
+  }
+
+  @Test
+  public void coalescesByKey() throws Exception {
+    BlockingObserver observer = new BlockingObserver();
+    QueuedObserver<String> queued = startBlocked(observer, 2, ChangesOverflowPolicy.COALESCE);
+
+    queued.onNext("a1");
+    queued.onNext("b1");
+    queued.onNext("a2");
+    queued.onNext("a3");
+    assertEquals(2, queued.getCoalescedCount());
+    assertEquals(0, queued.getDroppedCount());
+
+    finish(observer, queued);
+    assertEquals(Arrays.asList("x0", "a3", "b1"), observer.received);
+  }
+
+  @Test
+  public void blocksWhenFull() throws Exception {
+    BlockingObserver observer = new BlockingObserver();
+    final QueuedObserver<String> queued = startBlocked(observer, 1, ChangesOverflowPolicy.BLOCK);
+    queued.onNext("a1");
+
+    final AtomicBoolean sent = new AtomicBoolean();
+    Thread producer = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        queued.onNext("b1");
+        sent.set(true);
+      }
+    });
+    producer.start();
+    producer.join(200);
+    assertFalse("Producer should wait for free space in the queue", sent.get());
+
+    observer.release.countDown();
+    producer.join(10000);
+    assertTrue(sent.get());
+    finish(observer, queued);
+    assertEquals(Arrays.asList("x0", "a1", "b1"), observer.received);
+  }
+
+  @Test
+  public void closeDiscardsQueueAndUnsubscribes() throws Exception {
+    BlockingObserver observer = new BlockingObserver();
+    final List<QueuedObserver<String>> closed = new ArrayList<>();
+    QueuedObserver<String> queued = new QueuedObserver<>(observer, 10, ChangesOverflowPolicy.DROP_OLDEST, null, dispatcher, new Action1<QueuedObserver<String>>() {
+      @Override
+      public void apply(QueuedObserver<String> observer) {
+        closed.add(observer);
+      }
+    });
+    queued.onNext("x0");
+    assertTrue(observer.started.await(10, TimeUnit.SECONDS));
+    queued.onNext("a1");
+
+    queued.close();
+    queued.close();
+    queued.onNext("b1");
+    observer.release.countDown();
+
+    assertEquals(Arrays.asList(queued), closed);
+    assertEquals(0, queued.getQueueSize());
+  }
+
+  @Test
+  public void subscriptionsShareDispatcherThreads() throws Exception {
+    final CountDownLatch received = new CountDownLatch(50 * 10);
+    List<QueuedObserver<String>> subscriptions = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      final List<String> values = Collections.synchronizedList(new ArrayList<String>());
+      subscriptions.add(new QueuedObserver<>(new ObserverAdapter<String>() {
+        @Override
+        public void onNext(String value) {
+          assertEquals(String.valueOf(values.size()), value);
+          values.add(value);
+          received.countDown();
+        }
+      }, 100, ChangesOverflowPolicy.BLOCK, null, dispatcher, NO_OP));
+    }
+    for (int n = 0; n < 10; n++) {
+      for (QueuedObserver<String> subscription : subscriptions) {
+        subscription.onNext(String.valueOf(n));
+      }
+    }
+    assertTrue(received.await(10, TimeUnit.SECONDS));
+    assertTrue(dispatcherThreads.get() <= 2);
+  }
+
+  @Test
+  public void slowObserversDontStarveOthers() throws Exception {
+    List<QueuedObserver<String>> slowSubscriptions = new ArrayList<>();
+    // more slow subscriptions than dispatcher threads, each with a few seconds of work
+    for (int i = 0; i < 4; i++) {
+      slowSubscriptions.add(new QueuedObserver<>(new ObserverAdapter<String>() {
+        @Override
+        public void onNext(String value) {
+          try {
+            Thread.sleep(5);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }, 1000, ChangesOverflowPolicy.BLOCK, null, dispatcher, NO_OP));
+    }
+    for (int n = 0; n < 500; n++) {
+      for (QueuedObserver<String> subscription : slowSubscriptions) {
+        subscription.onNext(String.valueOf(n));
+      }
+    }
+
+    final CountDownLatch received = new CountDownLatch(1);
+    QueuedObserver<String> fast = new QueuedObserver<>(new ObserverAdapter<String>() {
+      @Override
+      public void onNext(String value) {
+        received.countDown();
+      }
+    }, 10, ChangesOverflowPolicy.BLOCK, null, dispatcher, NO_OP);
+    fast.onNext("a1");
+
+    assertTrue("Fast observer should get notification before slow queues are drained", received.await(1500, TimeUnit.MILLISECONDS));
+    for (QueuedObserver<String> subscription : slowSubscriptions) {
+      subscription.close();
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void observerErrorClosesSubscription() throws Exception {
+    final CountDownLatch unsubscribed = new CountDownLatch(1);
+    final CountDownLatch failed = new CountDownLatch(1);
+    QueuedObserver<String> queued = new QueuedObserver<>(new ObserverAdapter<String>() {
+      @Override
+      public void onNext(String value) {
+        failed.countDown();
+        throw new AssertionError("Broken observer");
+      }
+    }, 1, ChangesOverflowPolicy.BLOCK, null, dispatcher, new Action1<QueuedObserver<String>>() {
+      @Override
+      public void apply(QueuedObserver<String> observer) {
+        unsubscribed.countDown();
+      }
+    });
+
+    queued.onNext("a1");
+    assertTrue(failed.await(10, TimeUnit.SECONDS));
+    // producer must not wait for the queue which is never drained
+    for (int i = 0; i < 10; i++) {
+      queued.onNext("b" + i);
+    }
+    assertTrue(unsubscribed.await(10, TimeUnit.SECONDS));
+    assertEquals(0, queued.getQueueSize());
+  }
+
+  @Test
+  public void completesQueuedSubscriptions() throws Exception {
+    final AtomicBoolean zero = new AtomicBoolean();
+    DatabaseConnectionState counter = new DatabaseConnectionState(new Action0() {
+      @Override
+      public void apply() {
+        zero.set(true);
+      }
+    });
+    TaskedObservable<String, DatabaseConnectionState> observable = new TaskedObservable<>(counter, Predicates.<String> alwaysTrue());
+    observable.setDispatchQueue(dispatcher, 10, ChangesOverflowPolicy.DROP_OLDEST, null);
+    BlockingObserver observer = new BlockingObserver();
+    observer.release.countDown();
+    observable.subscribe(observer);
+
+    observable.send("a1");
+    observable.complete();
+    observable.send("b1");
+
+    assertTrue(observer.completed.await(10, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("a1"), observer.received);
+    assertFalse(zero.get());
+  }
+}
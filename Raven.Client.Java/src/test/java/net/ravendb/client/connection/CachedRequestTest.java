@@ -0,0 +1,59 @@
+package net.ravendb.client.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+import java.util.HashMap;
+
+import net.ravendb.abstractions.json.linq.RavenJArray;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJToken;
+import net.ravendb.abstractions.json.linq.RavenJValue;
+
+import org.junit.Test;
+
+
+public class CachedRequestTest {
+
+  private static RavenJObject sampleData() {
+    RavenJObject data = new RavenJObject();
+    data.add("Name", new RavenJValue("Oren"));
+    data.add("Age", new RavenJValue(30));
+    data.add("Tags", new RavenJArray(new RavenJValue("a"), new RavenJValue("b")));
+    return data;
+  }
+
+  @Test
+  public void canKeepDataSerialized() {
+    assertRoundTrip(false, false);
+    assertRoundTrip(false, true);
+    assertRoundTrip(true, false);
+    assertRoundTrip(true, true);
+  }
+
+  private void assertRoundTrip(boolean offHeap, boolean compress) {
+    RavenJObject data = sampleData();
+    CachedRequest cachedRequest = new CachedRequest(null, new Date(), new HashMap<String, String>(), "db1", false);
+    cachedRequest.setSerializedData(data, offHeap, compress);
+
+    assertEquals(offHeap, cachedRequest.getSerializedData().isDirect());
+
+    RavenJToken first = cachedRequest.cloneData();
+    RavenJToken second = cachedRequest.cloneData();
+    assertTrue(RavenJToken.deepEquals(data, first));
+    assertTrue(RavenJToken.deepEquals(data, second));
+    assertNotSame(first, second);
+  }
+
+  @Test
+  public void settingDataDropsSerializedForm() {
+    CachedRequest cachedRequest = new CachedRequest(null, new Date(), new HashMap<String, String>(), "db1", false);
+    cachedRequest.setSerializedData(sampleData(), false, true);
+    cachedRequest.setData(sampleData());
+    assertNull(cachedRequest.getSerializedData());
+    assertTrue(RavenJToken.deepEquals(sampleData(), cachedRequest.cloneData()));
+  }
+}
@@ -0,0 +1,87 @@
+package net.ravendb.client.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import net.ravendb.client.connection.implementation.HttpJsonRequestFactory;
+import net.ravendb.client.document.Convention;
+import net.ravendb.client.util.ConnectionPoolStatistics;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+
+public class ConnectionPoolOptionsTest {
+
+  @Test
+  public void poolIsConfiguredAndReportsStatistics() throws Exception {
+    HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", new HttpHandler() {
+      @Override
+      public void handle(HttpExchange exchange) throws IOException {
+        byte[] body = "{}".getBytes("UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+          os.write(body);
+        }
+      }
+    });
+    server.start();
+
+    ConnectionPoolOptions options = new ConnectionPoolOptions();
+    options.setMaxTotal(50);
+    options.setMaxPerRoute(25);
+    options.setMaxIdleTime(60000);
+
+    String url = "http://127.0.0.1:" + server.getAddress().getPort();
+    try (HttpJsonRequestFactory factory = new HttpJsonRequestFactory(10, 1024 * 1024, true, options)) {
+      assertEquals(50, factory.getConnectionPoolStatistics().getMax());
+      assertEquals(25, factory.getConnectionPoolStatistics(url).getMax());
+
+      try (CloseableHttpResponse response = factory.getHttpClient().execute(new HttpGet(url + "/docs"))) {
+        assertEquals(1, factory.getConnectionPoolStatistics(url).getLeased());
+        EntityUtils.consume(response.getEntity());
+      }
+
+      ConnectionPoolStatistics statistics = factory.getConnectionPoolStatistics(url);
+      assertEquals(0, statistics.getLeased());
+      assertEquals(0, statistics.getPending());
+      assertEquals(1, statistics.getAvailable());
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  public void evictionThreadIsCreatedByConventions() throws Exception {
+    final CountDownLatch created = new CountDownLatch(1);
+    Convention conventions = new Convention();
+    conventions.setThreadFactory(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        created.countDown();
+        return new Thread(r);
+      }
+    });
+
+    ConnectionPoolOptions options = new ConnectionPoolOptions();
+    options.setMaxIdleTime(60000);
+    options.setEvictionInterval(10);
+    try (HttpJsonRequestFactory factory = new HttpJsonRequestFactory(10, 1024 * 1024, true, options, conventions)) {
+      assertTrue(created.await(5, TimeUnit.SECONDS));
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package net.ravendb.client.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import net.ravendb.abstractions.basic.Reference;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.client.connection.implementation.HttpJsonRequestFactory;
+import net.ravendb.client.document.DocumentConvention;
+import net.ravendb.client.document.JsonSerializer;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.entity.BasicHttpEntity;
+import org.codehaus.jackson.JsonFactory;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
+import org.junit.Test;
+
+
+public class RavenJObjectIteratorTest {
+
+  public static class Person {
+    private String name;
+    private Address address;
+
+    public String getName() {
+      return name;
+    }
+    public void setName(String name) {
+      this.name = name;
+    }
+    public Address getAddress() {
+      return address;
+    }
+    public void setAddress(Address address) {
+      this.address = address;
+    }
+  }
+
+  public static class Address {
+    private String city;
+
+    public String getCity() {
+      return city;
+    }
+    public void setCity(String city) {
+      this.city = city;
+    }
+  }
+
+  private static final String RESULTS = "[" +
+    "{\"Name\":\"John\",\"@metadata\":{\"@id\":\"people/1\",\"@etag\":\"01000000-0000-0001-0000-000000000001\"},\"Address\":{\"City\":\"Torun\",\"@metadata\":{}}}," +
+    "{\"@metadata\":{\"@id\":\"people/2\"},\"Name\":\"Jane\"}," +
+    "{\"Name\":\"Bob\",\"__document_id\":\"people/3\"}" +
+    "]";
+
+  private static RavenJObjectIterator createIterator(String json) throws Exception {
+    return createIterator(json, -1, null, new AtomicBoolean());
+  }
+
+  private static RavenJObjectIterator createIterator(String json, long maxBytesToDrain, HttpJsonRequestFactory factory,
+    final AtomicBoolean responseClosed) throws Exception {
+    final BasicHttpEntity entity = new BasicHttpEntity();
+    entity.setContent(new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+    CloseableHttpResponse response = (CloseableHttpResponse) Proxy.newProxyInstance(RavenJObjectIteratorTest.class.getClassLoader(),
+      new Class<?>[] { CloseableHttpResponse.class }, new InvocationHandler() {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+          if ("getEntity".equals(method.getName())) {
+            return entity;
+          }
+          if ("close".equals(method.getName())) {
+            responseClosed.set(true);
+          }
+          return null;
+        }
+      });
+    JsonParser parser = new JsonFactory().createJsonParser(entity.getContent());
+    assertEquals(JsonToken.START_ARRAY, parser.nextToken());
+    return new RavenJObjectIterator(response, parser, maxBytesToDrain, factory);
+  }
+
+  @Test
+  public void canIterateDocuments() throws Exception {
+    RavenJObjectIterator iterator = createIterator(RESULTS);
+    int count = 0;
+    while (iterator.hasNext()) {
+      RavenJObject document = iterator.next();
+      assertTrue(document.containsKey("Name"));
+      count++;
+    }
+    assertEquals(3, count);
+  }
+
+  @Test
+  public void canBindDocumentsDirectly() throws Exception {
+    JsonSerializer serializer = new DocumentConvention().createSerializer();
+    RavenJObjectIterator iterator = createIterator(RESULTS);
+    Reference<RavenJObject> metadata = new Reference<>();
+    Reference<String> documentId = new Reference<>();
+
+    assertTrue(iterator.hasNext());
+    Person john = iterator.next(serializer, Person.class, metadata, documentId);
+    assertEquals("John", john.getName());
+    assertEquals("Torun", john.getAddress().getCity());
+    assertEquals("people/1", metadata.value.value(String.class, "@id"));
+    assertNull(documentId.value);
+
+    assertTrue(iterator.hasNext());
+    Person jane = iterator.next(serializer, Person.class, metadata, documentId);
+    assertEquals("Jane", jane.getName());
+    assertEquals("people/2", metadata.value.value(String.class, "@id"));
+
+    RavenJObject bob = iterator.next();
+    assertEquals("Bob", bob.value(String.class, "Name"));
+
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void capturesDocumentIdProperty() throws Exception {
+    JsonSerializer serializer = new DocumentConvention().createSerializer();
+    RavenJObjectIterator iterator = createIterator("[{\"Name\":\"Bob\",\"__document_id\":\"people/3\"}]");
+    Reference<RavenJObject> metadata = new Reference<>();
+    Reference<String> documentId = new Reference<>();
+
+    Person bob = iterator.next(serializer, Person.class, metadata, documentId);
+    assertEquals("Bob", bob.getName());
+    assertNull(metadata.value);
+    assertEquals("people/3", documentId.value);
+    assertFalse(iterator.hasNext());
+  }
+
+  private static String manyDocuments(int count) {
+    StringBuilder builder = new StringBuilder("[");
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        builder.append(",");
+      }
+      builder.append("{\"Name\":\"Person ").append(i).append("\"}");
+    }
+    return builder.append("]").toString();
+  }
+
+  @Test
+  public void abortsWhenTooMuchDataRemains() throws Exception {
+    try (HttpJsonRequestFactory factory = new HttpJsonRequestFactory(10)) {
+      AtomicBoolean responseClosed = new AtomicBoolean();
+      RavenJObjectIterator iterator = createIterator(manyDocuments(100000), 1024, factory, responseClosed);
+      iterator.next();
+      iterator.close();
+
+      assertTrue(responseClosed.get());
+      assertEquals(1, factory.getNumOfAbortedStreams());
+      assertEquals(0, factory.getNumOfDrainedStreams());
+    }
+  }
+
+  @Test
+  public void drainsSmallRemainder() throws Exception {
+    try (HttpJsonRequestFactory factory = new HttpJsonRequestFactory(10)) {
+      AtomicBoolean responseClosed = new AtomicBoolean();
+      RavenJObjectIterator iterator = createIterator(manyDocuments(10), 64 * 1024, factory, responseClosed);
+      iterator.next();
+      iterator.close();
+      iterator.close();
+
+      assertFalse(responseClosed.get());
+      assertEquals(0, factory.getNumOfAbortedStreams());
+      assertEquals(1, factory.getNumOfDrainedStreams());
+    }
+  }
+
+  @Test
+  public void completedStreamIsNotCounted() throws Exception {
+    try (HttpJsonRequestFactory factory = new HttpJsonRequestFactory(10)) {
+      RavenJObjectIterator iterator = createIterator(manyDocuments(3), 0, factory, new AtomicBoolean());
+      while (iterator.hasNext()) {
+        iterator.next();
+      }
+      iterator.close();
+
+      assertEquals(0, factory.getNumOfAbortedStreams());
+      assertEquals(0, factory.getNumOfDrainedStreams());
+    }
+  }
+}
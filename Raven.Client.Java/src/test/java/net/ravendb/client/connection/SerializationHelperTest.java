@@ -0,0 +1,73 @@
+package net.ravendb.client.connection;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import net.ravendb.abstractions.data.QueryResult;
+import net.ravendb.abstractions.json.linq.RavenJArray;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJValue;
+
+import org.junit.Test;
+
+
+public class SerializationHelperTest {
+
+  private static RavenJObject queryResponse() {
+    RavenJObject json = new RavenJObject();
+    json.add("IsStale", new RavenJValue(false));
+    json.add("IndexEtag", new RavenJValue("01000000-0000-0001-0000-000000000005"));
+    json.add("Includes", new RavenJArray());
+    json.add("TotalResults", new RavenJValue(2));
+    json.add("IndexName", new RavenJValue("Raven/DocumentsByEntityName"));
+    json.add("SkippedResults", new RavenJValue(0));
+
+    RavenJObject person = new RavenJObject();
+    person.add("Name", new RavenJValue("John"));
+    json.add("Results", new RavenJArray(person, RavenJValue.getNull()));
+
+    RavenJObject timings = new RavenJObject();
+    timings.add("Lucene search", new RavenJValue(12));
+    timings.add("Loading documents", new RavenJValue(1.5));
+    json.add("TimingsInMilliseconds", timings);
+
+    RavenJObject fields = new RavenJObject();
+    fields.add("Name", new RavenJArray(new RavenJValue("<b>John</b>"), new RavenJValue("Johnny")));
+    RavenJObject highlightings = new RavenJObject();
+    highlightings.add("people/1", fields);
+    json.add("Highlightings", highlightings);
+
+    RavenJObject scoreExplanations = new RavenJObject();
+    scoreExplanations.add("people/1", new RavenJValue("0.5 = weight"));
+    json.add("ScoreExplanations", scoreExplanations);
+    return json;
+  }
+
+  @Test
+  public void canReadQueryResult() {
+    QueryResult result = SerializationHelper.toQueryResult(queryResponse(), null, null, 100);
+
+    assertEquals(2, result.getTotalResults());
+    assertEquals(2, result.getResults().size());
+    assertNull(result.getResults().get(1));
+    assertEquals(12.0, result.getTimingsInMilliseconds().get("Lucene search"), 0.0001);
+    assertEquals(1.5, result.getTimingsInMilliseconds().get("Loading documents"), 0.0001);
+    assertArrayEquals(new String[] { "<b>John</b>", "Johnny" }, result.getHighlightings().get("people/1").get("Name"));
+    assertEquals("0.5 = weight", result.getScoreExplanations().get("people/1"));
+  }
+
+  @Test
+  public void missingSectionsAreEmpty() {
+    RavenJObject json = queryResponse();
+    json.remove("TimingsInMilliseconds");
+    json.remove("Highlightings");
+    json.remove("ScoreExplanations");
+
+    QueryResult result = SerializationHelper.toQueryResult(json, null, null, 100);
+    assertTrue(result.getTimingsInMilliseconds().isEmpty());
+    assertTrue(result.getHighlightings().isEmpty());
+    assertTrue(result.getScoreExplanations().isEmpty());
+  }
+}
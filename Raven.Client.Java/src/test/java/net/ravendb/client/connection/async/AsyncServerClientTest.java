@@ -0,0 +1,93 @@
+package net.ravendb.client.connection.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import net.ravendb.abstractions.basic.CompletionFuture;
+import net.ravendb.abstractions.closure.Action1;
+import net.ravendb.abstractions.data.JsonDocument;
+import net.ravendb.client.connection.IDatabaseCommands;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class AsyncServerClientTest {
+
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void runsCommandsOnExecutor() throws Exception {
+    final JsonDocument document = mock(JsonDocument.class);
+    IDatabaseCommands commands = mock(IDatabaseCommands.class);
+    when(commands.get("people/1")).thenReturn(document);
+
+    IAsyncDatabaseCommands asyncCommands = new AsyncServerClient(commands, executor);
+    CompletionFuture<JsonDocument> future = asyncCommands.getAsync("people/1");
+
+    final CountDownLatch latch = new CountDownLatch(1);
+    final AtomicReference<JsonDocument> continuationResult = new AtomicReference<>();
+    future.whenComplete(new Action1<CompletionFuture<JsonDocument>>() {
+      @Override
+      public void apply(CompletionFuture<JsonDocument> first) {
+        continuationResult.set(first.join());
+        latch.countDown();
+      }
+    });
+
+    assertSame(document, future.get(5, TimeUnit.SECONDS));
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertSame(document, continuationResult.get());
+  }
+
+  @Test
+  public void joinRethrowsCommandException() {
+    IDatabaseCommands commands = mock(IDatabaseCommands.class);
+    when(commands.get("people/1")).thenThrow(new IllegalStateException("Server is down"));
+
+    CompletionFuture<JsonDocument> future = new AsyncServerClient(commands, executor).getAsync("people/1");
+    try {
+      future.join();
+      fail();
+    } catch (IllegalStateException e) {
+      assertEquals("Server is down", e.getMessage());
+    }
+  }
+
+  @Test
+  public void continuationOfCompletedFutureRunsImmediately() {
+    IDatabaseCommands commands = mock(IDatabaseCommands.class);
+    CompletionFuture<JsonDocument> future = new AsyncServerClient(commands, executor).getAsync("people/2");
+    future.join();
+
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+    future.whenComplete(new Action1<CompletionFuture<JsonDocument>>() {
+      @Override
+      public void apply(CompletionFuture<JsonDocument> first) {
+        thread.set(Thread.currentThread());
+      }
+    });
+    assertSame(Thread.currentThread(), thread.get());
+  }
+}
@@ -0,0 +1,67 @@
+package net.ravendb.client.connection.profiling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import net.ravendb.abstractions.json.linq.RavenJArray;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJToken;
+import net.ravendb.abstractions.json.linq.RavenJValue;
+
+import org.junit.Test;
+
+
+public class RequestResultArgsTest {
+  @Test
+  public void resultIsNotAffectedByChangesOfSnapshot() {
+    RavenJObject token = new RavenJObject();
+    token.add("Name", "Ayende");
+
+    RequestResultArgs args = new RequestResultArgs();
+    args.setResult(token);
+    RavenJObject snapshot = token.createSnapshot();
+    snapshot.add("Age", 30);
+
+    assertTrue(token.isSnapshot());
+    assertEquals(RavenJObject.parse("{\"Name\":\"Ayende\"}").toString(), args.getResult());
+  }
+
+  @Test
+  public void totalSizeIsEstimatedWithoutBuildingResult() {
+    RavenJObject token = new RavenJObject() {
+      @Override
+      public String toString() {
+        throw new AssertionError("Result should not be converted to string");
+      }
+    };
+    token.add("Name", "Ayende");
+    token.add("Age", 30);
+    RavenJArray tags = new RavenJArray();
+    tags.add(new RavenJValue("a"));
+    tags.add(new RavenJValue("b"));
+    token.add("Tags", tags);
+
+    RequestResultArgs args = new RequestResultArgs();
+    args.setUrl("/docs");
+    args.setResult(token);
+
+    int resultLength = "{\"Name\":\"Ayende\",\"Age\":30,\"Tags\":[\"a\",\"b\"]}".length();
+    int size = args.getTotalSize() - "/docs".length();
+    assertTrue(size >= resultLength && size <= resultLength + 5);
+  }
+
+  @Test
+  public void resultCanBeSetAsString() {
+    RequestResultArgs args = new RequestResultArgs();
+    args.setResult(RavenJObject.parse("{\"Name\":\"Ayende\"}"));
+    args.setResult("plain");
+    assertEquals("plain", args.getResult());
+
+    args.setResult((String) null);
+    assertNull(args.getResult());
+
+    args.setResult((RavenJToken) null);
+    assertEquals("", args.getResult());
+  }
+}
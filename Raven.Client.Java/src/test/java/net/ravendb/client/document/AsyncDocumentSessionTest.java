@@ -0,0 +1,136 @@
+package net.ravendb.client.document;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import net.ravendb.abstractions.basic.CompletionFuture;
+import net.ravendb.client.IDocumentSession;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+
+public class AsyncDocumentSessionTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @After
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void runsOperationsInCallOrder() throws Exception {
+    IDocumentSession session = mock(IDocumentSession.class);
+    final AtomicBoolean first = new AtomicBoolean(true);
+    // first task handed to executor starts late, so tasks submitted after it could overtake it
+    Executor delayingExecutor = new Executor() {
+      @Override
+      public void execute(final Runnable command) {
+        final boolean delay = first.getAndSet(false);
+        executor.execute(new Runnable() {
+          @Override
+          public void run() {
+            if (delay) {
+              try {
+                Thread.sleep(200);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            }
+            command.run();
+          }
+        });
+      }
+    };
+
+    AsyncDocumentSession asyncSession = new AsyncDocumentSession(session, delayingExecutor);
+    Object stored = new Object();
+    asyncSession.storeAsync(stored);
+    asyncSession.delete("companies/1");
+    CompletionFuture<Void> saved = asyncSession.saveChangesAsync();
+    saved.join();
+
+    InOrder inOrder = inOrder(session);
+    inOrder.verify(session).store(stored);
+    inOrder.verify(session).delete("companies/1");
+    inOrder.verify(session).saveChanges();
+  }
+
+  @Test
+  public void failedOperationDoesNotStopQueue() throws Exception {
+    IDocumentSession session = mock(IDocumentSession.class);
+    doThrow(new IllegalStateException("Not tracked")).when(session).delete("companies/1");
+
+    AsyncDocumentSession asyncSession = new AsyncDocumentSession(session, executor);
+    CompletionFuture<Void> deleted = asyncSession.delete("companies/1");
+    asyncSession.saveChangesAsync().join();
+
+    try {
+      deleted.join();
+      fail("Delete should fail");
+    } catch (IllegalStateException e) {
+      assertEquals("Not tracked", e.getMessage());
+    }
+    InOrder inOrder = inOrder(session);
+    inOrder.verify(session).delete("companies/1");
+    inOrder.verify(session).saveChanges();
+  }
+
+  @Test
+  public void closesSessionAfterQueuedOperations() throws Exception {
+    IDocumentSession session = mock(IDocumentSession.class);
+    final CountDownLatch release = new CountDownLatch(1);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws Throwable {
+        release.await();
+        return null;
+      }
+    }).when(session).saveChanges();
+    final CountDownLatch closed = new CountDownLatch(1);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws Throwable {
+        closed.countDown();
+        return null;
+      }
+    }).when(session).close();
+
+    AsyncDocumentSession asyncSession = new AsyncDocumentSession(session, executor);
+    CompletionFuture<Void> saved = asyncSession.saveChangesAsync();
+    asyncSession.close();
+    verify(session, never()).close();
+
+    try {
+      asyncSession.saveChangesAsync();
+      fail("Operation after close should fail");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+
+    release.countDown();
+    saved.join();
+    assertTrue(closed.await(1, TimeUnit.SECONDS));
+    InOrder inOrder = inOrder(session);
+    inOrder.verify(session).saveChanges();
+    inOrder.verify(session).close();
+  }
+}
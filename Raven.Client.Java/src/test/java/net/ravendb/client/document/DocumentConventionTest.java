@@ -0,0 +1,94 @@
+package net.ravendb.client.document;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.ravendb.client.delegates.JavaClassResolver;
+
+import org.junit.Test;
+
+
+public class DocumentConventionTest {
+
+  private static void assertUnresolved(DocumentConvention convention, String className) {
+    try {
+      convention.resolveJavaClass(className);
+      fail("Expected ClassNotFoundException for " + className);
+    } catch (ClassNotFoundException e) {
+      assertEquals(className, e.getMessage());
+    }
+  }
+
+  @Test
+  public void resolvesJavaClassOnce() throws Exception {
+    DocumentConvention convention = new DocumentConvention();
+    final AtomicInteger lookups = new AtomicInteger();
+    final JavaClassResolver defaultResolver = convention.getResolveJavaClass();
+    convention.setResolveJavaClass(new JavaClassResolver() {
+      @Override
+      public Class< ? > resolve(String className) throws ClassNotFoundException {
+        lookups.incrementAndGet();
+        return defaultResolver.resolve(className);
+      }
+    });
+
+    assertSame(DocumentConventionTest.class, convention.resolveJavaClass(DocumentConventionTest.class.getName()));
+    assertSame(DocumentConventionTest.class, convention.resolveJavaClass(DocumentConventionTest.class.getName()));
+    assertEquals(1, lookups.get());
+
+    assertUnresolved(convention, "net.ravendb.NoSuchClass");
+    assertUnresolved(convention, "net.ravendb.NoSuchClass");
+    assertEquals(2, lookups.get());
+
+    convention.clearJavaClassCache();
+    assertUnresolved(convention, "net.ravendb.NoSuchClass");
+    assertEquals(3, lookups.get());
+  }
+
+  @Test
+  public void changingResolverClearsCache() throws Exception {
+    DocumentConvention convention = new DocumentConvention();
+    assertUnresolved(convention, "people.Person");
+
+    convention.setResolveJavaClass(new JavaClassResolver() {
+      @Override
+      public Class< ? > resolve(String className) {
+        return "people.Person".equals(className) ? DocumentConventionTest.class : null;
+      }
+    });
+    assertSame(DocumentConventionTest.class, convention.resolveJavaClass("people.Person"));
+    assertUnresolved(convention, "people.Company");
+  }
+
+  @Test
+  public void backgroundThreadsUseThreadFactory() {
+    DocumentConvention convention = new DocumentConvention();
+    Runnable runnable = new Runnable() {
+      @Override
+      public void run() {
+        // nothing to do
+      }
+    };
+    assertEquals("Subscription pulling thread", convention.newThread(runnable, "Subscription pulling thread").getName());
+
+    final AtomicInteger created = new AtomicInteger();
+    convention.setThreadFactory(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        created.incrementAndGet();
+        Thread thread = new Thread(r);
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    Thread thread = convention.newThread(runnable, "ObservableLineStream");
+    assertEquals(1, created.get());
+    assertEquals("ObservableLineStream", thread.getName());
+    assertTrue(thread.isDaemon());
+  }
+}
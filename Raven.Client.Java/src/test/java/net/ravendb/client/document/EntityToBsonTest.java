@@ -0,0 +1,206 @@
+package net.ravendb.client.document;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import net.ravendb.abstractions.data.Constants;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJToken;
+import net.ravendb.abstractions.json.linq.RavenJValue;
+import net.ravendb.client.IDocumentStore;
+import net.ravendb.client.delegates.IdentityPropertyFinder;
+
+import org.codehaus.jackson.JsonGenerator;
+import org.junit.Test;
+
+import de.undercouch.bson4jackson.BsonFactory;
+
+
+public class EntityToBsonTest {
+
+  public static class Address {
+    private String id;
+    private String city;
+    private List<String> lines;
+
+    public String getId() {
+      return id;
+    }
+    public void setId(String id) {
+      this.id = id;
+    }
+    public String getCity() {
+      return city;
+    }
+    public void setCity(String city) {
+      this.city = city;
+    }
+    public List<String> getLines() {
+      return lines;
+    }
+    public void setLines(List<String> lines) {
+      this.lines = lines;
+    }
+  }
+
+  public static class Company {
+    private String name;
+    private Address address;
+    private String id;
+    private int employees;
+    private Date founded;
+    private Object extra;
+
+    public String getName() {
+      return name;
+    }
+    public void setName(String name) {
+      this.name = name;
+    }
+    public Address getAddress() {
+      return address;
+    }
+    public void setAddress(Address address) {
+      this.address = address;
+    }
+    public String getId() {
+      return id;
+    }
+    public void setId(String id) {
+      this.id = id;
+    }
+    public int getEmployees() {
+      return employees;
+    }
+    public void setEmployees(int employees) {
+      this.employees = employees;
+    }
+    public Date getFounded() {
+      return founded;
+    }
+    public void setFounded(Date founded) {
+      this.founded = founded;
+    }
+    public Object getExtra() {
+      return extra;
+    }
+    public void setExtra(Object extra) {
+      this.extra = extra;
+    }
+  }
+
+  public static class Order {
+    private Address Id;
+    private String customer;
+
+    public Address getId() {
+      return Id;
+    }
+    public void setId(Address id) {
+      Id = id;
+    }
+    public String getCustomer() {
+      return customer;
+    }
+    public void setCustomer(String customer) {
+      this.customer = customer;
+    }
+  }
+
+  private static RavenJObject decode(byte[] bson) throws Exception {
+    return RavenJObject.load(new BsonFactory().createJsonParser(bson));
+  }
+
+  private static void assertSameDocument(byte[] expected, byte[] actual) throws Exception {
+    RavenJObject expectedDocument = decode(expected);
+    RavenJObject actualDocument = decode(actual);
+    assertTrue(expectedDocument + " != " + actualDocument, RavenJToken.deepEquals(expectedDocument, actualDocument));
+  }
+
+  private static RavenJObject metadata() {
+    RavenJObject metadata = new RavenJObject();
+    metadata.add(Constants.RAVEN_ENTITY_NAME, new RavenJValue("Companies"));
+    metadata.add("@id", new RavenJValue("companies/1"));
+    return metadata;
+  }
+
+  private static byte[] encodeTree(DocumentConvention conventions, Object entity) throws Exception {
+    IDocumentStore store = mock(IDocumentStore.class);
+    when(store.getConventions()).thenReturn(conventions);
+    RavenJObject metadata = metadata();
+    RavenJObject data = new EntityToJson(store, new DocumentSessionListeners()).convertEntityToJson("companies/1", entity, metadata);
+    data.add(Constants.METADATA, metadata);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (JsonGenerator generator = new BsonFactory().createJsonGenerator(output)) {
+      data.writeTo(generator);
+    }
+    return output.toByteArray();
+  }
+
+  @Test
+  public void producesSameDocumentAsJsonConversion() throws Exception {
+    Address address = new Address();
+    address.setId("addresses/1");
+    address.setCity("Torun");
+    address.setLines(Arrays.asList("Street 1", "Flat 2"));
+
+    Company company = new Company();
+    company.setName("Acme");
+    company.setAddress(address);
+    company.setId("companies/1");
+    company.setEmployees(42);
+    company.setFounded(new Date(1400000000000L));
+    company.setExtra(address);
+
+    DocumentConvention conventions = new DocumentConvention();
+    RavenJObject metadata = metadata();
+    byte[] direct = new EntityToBson(conventions).convertEntityToBson(company, metadata);
+
+    assertSameDocument(encodeTree(conventions, company), direct);
+    assertEquals(conventions.getJavaClassName(Company.class), metadata.value(String.class, Constants.RAVEN_JAVA_CLASS));
+  }
+
+  @Test
+  public void writesNullsAndMissingCollections() throws Exception {
+    Address address = new Address();
+    address.setCity("Torun");
+
+    DocumentConvention conventions = new DocumentConvention();
+    byte[] direct = new EntityToBson(conventions).convertEntityToBson(address, metadata());
+
+    assertSameDocument(encodeTree(conventions, address), direct);
+  }
+
+  @Test
+  public void skipsIdentityProperty() throws Exception {
+    Address address = new Address();
+    address.setCity("Torun");
+    address.setLines(Arrays.asList("Street 1"));
+    Order order = new Order();
+    order.setId(address);
+    order.setCustomer("customers/1");
+
+    DocumentConvention conventions = new DocumentConvention();
+    conventions.setFindIdentityProperty(new IdentityPropertyFinder() {
+      @Override
+      public Boolean find(Field input) {
+        return input.getName().equals("Id");
+      }
+    });
+    RavenJObject document = decode(new EntityToBson(conventions).convertEntityToBson(order, metadata()));
+
+    assertSameDocument(encodeTree(conventions, order), new EntityToBson(conventions).convertEntityToBson(order, metadata()));
+    assertFalse(document.containsKey("Id"));
+    assertEquals("customers/1", document.value(String.class, "Customer"));
+  }
+}
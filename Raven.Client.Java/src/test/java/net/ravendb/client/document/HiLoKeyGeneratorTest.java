@@ -0,0 +1,243 @@
+package net.ravendb.client.document;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.ravendb.abstractions.closure.Function1;
+import net.ravendb.abstractions.data.Constants;
+import net.ravendb.abstractions.data.Etag;
+import net.ravendb.abstractions.data.MultiLoadResult;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJValue;
+import net.ravendb.client.connection.IDatabaseCommands;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+
+public class HiLoKeyGeneratorTest {
+
+  /**
+   * Keeps HiLo document in memory. Every fetched range releases one permit of fetchedRanges.
+   */
+  private static class HiLoServer {
+    private final AtomicLong max = new AtomicLong();
+    private final AtomicInteger gets = new AtomicInteger();
+    private final Semaphore fetchedRanges = new Semaphore(0);
+    private int failingGet = -1;
+
+    public IDatabaseCommands commands() {
+      return commands(new AtomicInteger());
+    }
+
+    /**
+     * Commands of the server which count gets done through them.
+     */
+    public IDatabaseCommands commands(final AtomicInteger commandsGets) {
+      IDatabaseCommands commands = mock(IDatabaseCommands.class);
+      when(commands.get(any(String[].class), any(String[].class))).thenAnswer(new Answer<MultiLoadResult>() {
+        @Override
+        public MultiLoadResult answer(InvocationOnMock invocation) throws Throwable {
+          commandsGets.incrementAndGet();
+          if (gets.incrementAndGet() == failingGet) {
+            throw new IllegalStateException("Server unavailable");
+          }
+          MultiLoadResult result = new MultiLoadResult();
+          List<RavenJObject> results = new ArrayList<>();
+          if (max.get() > 0) {
+            RavenJObject metadata = new RavenJObject();
+            metadata.add("@id", new RavenJValue("Raven/Hilo/companies"));
+            RavenJObject document = new RavenJObject();
+            document.add("Max", new RavenJValue(max.get()));
+            document.add("@metadata", metadata);
+            results.add(document);
+          } else {
+            results.add(null);
+          }
+          results.add(null);
+          result.setResults(results);
+          return result;
+        }
+      });
+      when(commands.put(anyString(), any(Etag.class), any(RavenJObject.class), any(RavenJObject.class))).thenAnswer(new Answer<Object>() {
+        @Override
+        public Object answer(InvocationOnMock invocation) throws Throwable {
+          RavenJObject data = (RavenJObject) invocation.getArguments()[2];
+          max.set(data.value(Long.class, "Max"));
+          fetchedRanges.release();
+          return null;
+        }
+      });
+      return commands;
+    }
+  }
+
+  public static class Company {
+    // marker only
+  }
+
+  public static class Order {
+    // marker only
+  }
+
+  private static HiLoKeyGenerator createGenerator(IDatabaseCommands prefetchCommands) {
+    HiLoKeyGenerator generator = new HiLoKeyGenerator("companies", 10, prefetchCommands);
+    generator.setDisableCapacityChanges(true);
+    return generator;
+  }
+
+  private static List<String> generate(HiLoKeyGenerator generator, IDatabaseCommands commands, DocumentConvention conventions, int count) {
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      keys.add(generator.generateDocumentKey(commands, conventions, new Object()));
+    }
+    return keys;
+  }
+
+  @Test
+  public void prefetchesNextRangeAfterWatermark() throws Exception {
+    HiLoServer server = new HiLoServer();
+    IDatabaseCommands commands = server.commands();
+    DocumentConvention conventions = new DocumentConvention();
+    conventions.setHiLoPrefetchWatermark(0.7);
+    HiLoKeyGenerator generator = createGenerator(commands);
+
+    List<String> keys = generate(generator, commands, conventions, 6);
+    assertEquals(1, server.fetchedRanges.availablePermits());
+
+    keys.addAll(generate(generator, commands, conventions, 1));
+    assertTrue("Next range should be fetched in background", server.fetchedRanges.tryAcquire(2, 10, TimeUnit.SECONDS));
+    assertEquals(20, server.max.get());
+
+    keys.addAll(generate(generator, commands, conventions, 4));
+    assertEquals("companies/11", keys.get(10));
+    assertEquals(2, server.gets.get());
+  }
+
+  @Test
+  public void prefetchUsesOwnCommands() throws Exception {
+    HiLoServer server = new HiLoServer();
+    AtomicInteger sessionGets = new AtomicInteger();
+    AtomicInteger prefetchGets = new AtomicInteger();
+    IDatabaseCommands sessionCommands = server.commands(sessionGets);
+    DocumentConvention conventions = new DocumentConvention();
+    conventions.setHiLoPrefetchWatermark(0.7);
+    HiLoKeyGenerator generator = createGenerator(server.commands(prefetchGets));
+
+    generate(generator, sessionCommands, conventions, 7);
+    assertTrue(server.fetchedRanges.tryAcquire(2, 10, TimeUnit.SECONDS));
+    assertEquals(1, sessionGets.get());
+    assertEquals(1, prefetchGets.get());
+  }
+
+  @Test
+  public void doesNotPrefetchWithoutOwnCommands() throws Exception {
+    HiLoServer server = new HiLoServer();
+    IDatabaseCommands commands = server.commands();
+    DocumentConvention conventions = new DocumentConvention();
+    conventions.setHiLoPrefetchWatermark(0.7);
+    HiLoKeyGenerator generator = createGenerator(null);
+
+    List<String> keys = generate(generator, commands, conventions, 11);
+    assertEquals(2, server.gets.get());
+    assertEquals("companies/11", keys.get(10));
+  }
+
+  @Test
+  public void generatesContinuousKeys() throws Exception {
+    HiLoServer server = new HiLoServer();
+    IDatabaseCommands commands = server.commands();
+    DocumentConvention conventions = new DocumentConvention();
+    conventions.setHiLoPrefetchWatermark(0.5);
+    HiLoKeyGenerator generator = createGenerator(commands);
+
+    List<String> keys = generate(generator, commands, conventions, 35);
+    for (int i = 0; i < keys.size(); i++) {
+      assertEquals("companies/" + (i + 1), keys.get(i));
+    }
+  }
+
+  @Test
+  public void fetchesRangeWhenExhaustedWithoutWatermark() throws Exception {
+    HiLoServer server = new HiLoServer();
+    IDatabaseCommands commands = server.commands();
+    HiLoKeyGenerator generator = createGenerator(commands);
+
+    List<String> keys = generate(generator, commands, new DocumentConvention(), 10);
+    assertEquals(1, server.gets.get());
+    keys.addAll(generate(generator, commands, new DocumentConvention(), 1));
+    assertEquals(2, server.gets.get());
+    assertEquals("companies/11", keys.get(10));
+  }
+
+  @Test
+  public void fetchesRangeSynchronouslyWhenPrefetchFailed() throws Exception {
+    HiLoServer server = new HiLoServer();
+    server.failingGet = 2;
+    IDatabaseCommands commands = server.commands();
+    DocumentConvention conventions = new DocumentConvention();
+    conventions.setHiLoPrefetchWatermark(0.7);
+    HiLoKeyGenerator generator = createGenerator(commands);
+
+    List<String> keys = generate(generator, commands, conventions, 12);
+    assertEquals(Arrays.asList("companies/10", "companies/11", "companies/12"), keys.subList(9, 12));
+    assertEquals(3, server.gets.get());
+  }
+
+  @Test
+  public void tracksMetrics() throws Exception {
+    HiLoServer server = new HiLoServer();
+    IDatabaseCommands commands = server.commands();
+    HiLoKeyGenerator generator = createGenerator(commands);
+
+    generate(generator, commands, new DocumentConvention(), 25);
+    assertEquals(3, generator.getRangesFetched());
+    assertEquals(10, generator.getCapacity());
+    assertTrue(generator.getWaitTime() >= 0);
+  }
+
+  @Test
+  public void multiTypeGeneratorKeepsGeneratorPerTag() throws Exception {
+    HiLoServer server = new HiLoServer();
+    IDatabaseCommands commands = server.commands();
+    DocumentConvention conventions = new DocumentConvention();
+    final List<String> prefetchDatabases = new ArrayList<>();
+    MultiDatabaseHiLoGenerator generator = new MultiDatabaseHiLoGenerator(10, new Function1<String, IDatabaseCommands>() {
+      @Override
+      public IDatabaseCommands apply(String dbName) {
+        prefetchDatabases.add(dbName);
+        return mock(IDatabaseCommands.class);
+      }
+    });
+
+    generator.generateDocumentKey(null, commands, conventions, new Company());
+    generator.generateDocumentKey(null, commands, conventions, new Order());
+    generator.generateDocumentKey(null, commands, conventions, new Company());
+    generator.generateDocumentKey("Northwind", commands, conventions, new Company());
+
+    assertEquals(2, generator.getGenerators().size());
+    Map<String, HiLoKeyGenerator> generators = generator.getGenerators().get(Constants.SYSTEM_DATABASE).getGenerators();
+    assertEquals(2, generators.size());
+    long ranges = 0;
+    for (HiLoKeyGenerator typeGenerator : generators.values()) {
+      ranges += typeGenerator.getRangesFetched();
+    }
+    assertEquals(2, ranges);
+    // each type generator gets its own prefetch commands
+    assertEquals(Arrays.asList(null, null, "Northwind"), prefetchDatabases);
+  }
+}
@@ -0,0 +1,67 @@
+package net.ravendb.client.document;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.Version;
+import org.codehaus.jackson.map.SerializerProvider;
+import org.codehaus.jackson.map.module.SimpleModule;
+import org.junit.Test;
+
+
+public class JsonSerializerTest {
+
+  public static class Money {
+    private final String currency;
+    private final double amount;
+
+    public Money(String currency, double amount) {
+      this.currency = currency;
+      this.amount = amount;
+    }
+
+    public String getCurrency() {
+      return currency;
+    }
+
+    public double getAmount() {
+      return amount;
+    }
+  }
+
+  private static SimpleModule moneyModule() {
+    SimpleModule module = new SimpleModule("moneyModule", new Version(1, 0, 0, null));
+    module.addSerializer(Money.class, new org.codehaus.jackson.map.JsonSerializer<Money>() {
+      @Override
+      public void serialize(Money value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+        jgen.writeString(value.getCurrency() + value.getAmount());
+      }
+    });
+    return module;
+  }
+
+  @Test
+  public void registeredModuleAffectsOnlyItsConvention() {
+    DocumentConvention withModule = new DocumentConvention();
+    DocumentConvention withoutModule = new DocumentConvention();
+    Money money = new Money("$", 50.5);
+
+    withModule.createSerializer().registerModule(moneyModule());
+
+    assertEquals("\"$50.5\"", withModule.createSerializer().serializeAsString(money));
+    assertEquals("{\"Currency\":\"$\",\"Amount\":50.5}", withoutModule.createSerializer().serializeAsString(money));
+    assertEquals("{\"Currency\":\"$\",\"Amount\":50.5}", new JsonSerializer().serializeAsString(money));
+  }
+
+  @SuppressWarnings("deprecation")
+  @Test
+  public void configIsKeptForCompatibility() {
+    DocumentConvention convention = new DocumentConvention();
+    JsonSerializer serializer = convention.createSerializer();
+    serializer.config();
+    convention.setSaveEnumsAsIntegers(true);
+    assertEquals("1", serializer.serializeAsString(Thread.State.RUNNABLE));
+  }
+}
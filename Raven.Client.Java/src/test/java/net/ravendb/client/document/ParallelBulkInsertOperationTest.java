@@ -0,0 +1,143 @@
+package net.ravendb.client.document;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import net.ravendb.abstractions.closure.Action1;
+import net.ravendb.abstractions.data.BulkInsertOptions;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.client.IDocumentStore;
+import net.ravendb.client.changes.IDatabaseChanges;
+import net.ravendb.client.connection.IDatabaseCommands;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+
+public class ParallelBulkInsertOperationTest {
+
+  private static List<ILowLevelBulkInsertOperation> mockOperations(int count) {
+    List<ILowLevelBulkInsertOperation> operations = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      ILowLevelBulkInsertOperation operation = mock(ILowLevelBulkInsertOperation.class);
+      when(operation.getOperationId()).thenReturn(UUID.randomUUID());
+      operations.add(operation);
+    }
+    return operations;
+  }
+
+  @Test
+  public void distributesDocumentsById() throws Exception {
+    List<ILowLevelBulkInsertOperation> operations = mockOperations(4);
+    ParallelBulkInsertOperation parallel = new ParallelBulkInsertOperation(operations);
+
+    for (int i = 0; i < 100; i++) {
+      parallel.write("people/" + i, new RavenJObject(), new RavenJObject());
+    }
+    parallel.write("people/7", new RavenJObject(), new RavenJObject());
+
+    int total = 0;
+    for (ILowLevelBulkInsertOperation operation : operations) {
+      ArgumentCaptor<String> ids = ArgumentCaptor.forClass(String.class);
+      verify(operation, atLeast(0)).write(ids.capture(), any(RavenJObject.class), any(RavenJObject.class), (Integer) any());
+      assertFalse("Every operation should receive documents", ids.getAllValues().isEmpty());
+      total += ids.getAllValues().size();
+      if (ids.getAllValues().contains("people/7")) {
+        verify(operation, times(2)).write(eq("people/7"), any(RavenJObject.class), any(RavenJObject.class), (Integer) any());
+      }
+    }
+    assertEquals(101, total);
+    assertEquals(operations.get(0).getOperationId(), parallel.getOperationId());
+    assertEquals(4, parallel.getOperationIds().size());
+  }
+
+  @Test
+  public void closesAllOperationsAndRethrowsFirstError() throws Exception {
+    List<ILowLevelBulkInsertOperation> operations = mockOperations(3);
+    doThrow(new IllegalStateException("Broken")).when(operations.get(1)).close();
+    ParallelBulkInsertOperation parallel = new ParallelBulkInsertOperation(operations);
+
+    try {
+      parallel.close();
+      fail("Expected close to fail");
+    } catch (IllegalStateException e) {
+      assertEquals("Broken", e.getMessage());
+    }
+    for (ILowLevelBulkInsertOperation operation : operations) {
+      verify(operation).close();
+    }
+  }
+
+  @Test
+  public void reportsWithOperationPrefix() throws Exception {
+    List<ILowLevelBulkInsertOperation> operations = mockOperations(2);
+    ParallelBulkInsertOperation parallel = new ParallelBulkInsertOperation(operations);
+    final List<String> messages = new ArrayList<>();
+    parallel.setReport(new Action1<String>() {
+      @Override
+      public void apply(String message) {
+        messages.add(message);
+      }
+    });
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Action1<String>> innerReport = (ArgumentCaptor<Action1<String>>) (ArgumentCaptor<?>) ArgumentCaptor.forClass(Action1.class);
+    verify(operations.get(1)).setReport(innerReport.capture());
+    innerReport.getValue().apply("Wrote 10 documents");
+
+    assertEquals(Arrays.asList("[2/2] Wrote 10 documents"), messages);
+  }
+
+  @Test
+  public void abortsAllOperations() throws Exception {
+    List<ILowLevelBulkInsertOperation> operations = mockOperations(2);
+    when(operations.get(1).isAborted()).thenReturn(true);
+    ParallelBulkInsertOperation parallel = new ParallelBulkInsertOperation(operations);
+
+    assertTrue(parallel.isAborted());
+    parallel.abort();
+    verify(operations.get(0)).abort();
+    verify(operations.get(1)).abort();
+    verify(operations.get(0), times(0)).write(anyString(), any(RavenJObject.class), any(RavenJObject.class));
+  }
+
+  @Test
+  public void bulkInsertReturnsIdsOfAllOperations() throws Exception {
+    List<ILowLevelBulkInsertOperation> operations = mockOperations(3);
+    IDatabaseCommands commands = mock(IDatabaseCommands.class);
+    when(commands.getBulkInsertOperation(any(BulkInsertOptions.class), any(IDatabaseChanges.class)))
+      .thenReturn(operations.get(0), operations.get(1), operations.get(2));
+    IDatabaseCommands storeCommands = mock(IDatabaseCommands.class);
+    when(storeCommands.forDatabase("Northwind")).thenReturn(commands);
+    IDocumentStore store = mock(IDocumentStore.class);
+    when(store.getDatabaseCommands()).thenReturn(storeCommands);
+    when(store.getConventions()).thenReturn(new DocumentConvention());
+
+    BulkInsertOptions options = new BulkInsertOptions();
+    options.setParallelOperations(3);
+    BulkInsertOperation bulkInsert = new BulkInsertOperation("Northwind", store, new DocumentSessionListeners(), options, mock(IDatabaseChanges.class));
+
+    List<UUID> expected = new ArrayList<>();
+    for (ILowLevelBulkInsertOperation operation : operations) {
+      expected.add(operation.getOperationId());
+    }
+    assertEquals(expected, bulkInsert.getOperationIds());
+    assertEquals(expected.get(0), bulkInsert.getOperationId());
+  }
+}
@@ -0,0 +1,194 @@
+package net.ravendb.client.document;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.ravendb.abstractions.basic.CloseableIterator;
+import net.ravendb.abstractions.closure.Function1;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJValue;
+
+import org.junit.After;
+import org.junit.Test;
+
+
+public class ParallelStreamIteratorTest {
+
+  private final ExecutorService deserializers = Executors.newFixedThreadPool(4);
+
+  @After
+  public void shutdown() {
+    deserializers.shutdownNow();
+  }
+
+  private static class CountingIterator implements CloseableIterator<RavenJObject> {
+    private final int count;
+    private final int failAt;
+    private Error error;
+    private RuntimeException closeError;
+    private final AtomicInteger read = new AtomicInteger();
+    private final CountDownLatch closed = new CountDownLatch(1);
+
+    public CountingIterator(int count, int failAt) {
+      this.count = count;
+      this.failAt = failAt;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return read.get() < count;
+    }
+
+    @Override
+    public RavenJObject next() {
+      int number = read.getAndIncrement();
+      if (number == failAt) {
+        if (error != null) {
+          throw error;
+        }
+        throw new IllegalStateException("Broken stream");
+      }
+      RavenJObject document = new RavenJObject();
+      document.add("Number", new RavenJValue(number));
+      return document;
+    }
+
+    @Override
+    public void close() {
+      closed.countDown();
+      if (closeError != null) {
+        throw closeError;
+      }
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static final Function1<RavenJObject, Integer> SLOW_CONVERTER = new Function1<RavenJObject, Integer>() {
+    @Override
+    public Integer apply(RavenJObject input) {
+      int number = input.value(Integer.class, "Number");
+      try {
+        Thread.sleep(number % 3);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return number;
+    }
+  };
+
+  @Test
+  public void returnsResultsInStreamOrder() throws Exception {
+    CountingIterator inner = new CountingIterator(200, -1);
+    try (ParallelStreamIterator<Integer> iterator = new ParallelStreamIterator<>(inner, SLOW_CONVERTER, 16, deserializers, new DocumentConvention())) {
+      int expected = 0;
+      while (iterator.hasNext()) {
+        assertEquals(expected++, iterator.next().intValue());
+      }
+      assertEquals(200, expected);
+    }
+    assertTrue(inner.closed.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void readerStopsWhenReadAheadIsFull() throws Exception {
+    CountingIterator inner = new CountingIterator(1000, -1);
+    try (ParallelStreamIterator<Integer> iterator = new ParallelStreamIterator<>(inner, SLOW_CONVERTER, 10, deserializers, new DocumentConvention())) {
+      assertEquals(0, iterator.next().intValue());
+      Thread.sleep(200);
+      assertTrue(inner.read.get() <= 12);
+    }
+    assertTrue(inner.closed.await(5, TimeUnit.SECONDS));
+    assertTrue(inner.read.get() < 1000);
+  }
+
+  @Test
+  public void propagatesReadErrorAfterPreviousResults() throws Exception {
+    CountingIterator inner = new CountingIterator(10, 5);
+    try (ParallelStreamIterator<Integer> iterator = new ParallelStreamIterator<>(inner, SLOW_CONVERTER, 4, deserializers, new DocumentConvention())) {
+      for (int i = 0; i < 5; i++) {
+        assertEquals(i, iterator.next().intValue());
+      }
+      try {
+        iterator.next();
+        fail("Expected read error");
+      } catch (IllegalStateException e) {
+        assertEquals("Broken stream", e.getMessage());
+      }
+      assertFalse(iterator.hasNext());
+    }
+    assertTrue(inner.closed.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void propagatesConversionError() throws Exception {
+    Function1<RavenJObject, Integer> converter = new Function1<RavenJObject, Integer>() {
+      @Override
+      public Integer apply(RavenJObject input) {
+        int number = input.value(Integer.class, "Number");
+        if (number == 2) {
+          throw new IllegalArgumentException("Cannot convert");
+        }
+        return number;
+      }
+    };
+    try (ParallelStreamIterator<Integer> iterator = new ParallelStreamIterator<>(new CountingIterator(5, -1), converter, 4, deserializers, new DocumentConvention())) {
+      assertEquals(0, iterator.next().intValue());
+      assertEquals(1, iterator.next().intValue());
+      try {
+        iterator.next();
+        fail("Expected conversion error");
+      } catch (IllegalArgumentException e) {
+        assertEquals("Cannot convert", e.getMessage());
+      }
+      assertEquals(3, iterator.next().intValue());
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void propagatesReadErrorWhichIsNotException() throws Exception {
+    CountingIterator inner = new CountingIterator(10, 3);
+    inner.error = new StackOverflowError("Too deep");
+    try (ParallelStreamIterator<Integer> iterator = new ParallelStreamIterator<>(inner, SLOW_CONVERTER, 4, deserializers, new DocumentConvention())) {
+      for (int i = 0; i < 3; i++) {
+        assertEquals(i, iterator.next().intValue());
+      }
+      try {
+        iterator.next();
+        fail("Expected read error");
+      } catch (StackOverflowError e) {
+        assertEquals("Too deep", e.getMessage());
+      }
+      assertFalse(iterator.hasNext());
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void propagatesCloseError() throws Exception {
+    CountingIterator inner = new CountingIterator(3, -1);
+    inner.closeError = new IllegalStateException("Cannot close");
+    try (ParallelStreamIterator<Integer> iterator = new ParallelStreamIterator<>(inner, SLOW_CONVERTER, 4, deserializers, new DocumentConvention())) {
+      for (int i = 0; i < 3; i++) {
+        assertEquals(i, iterator.next().intValue());
+      }
+      try {
+        iterator.next();
+        fail("Expected close error");
+      } catch (IllegalStateException e) {
+        assertEquals("Cannot close", e.getMessage());
+      }
+      assertFalse(iterator.hasNext());
+    }
+  }
+}
@@ -0,0 +1,219 @@
+package net.ravendb.client.document;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import net.ravendb.abstractions.data.BulkInsertChangeNotification;
+import net.ravendb.abstractions.data.BulkInsertOptions;
+import net.ravendb.abstractions.data.HttpMethods;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.client.changes.IDatabaseChanges;
+import net.ravendb.client.changes.IObservable;
+import net.ravendb.client.connection.ServerClient;
+import net.ravendb.client.connection.implementation.HttpJsonRequest;
+import net.ravendb.client.document.RemoteBulkInsertOperation.BulkInsertEntity;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.StatusLine;
+import org.codehaus.jackson.JsonGenerator;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import de.undercouch.bson4jackson.BsonFactory;
+
+
+public class RemoteBulkInsertOperationTest {
+
+  /**
+   * Document which is slow (or fails) to encode, so encoders complete batches out of order.
+   */
+  private static class SlowDocument extends RavenJObject {
+    private final long delay;
+    private final boolean fail;
+
+    public SlowDocument(long delay, boolean fail) {
+      this.delay = delay;
+      this.fail = fail;
+    }
+
+    @Override
+    public void writeTo(JsonGenerator writer) {
+      try {
+        Thread.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (fail) {
+        throw new IllegalStateException("Cannot encode");
+      }
+      super.writeTo(writer);
+    }
+  }
+
+  /**
+   * Server which captures request body instead of sending it.
+   */
+  private static class CapturingServer {
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    public ServerClient client() throws Exception {
+      ServerClient client = mock(ServerClient.class);
+      when(client.getConvention()).thenReturn(new DocumentConvention());
+
+      HttpJsonRequest tokenRequest = mock(HttpJsonRequest.class);
+      when(tokenRequest.readResponseJson()).thenReturn(RavenJObject.parse("{\"Token\":\"token\"}"));
+      when(client.createRequest(eq(HttpMethods.GET), eq("/singleAuthToken"), anyBoolean(), anyBoolean(), (Long) any())).thenReturn(tokenRequest);
+
+      HttpJsonRequest operationRequest = mock(HttpJsonRequest.class);
+      when(client.createRequest(eq(HttpMethods.POST), startsWith("/bulkInsert"), anyBoolean(), anyBoolean(), (Long) any())).thenReturn(operationRequest);
+      when(operationRequest.executeRawRequest(any(BulkInsertEntity.class))).thenAnswer(new Answer<HttpResponse>() {
+        @Override
+        public HttpResponse answer(InvocationOnMock invocation) throws Throwable {
+          ((BulkInsertEntity) invocation.getArguments()[0]).writeTo(body);
+          return operationResponse();
+        }
+      });
+      return client;
+    }
+
+    private static HttpResponse operationResponse() throws IOException {
+      StatusLine statusLine = mock(StatusLine.class);
+      when(statusLine.getStatusCode()).thenReturn(200);
+      HttpEntity entity = mock(HttpEntity.class);
+      when(entity.getContent()).thenReturn(new ByteArrayInputStream("{\"OperationId\":1}".getBytes("UTF-8")));
+      HttpResponse response = mock(HttpResponse.class);
+      when(response.getStatusLine()).thenReturn(statusLine);
+      when(response.getEntity()).thenReturn(entity);
+      return response;
+    }
+
+    /**
+     * Decodes frames of the request body, returns documents of each frame.
+     */
+    public List<List<RavenJObject>> frames() throws IOException {
+      List<List<RavenJObject>> frames = new ArrayList<>();
+      ByteBuffer buffer = ByteBuffer.wrap(body.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+      while (buffer.hasRemaining()) {
+        byte[] frame = new byte[buffer.getInt()];
+        buffer.get(frame);
+        try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(frame))) {
+          DataInputStream data = new DataInputStream(input);
+          int count = Integer.reverseBytes(data.readInt());
+          List<RavenJObject> documents = new ArrayList<>();
+          for (int i = 0; i < count; i++) {
+            int size = Integer.reverseBytes(data.readInt());
+            byte[] bson = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN).putInt(size).array();
+            data.readFully(bson, 4, size - 4);
+            documents.add(RavenJObject.load(new BsonFactory().createJsonParser(bson)));
+          }
+          frames.add(documents);
+        }
+      }
+      return frames;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static IDatabaseChanges changes() {
+    IDatabaseChanges changes = mock(IDatabaseChanges.class);
+    IObservable<BulkInsertChangeNotification> observable = mock(IObservable.class);
+    when(changes.forBulkInsert(any(UUID.class))).thenReturn(observable);
+    return changes;
+  }
+
+  private static BulkInsertOptions options(int batchSize, int encodingThreads) {
+    BulkInsertOptions options = new BulkInsertOptions();
+    options.setBatchSize(batchSize);
+    options.setEncodingThreads(encodingThreads);
+    return options;
+  }
+
+  private static RavenJObject document(int number, long delay) {
+    RavenJObject document = new SlowDocument(delay, false);
+    document.add("Number", number);
+    return document;
+  }
+
+  @Test
+  public void writesFramesInSubmitOrder() throws Exception {
+    CapturingServer server = new CapturingServer();
+    RemoteBulkInsertOperation operation = new RemoteBulkInsertOperation(options(5, 4), server.client(), changes());
+
+    for (int i = 0; i < 100; i++) {
+      // early documents of every few batches are slow, so later batches are encoded first
+      operation.write("items/" + i, new RavenJObject(), document(i, i % 20 < 5 ? 20 : 0));
+    }
+    operation.close();
+
+    int expected = 0;
+    List<List<RavenJObject>> frames = server.frames();
+    assertTrue(frames.size() >= 100 / 5);
+    for (List<RavenJObject> frame : frames) {
+      assertTrue(frame.size() <= 5);
+      for (RavenJObject document : frame) {
+        assertEquals(expected++, document.value(Integer.class, "Number").intValue());
+      }
+    }
+    assertEquals(100, expected);
+  }
+
+  @Test
+  public void drainsPendingBatchesAtEndOfQueue() throws Exception {
+    CapturingServer server = new CapturingServer();
+    RemoteBulkInsertOperation operation = new RemoteBulkInsertOperation(options(2, 2), server.client(), changes());
+
+    for (int i = 0; i < 12; i++) {
+      // all batches are still being encoded when queue is finished
+      operation.write("items/" + i, new RavenJObject(), document(i, 50));
+    }
+    operation.close();
+
+    int written = 0;
+    for (List<RavenJObject> frame : server.frames()) {
+      for (RavenJObject document : frame) {
+        assertEquals(written++, document.value(Integer.class, "Number").intValue());
+      }
+    }
+    assertEquals(12, written);
+  }
+
+  @Test
+  public void propagatesEncoderException() throws Exception {
+    CapturingServer server = new CapturingServer();
+    RemoteBulkInsertOperation operation = new RemoteBulkInsertOperation(options(2, 2), server.client(), changes());
+
+    for (int i = 0; i < 4; i++) {
+      operation.write("items/" + i, new RavenJObject(), document(i, 0));
+    }
+    operation.write("items/broken", new RavenJObject(), new SlowDocument(0, true));
+
+    try {
+      operation.close();
+      fail("Expected encoder exception");
+    } catch (RuntimeException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+      assertEquals("Cannot encode", e.getCause().getMessage());
+    }
+  }
+}
@@ -0,0 +1,259 @@
+package net.ravendb.client.document;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.ravendb.abstractions.basic.CloseableIterator;
+import net.ravendb.abstractions.basic.Reference;
+import net.ravendb.abstractions.closure.Action1;
+import net.ravendb.abstractions.data.Etag;
+import net.ravendb.abstractions.data.JsonDocument;
+import net.ravendb.abstractions.data.UuidType;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJValue;
+import net.ravendb.client.connection.IDatabaseCommands;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+
+public class ResumableDocumentExportTest {
+
+  private static final String PRIMARY = "http://primary:8080";
+  private static final String SECONDARY = "http://secondary:8080";
+
+  private static Etag etag(int number) {
+    return new Etag(UuidType.DOCUMENTS, 1, number);
+  }
+
+  private static RavenJObject document(int number) {
+    RavenJObject metadata = new RavenJObject();
+    metadata.add("@id", new RavenJValue("docs/" + number));
+    metadata.add("@etag", new RavenJValue(etag(number).toString()));
+    RavenJObject document = new RavenJObject();
+    document.add("Number", new RavenJValue(number));
+    document.add("@metadata", metadata);
+    return document;
+  }
+
+  /**
+   * Returns documents from..to (inclusive), then fails if failAfterEnd is set.
+   */
+  private static CloseableIterator<RavenJObject> stream(final int from, final int to, final boolean failAfterEnd) {
+    return new CloseableIterator<RavenJObject>() {
+      private int next = from;
+
+      @Override
+      public boolean hasNext() {
+        if (next > to && failAfterEnd) {
+          throw new RuntimeException("Connection reset");
+        }
+        return next <= to;
+      }
+
+      @Override
+      public RavenJObject next() {
+        return document(next++);
+      }
+
+      @Override
+      public void close() {
+        // nothing to release
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  /**
+   * Returns stream as if it was sent by server with given url.
+   */
+  private static Answer<CloseableIterator<RavenJObject>> from(final String url, final CloseableIterator<RavenJObject> stream) {
+    return new Answer<CloseableIterator<RavenJObject>>() {
+      @SuppressWarnings("unchecked")
+      @Override
+      public CloseableIterator<RavenJObject> answer(InvocationOnMock invocation) throws Throwable {
+        ((Reference<String>) invocation.getArguments()[1]).value = url;
+        return stream;
+      }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Reference<String> anyUrl() {
+    return any(Reference.class);
+  }
+
+  private static String checkpoint(File file) throws Exception {
+    return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+  }
+
+  private static class CollectingSink implements Action1<List<JsonDocument>> {
+    private final List<String> keys = new ArrayList<>();
+    private int batches;
+
+    @Override
+    public void apply(List<JsonDocument> batch) {
+      batches++;
+      for (JsonDocument document : batch) {
+        keys.add(document.getKey());
+      }
+    }
+  }
+
+  private static DocumentExportOptions options(int batchSize) {
+    DocumentExportOptions options = new DocumentExportOptions();
+    options.setBatchSize(batchSize);
+    options.setRetryDelay(0);
+    return options;
+  }
+
+  @Test
+  public void resumesAfterLastDeliveredBatch() throws Exception {
+    IDatabaseCommands commands = mock(IDatabaseCommands.class);
+    when(commands.streamDocs(eq(Etag.empty()), anyUrl())).thenAnswer(from(PRIMARY, stream(1, 5, true)));
+    when(commands.streamDocs(eq(etag(4)), anyUrl())).thenAnswer(from(PRIMARY, stream(5, 7, false)));
+
+    File checkpointFile = File.createTempFile("export", ".etag");
+    checkpointFile.delete();
+    try {
+      DocumentExportOptions options = options(2);
+      options.setCheckpointFile(checkpointFile);
+      CollectingSink sink = new CollectingSink();
+
+      Etag lastEtag = new ResumableDocumentExport(commands, options).export(null, sink);
+
+      assertEquals(etag(7), lastEtag);
+      assertEquals(4, sink.batches);
+      assertEquals(7, sink.keys.size());
+      for (int i = 0; i < 7; i++) {
+        assertEquals("docs/" + (i + 1), sink.keys.get(i));
+      }
+      assertEquals(etag(7) + "\n" + PRIMARY, checkpoint(checkpointFile));
+    } finally {
+      checkpointFile.delete();
+    }
+  }
+
+  @Test
+  public void startsFromCheckpoint() throws Exception {
+    IDatabaseCommands commands = mock(IDatabaseCommands.class);
+    when(commands.streamDocs(eq(etag(3)), anyUrl())).thenAnswer(from(PRIMARY, stream(4, 5, false)));
+
+    File checkpointFile = File.createTempFile("export", ".etag");
+    try {
+      Files.write(checkpointFile.toPath(), etag(3).toString().getBytes(StandardCharsets.UTF_8));
+      DocumentExportOptions options = options(10);
+      options.setCheckpointFile(checkpointFile);
+      CollectingSink sink = new CollectingSink();
+
+      new ResumableDocumentExport(commands, options).export(etag(1), sink);
+
+      assertEquals(2, sink.keys.size());
+      assertEquals("docs/4", sink.keys.get(0));
+    } finally {
+      checkpointFile.delete();
+    }
+  }
+
+  @Test
+  public void restartsFromBeginningWhenOtherServerAnswers() throws Exception {
+    IDatabaseCommands commands = mock(IDatabaseCommands.class);
+    when(commands.streamDocs(eq(Etag.empty()), anyUrl()))
+      .thenAnswer(from(PRIMARY, stream(1, 5, true)))
+      .thenAnswer(from(SECONDARY, stream(1, 3, false)));
+    // primary etag is meaningless on secondary, documents after it would be skipped
+    when(commands.streamDocs(eq(etag(4)), anyUrl())).thenAnswer(from(SECONDARY, stream(5, 7, false)));
+
+    File checkpointFile = File.createTempFile("export", ".etag");
+    checkpointFile.delete();
+    try {
+      DocumentExportOptions options = options(2);
+      options.setCheckpointFile(checkpointFile);
+      CollectingSink sink = new CollectingSink();
+
+      ResumableDocumentExport export = new ResumableDocumentExport(commands, options);
+      Etag lastEtag = export.export(null, sink);
+
+      assertEquals(etag(3), lastEtag);
+      assertEquals(SECONDARY, export.getServerUrl());
+      assertEquals(7, sink.keys.size());
+      assertEquals("docs/4", sink.keys.get(3));
+      assertEquals("docs/1", sink.keys.get(4));
+      assertEquals("docs/3", sink.keys.get(6));
+      assertEquals(etag(3) + "\n" + SECONDARY, checkpoint(checkpointFile));
+    } finally {
+      checkpointFile.delete();
+    }
+  }
+
+  @Test
+  public void checkpointOfOtherServerIsNotUsed() throws Exception {
+    IDatabaseCommands commands = mock(IDatabaseCommands.class);
+    when(commands.streamDocs(eq(etag(3)), anyUrl())).thenAnswer(from(SECONDARY, stream(4, 5, false)));
+    when(commands.streamDocs(eq(Etag.empty()), anyUrl())).thenAnswer(from(SECONDARY, stream(1, 2, false)));
+
+    File checkpointFile = File.createTempFile("export", ".etag");
+    try {
+      Files.write(checkpointFile.toPath(), (etag(3) + "\n" + PRIMARY).getBytes(StandardCharsets.UTF_8));
+      DocumentExportOptions options = options(10);
+      options.setCheckpointFile(checkpointFile);
+      CollectingSink sink = new CollectingSink();
+
+      new ResumableDocumentExport(commands, options).export(null, sink);
+
+      assertEquals(2, sink.keys.size());
+      assertEquals("docs/1", sink.keys.get(0));
+      assertEquals(etag(2) + "\n" + SECONDARY, checkpoint(checkpointFile));
+    } finally {
+      checkpointFile.delete();
+    }
+  }
+
+  @Test
+  public void givesUpAfterMaxRetries() throws Exception {
+    IDatabaseCommands commands = mock(IDatabaseCommands.class);
+    when(commands.streamDocs(eq(Etag.empty()), anyUrl())).thenThrow(new IllegalStateException("Server is down"));
+
+    DocumentExportOptions options = options(10);
+    options.setMaxRetries(2);
+    try {
+      new ResumableDocumentExport(commands, options).export(null, new CollectingSink());
+      fail("Expected export to fail");
+    } catch (IllegalStateException e) {
+      assertEquals("Server is down", e.getMessage());
+    }
+  }
+
+  @Test
+  public void sinkErrorStopsExport() throws Exception {
+    IDatabaseCommands commands = mock(IDatabaseCommands.class);
+    when(commands.streamDocs(eq(Etag.empty()), anyUrl())).thenAnswer(from(PRIMARY, stream(1, 5, false)));
+
+    try {
+      new ResumableDocumentExport(commands, options(2)).export(null, new Action1<List<JsonDocument>>() {
+        @Override
+        public void apply(List<JsonDocument> first) {
+          throw new IllegalArgumentException("Sink failed");
+        }
+      });
+      fail("Expected sink error");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Sink failed", e.getMessage());
+    }
+  }
+}
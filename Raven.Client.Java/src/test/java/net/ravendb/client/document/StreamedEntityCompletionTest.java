@@ -0,0 +1,44 @@
+package net.ravendb.client.document;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.client.document.DocumentStoreTest.Animal;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class StreamedEntityCompletionTest {
+
+  private DocumentStore store;
+  private DocumentSession session;
+
+  @Before
+  public void openSession() {
+    store = new DocumentStore("http://localhost:1");
+    store.initialize();
+    session = (DocumentSession) store.openSession();
+  }
+
+  @After
+  public void close() throws Exception {
+    session.close();
+    store.close();
+  }
+
+  @Test
+  public void streamedDocumentIsNotReplacedByTrackedInstance() {
+    Animal tracked = new Animal();
+    session.store(tracked, "animals/1");
+
+    Animal streamed = new Animal();
+    streamed.setName("Streamed");
+
+    assertSame(streamed, session.completeStreamedDocument("animals/1", streamed, new RavenJObject()));
+    assertEquals(Integer.valueOf(1), streamed.getId());
+    assertSame(tracked, session.completeStreamedEntity("animals/1", new Animal(), new RavenJObject()));
+  }
+}
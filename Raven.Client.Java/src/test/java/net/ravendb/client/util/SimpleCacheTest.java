@@ -0,0 +1,173 @@
+package net.ravendb.client.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+import java.util.HashMap;
+
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.client.connection.CachedRequest;
+
+import org.junit.Test;
+
+
+public class SimpleCacheTest {
+
+  private static CachedRequest request(String database) {
+    return new CachedRequest(new RavenJObject(), new Date(), new HashMap<String, String>(), database, false);
+  }
+
+  @Test
+  public void canGetAndSet() {
+    SimpleCache cache = new SimpleCache(10);
+    assertNull(cache.get("/docs/1"));
+    cache.set("/docs/1", request("db1"));
+    assertNotNull(cache.get("/docs/1"));
+
+    CacheStatistics statistics = cache.getStatistics();
+    assertEquals(1, statistics.getCurrentSize());
+    assertEquals(1, statistics.getHits());
+    assertEquals(1, statistics.getMisses());
+  }
+
+  @Test
+  public void neverExceedsCapacity() {
+    SimpleCache cache = new SimpleCache(100);
+    for (int i = 0; i < 1000; i++) {
+      cache.set("/docs/" + i, request("db1"));
+    }
+    assertTrue(cache.getCurrentSize() <= 100);
+    CacheStatistics statistics = cache.getStatistics();
+    assertEquals(1000, statistics.getCurrentSize() + statistics.getEvictions() + statistics.getRejections());
+  }
+
+  @Test
+  public void frequentlyUsedEntriesSurviveScan() {
+    SimpleCache cache = new SimpleCache(100);
+    for (int i = 0; i < 50; i++) {
+      cache.set("/hot/" + i, request("db1"));
+      for (int j = 0; j < 5; j++) {
+        cache.get("/hot/" + i);
+      }
+    }
+    for (int i = 0; i < 1000; i++) {
+      cache.set("/cold/" + i, request("db1"));
+    }
+    for (int i = 0; i < 50; i++) {
+      assertNotNull(cache.get("/hot/" + i));
+    }
+  }
+
+  @Test
+  public void evictsByWeight() {
+    SimpleCache cache = new SimpleCache(1000, 10000);
+    for (int i = 0; i < 100; i++) {
+      CachedRequest request = request("db1");
+      request.setSize(1000);
+      cache.set("/docs/" + i, request);
+    }
+    assertTrue(cache.getCurrentSizeInBytes() <= 10000);
+    assertTrue(cache.getCurrentSize() <= 10);
+
+    CachedRequest huge = request("db1");
+    huge.setSize(20000);
+    cache.set("/huge", huge);
+    assertNull(cache.get("/huge"));
+  }
+
+  @Test
+  public void forceServerCheckIsAppliedPerDatabase() {
+    SimpleCache cache = new SimpleCache(10);
+    cache.set("/databases/db1/docs/1", request("db1"));
+    cache.set("/databases/db2/docs/1", request("db2"));
+
+    cache.forceServerCheckOfCachedItemsForDatabase("db1");
+
+    assertTrue(cache.get("/databases/db1/docs/1").isForceServerCheck());
+    assertFalse(cache.get("/databases/db2/docs/1").isForceServerCheck());
+
+    cache.set("/databases/db1/docs/2", request("db1"));
+    assertFalse(cache.get("/databases/db1/docs/2").isForceServerCheck());
+  }
+
+  @Test
+  public void updatingCachedEntryKeepsIt() {
+    SimpleCache cache = new SimpleCache(50, 10000);
+    for (int i = 0; i < 20; i++) {
+      CachedRequest request = request("db1");
+      request.setSize(1000);
+      cache.set("/docs/" + i, request);
+      for (int j = 0; j < 3; j++) {
+        cache.get("/docs/" + i);
+      }
+    }
+    for (int i = 0; i < 20; i++) {
+      String key = "/docs/" + i;
+      if (cache.get(key) == null) {
+        continue;
+      }
+      // refreshed response is bigger, so it doesn't fit without evicting other (equally hot) entry
+      CachedRequest refreshed = request("db1");
+      refreshed.setSize(2000);
+      cache.set(key, refreshed);
+      assertSame(refreshed, cache.get(key));
+      assertTrue(cache.getCurrentSizeInBytes() <= 10000);
+    }
+  }
+
+  @Test
+  public void updatingCachedEntryRespectsWeight() {
+    SimpleCache cache = new SimpleCache(1000, 100000);
+    for (int i = 0; i < 50; i++) {
+      CachedRequest request = request("db1");
+      request.setSize(1000);
+      cache.set("/docs/" + i, request);
+    }
+    CachedRequest bigger = request("db1");
+    bigger.setSize(20000);
+    cache.set("/docs/0", bigger);
+
+    assertTrue(cache.getCurrentSizeInBytes() <= 100000);
+  }
+
+  @Test
+  public void rejectedCandidateDoesNotEvict() {
+    SimpleCache cache = new SimpleCache(50, 10000);
+    // main area: cold entry (LRU) followed by hot ones
+    CachedRequest cold = request("db1");
+    cold.setSize(1000);
+    cache.set("/cold", cold);
+    for (int i = 0; i < 8; i++) {
+      CachedRequest request = request("db1");
+      request.setSize(1000);
+      cache.set("/hot/" + i, request);
+      for (int j = 0; j < 5; j++) {
+        cache.get("/hot/" + i);
+      }
+    }
+    int sizeBefore = cache.getCurrentSize();
+    assertNotNull(cache.get("/cold"));
+    for (int i = 0; i < 8; i++) {
+      cache.get("/hot/" + i);
+    }
+
+    // candidate is requested more often than cold entry, but less often than hot ones
+    for (int i = 0; i < 3; i++) {
+      cache.get("/candidate");
+    }
+    // needs two victims: cold one could be evicted, but the next one is used more often than candidate
+    CachedRequest candidate = request("db1");
+    candidate.setSize(2000);
+    cache.set("/candidate", candidate);
+
+    assertNull(cache.get("/candidate"));
+    assertNotNull(cache.get("/cold"));
+    assertEquals(sizeBefore, cache.getCurrentSize());
+    assertEquals(0, cache.getStatistics().getEvictions());
+  }
+}
@@ -0,0 +1,93 @@
+package net.ravendb.java.http.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import net.ravendb.abstractions.closure.Function1;
+import net.ravendb.abstractions.data.GetRequest;
+import net.ravendb.abstractions.json.linq.RavenJArray;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJToken;
+import net.ravendb.abstractions.json.linq.RavenJValue;
+import net.ravendb.imports.json.JsonConvert;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+
+public class JsonHttpEntityTest {
+
+  private static RavenJArray commands() {
+    RavenJArray array = new RavenJArray();
+    for (int i = 0; i < 3; i++) {
+      RavenJObject command = new RavenJObject();
+      command.add("Method", new RavenJValue("PUT"));
+      command.add("Key", new RavenJValue("people/" + i));
+      command.add("Document", new RavenJObject());
+      array.add(command);
+    }
+    return array;
+  }
+
+  @Test
+  public void writesTokenAndIsRepeatable() throws Exception {
+    RavenJArray commands = commands();
+    JsonHttpEntity entity = JsonHttpEntity.forToken(commands);
+    assertTrue(entity.isRepeatable());
+    assertTrue(entity.isChunked());
+
+    for (int i = 0; i < 2; i++) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      entity.writeTo(outputStream);
+      RavenJToken written = RavenJToken.parse(new String(outputStream.toByteArray(), "UTF-8"));
+      assertTrue(RavenJToken.deepEquals(commands, written));
+    }
+  }
+
+  @Test
+  public void canBeCompressed() throws Exception {
+    RavenJArray commands = commands();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    new GzipHttpEntity(JsonHttpEntity.forToken(commands)).writeTo(outputStream);
+
+    String json = IOUtils.toString(new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray())), "UTF-8");
+    assertTrue(RavenJToken.deepEquals(commands, RavenJToken.parse(json)));
+  }
+
+  @Test
+  public void writesArrayConvertingItemsWhileWriting() throws Exception {
+    final RavenJArray commands = commands();
+    final AtomicInteger converted = new AtomicInteger();
+    JsonHttpEntity entity = JsonHttpEntity.forArray(Arrays.asList(0, 1, 2), new Function1<Integer, RavenJToken>() {
+      @Override
+      public RavenJToken apply(Integer index) {
+        converted.incrementAndGet();
+        return commands.get(index);
+      }
+    });
+    assertEquals(0, converted.get());
+
+    for (int i = 0; i < 2; i++) {
+      String json = IOUtils.toString(entity.getContent(), "UTF-8");
+      assertTrue(RavenJToken.deepEquals(commands, RavenJToken.parse(json)));
+    }
+    assertEquals(6, converted.get());
+  }
+
+  @Test
+  public void writesObject() throws Exception {
+    GetRequest request = new GetRequest();
+    request.setUrl("/docs");
+    request.setQuery("id=people/1");
+    GetRequest[] requests = new GetRequest[] { request };
+
+    JsonHttpEntity entity = JsonHttpEntity.forObject(requests, JsonConvert.getObjectWriter());
+    assertEquals(JsonConvert.serializeObject(requests), IOUtils.toString(entity.getContent(), "UTF-8"));
+  }
+}
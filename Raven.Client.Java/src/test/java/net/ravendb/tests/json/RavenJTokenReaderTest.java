@@ -0,0 +1,226 @@
+package net.ravendb.tests.json;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.ravendb.abstractions.json.linq.RavenJArray;
+import net.ravendb.abstractions.json.linq.RavenJObject;
+import net.ravendb.abstractions.json.linq.RavenJToken;
+import net.ravendb.abstractions.json.linq.RavenJTokenReader;
+import net.ravendb.abstractions.json.linq.RavenJValue;
+import net.ravendb.client.document.DocumentConvention;
+import net.ravendb.client.document.JsonSerializer;
+
+import org.codehaus.jackson.JsonFactory;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
+import org.junit.Test;
+
+
+public class RavenJTokenReaderTest {
+
+  public static enum Status {
+    ACTIVE, INACTIVE
+  }
+
+  public static class Item {
+    private String name;
+    private int quantity;
+    private long total;
+    private double price;
+    private BigDecimal discount;
+    private boolean available;
+    private Date created;
+    private byte[] payload;
+    private Status status;
+    private List<String> tags;
+    private Map<String, Integer> counters;
+    private Item child;
+
+    public String getName() {
+      return name;
+    }
+    public void setName(String name) {
+      this.name = name;
+    }
+    public int getQuantity() {
+      return quantity;
+    }
+    public void setQuantity(int quantity) {
+      this.quantity = quantity;
+    }
+    public long getTotal() {
+      return total;
+    }
+    public void setTotal(long total) {
+      this.total = total;
+    }
+    public double getPrice() {
+      return price;
+    }
+    public void setPrice(double price) {
+      this.price = price;
+    }
+    public BigDecimal getDiscount() {
+      return discount;
+    }
+    public void setDiscount(BigDecimal discount) {
+      this.discount = discount;
+    }
+    public boolean isAvailable() {
+      return available;
+    }
+    public void setAvailable(boolean available) {
+      this.available = available;
+    }
+    public Date getCreated() {
+      return created;
+    }
+    public void setCreated(Date created) {
+      this.created = created;
+    }
+    public byte[] getPayload() {
+      return payload;
+    }
+    public void setPayload(byte[] payload) {
+      this.payload = payload;
+    }
+    public Status getStatus() {
+      return status;
+    }
+    public void setStatus(Status status) {
+      this.status = status;
+    }
+    public List<String> getTags() {
+      return tags;
+    }
+    public void setTags(List<String> tags) {
+      this.tags = tags;
+    }
+    public Map<String, Integer> getCounters() {
+      return counters;
+    }
+    public void setCounters(Map<String, Integer> counters) {
+      this.counters = counters;
+    }
+    public Item getChild() {
+      return child;
+    }
+    public void setChild(Item child) {
+      this.child = child;
+    }
+  }
+
+  private static Item sampleItem() {
+    Item child = new Item();
+    child.setName("child");
+    child.setQuantity(-3);
+
+    Item item = new Item();
+    item.setName("parent");
+    item.setQuantity(12);
+    item.setTotal(Long.MAX_VALUE);
+    item.setPrice(12.75);
+    item.setDiscount(new BigDecimal("0.15"));
+    item.setAvailable(true);
+    item.setCreated(new Date(1400000000000L));
+    item.setPayload(new byte[] { 1, 2, 3, 4, 5 });
+    item.setStatus(Status.INACTIVE);
+    item.setTags(Arrays.asList("a", "b", "c"));
+    Map<String, Integer> counters = new HashMap<>();
+    counters.put("x", 1);
+    counters.put("y", 2);
+    item.setCounters(counters);
+    item.setChild(child);
+    return item;
+  }
+
+  @Test
+  public void canBindTreeDirectly() {
+    JsonSerializer serializer = new DocumentConvention().createSerializer();
+    RavenJObject document = RavenJObject.fromObject(sampleItem());
+
+    Item fromTree = serializer.deserialize(document, Item.class);
+    Item fromText = serializer.deserialize(document.toString(), Item.class);
+
+    assertEquals(fromText.getName(), fromTree.getName());
+    assertEquals(fromText.getQuantity(), fromTree.getQuantity());
+    assertEquals(fromText.getTotal(), fromTree.getTotal());
+    assertEquals(fromText.getPrice(), fromTree.getPrice(), 0.0001);
+    assertEquals(fromText.getDiscount(), fromTree.getDiscount());
+    assertEquals(fromText.isAvailable(), fromTree.isAvailable());
+    assertEquals(fromText.getCreated(), fromTree.getCreated());
+    assertArrayEquals(fromText.getPayload(), fromTree.getPayload());
+    assertEquals(fromText.getStatus(), fromTree.getStatus());
+    assertEquals(fromText.getTags(), fromTree.getTags());
+    assertEquals(fromText.getCounters(), fromTree.getCounters());
+    assertEquals(fromText.getChild().getName(), fromTree.getChild().getName());
+    assertEquals(fromText.getChild().getQuantity(), fromTree.getChild().getQuantity());
+    assertNull(fromTree.getChild().getChild());
+  }
+
+  @Test
+  public void canBindTreeToRavenJObject() {
+    RavenJObject document = RavenJObject.fromObject(sampleItem());
+    RavenJObject copy = new DocumentConvention().createSerializer().deserialize(document, RavenJObject.class);
+
+    assertTrue(RavenJToken.deepEquals(document, copy));
+    copy.add("Added", new RavenJValue(true));
+    assertFalse(document.containsKey("Added"));
+  }
+
+  @Test
+  public void emitsSameTokensAsTextParser() throws Exception {
+    RavenJObject document = new RavenJObject();
+    document.add("Name", new RavenJValue("Oren"));
+    document.add("Age", new RavenJValue(30));
+    document.add("Big", new RavenJValue(Long.MAX_VALUE));
+    document.add("Price", new RavenJValue(1.5));
+    document.add("Date", new RavenJValue(new Date(1400000000000L)));
+    document.add("Bytes", new RavenJValue(new byte[] { 1, 2, 3 }));
+    document.add("Empty", new RavenJArray());
+    document.add("Items", new RavenJArray(new RavenJValue(true), new RavenJObject(), RavenJValue.getNull()));
+
+    JsonParser expected = new JsonFactory().createJsonParser(document.toString());
+    JsonParser actual = new RavenJTokenReader(document);
+    JsonToken token;
+    do {
+      token = expected.nextToken();
+      assertEquals(token, actual.nextToken());
+      if (token == null) {
+        break;
+      }
+      assertEquals(expected.getCurrentName(), actual.getCurrentName());
+      assertEquals(expected.getText(), actual.getText());
+      if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+        assertEquals(expected.getNumberType(), actual.getNumberType());
+        assertEquals(expected.getNumberValue(), actual.getNumberValue());
+      }
+    } while (true);
+  }
+
+  @Test
+  public void canSkipChildren() throws Exception {
+    RavenJObject document = new RavenJObject();
+    document.add("Items", new RavenJArray(new RavenJValue(1), new RavenJValue(2)));
+
+    RavenJTokenReader reader = new RavenJTokenReader(document);
+    assertEquals(JsonToken.START_OBJECT, reader.nextToken());
+    assertEquals(JsonToken.FIELD_NAME, reader.nextToken());
+    assertEquals(JsonToken.START_ARRAY, reader.nextToken());
+    reader.skipChildren();
+    assertEquals(JsonToken.END_ARRAY, reader.getCurrentToken());
+    assertEquals(JsonToken.END_OBJECT, reader.nextToken());
+    assertNull(reader.nextToken());
+  }
+}